@@ -2,8 +2,11 @@ package com.FeedEmGreens.HealthyAura.controller;
 
 import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
 import com.FeedEmGreens.HealthyAura.entity.ReviewFlag;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
+import com.FeedEmGreens.HealthyAura.outbox.ReviewActivityStats;
 import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
 import com.FeedEmGreens.HealthyAura.repository.ReviewFlagRepository;
+import com.FeedEmGreens.HealthyAura.service.PhotoDownloadService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,6 +28,8 @@ import java.util.stream.Collectors;
  * <ul>
  *     <li>Viewing and filtering of flagged reviews</li>
  *     <li>Review flag analytics (metrics by status, reason, or keyword)</li>
+ *     <li>Review photo download counters</li>
+ *     <li>Review and points activity, and the state of the event outbox</li>
  *     <li>Retrieval of recent administrative actions</li>
  * </ul>
  *
@@ -52,6 +57,24 @@ public class AdminDashboardController {
     @Autowired
     private AdminActionLogRepository adminActionLogRepository;
 
+    /**
+     * Service serving review photos, which tracks download counters.
+     */
+    @Autowired
+    private PhotoDownloadService photoDownloadService;
+
+    /**
+     * Outbox delivering review and points events to subscribers.
+     */
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    /**
+     * Outbox subscriber counting review and points activity.
+     */
+    @Autowired
+    private ReviewActivityStats reviewActivityStats;
+
     /**
      * Retrieves a list of flagged reviews, optionally filtered by their status.
      *
@@ -190,6 +213,37 @@ public class AdminDashboardController {
         }
     }
 
+    /**
+     * Provides a snapshot of review photo download counters.
+     *
+     * <p>Includes active and peak concurrent downloads, responses by kind (full,
+     * partial, not modified, unsatisfiable range), sendfile transfers, and total
+     * bytes served since startup.</p>
+     *
+     * @return a {@link ResponseEntity} containing the counter values
+     */
+    @GetMapping("/photo-downloads")
+    public ResponseEntity<?> photoDownloadMetrics() {
+        return ResponseEntity.ok(photoDownloadService.getMetrics());
+    }
+
+    /**
+     * Provides review and points activity counters, and the state of the event outbox.
+     *
+     * <p>Activity counts (events by type, points awarded, deducted, and redeemed)
+     * are fed asynchronously by the outbox relay since startup. The outbox section
+     * shows undelivered and given-up events and the relay's delivery counters.</p>
+     *
+     * @return a {@link ResponseEntity} containing the activity and outbox values
+     */
+    @GetMapping("/events")
+    public ResponseEntity<?> eventMetrics() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("activity", reviewActivityStats.snapshot());
+        result.put("outbox", eventOutbox.getMetrics());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Retrieves a summary of recent administrative actions performed by the currently logged-in admin.
      *
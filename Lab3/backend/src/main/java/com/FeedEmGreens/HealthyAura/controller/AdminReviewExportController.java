@@ -0,0 +1,85 @@
+package com.FeedEmGreens.HealthyAura.controller;
+
+import com.FeedEmGreens.HealthyAura.service.ReviewExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Controller exporting review data for offline analysis.
+ *
+ * <p>Exports are streamed as they are read from the database, so they can cover
+ * the full review history without loading it into memory. Each export runs as a
+ * {@link WebAsyncTask} with its own timeout ({@code reviews.export.timeout-ms}),
+ * so the application-wide async request timeout stays at its default.</p>
+ *
+ * <p>Access to all endpoints in this controller is restricted to users with the <strong>ADMIN</strong> role.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewExportService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/admin/reviews")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminReviewExportController {
+
+    /**
+     * Service streaming reviews in the requested format.
+     */
+    @Autowired
+    private ReviewExportService reviewExportService;
+
+    /** Maximum duration of one export. */
+    @Value("${reviews.export.timeout-ms:1800000}")
+    private long exportTimeoutMs;
+
+    /**
+     * Streams all non-deleted reviews, optionally filtered by eatery and creation date.
+     *
+     * <p>Example: <code>GET /admin/reviews/export?format=csv&amp;from=2026-01-01&amp;to=2026-03-31</code></p>
+     *
+     * @param format   <code>ndjson</code> (default) or <code>csv</code>
+     * @param eateryId optional eatery filter
+     * @param from     optional first creation day (inclusive, ISO date)
+     * @param to       optional last creation day (inclusive, ISO date)
+     * @param response the response the reviews are streamed to, as an attachment
+     * @return the asynchronous export, with the export timeout
+     * @throws IllegalArgumentException if the format is unsupported, the eatery does not exist,
+     *                                  or the date range is reversed
+     */
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportReviews(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long eateryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response
+    ) {
+        ReviewExportService.Format exportFormat = ReviewExportService.Format.of(format);
+        String adminUsername = SecurityContextHolder.getContext().getAuthentication().getName();
+        StreamingResponseBody body = reviewExportService.export(exportFormat, eateryId, from, to, adminUsername);
+
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reviews." + exportFormat.getExtension() + "\"");
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            body.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
@@ -1,11 +1,15 @@
 package com.FeedEmGreens.HealthyAura.controller;
 
+import com.FeedEmGreens.HealthyAura.dto.BulkModerationRequest;
+import com.FeedEmGreens.HealthyAura.dto.BulkModerationResult;
 import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
 import com.FeedEmGreens.HealthyAura.entity.ReviewFlag;
 import com.FeedEmGreens.HealthyAura.entity.Users;
-import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
 import com.FeedEmGreens.HealthyAura.repository.ReviewFlagRepository;
 import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import com.FeedEmGreens.HealthyAura.service.AuditLogWriter;
+import com.FeedEmGreens.HealthyAura.service.BulkModerationService;
+import com.FeedEmGreens.HealthyAura.service.RatingHistogramService;
 import com.FeedEmGreens.HealthyAura.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -25,7 +29,8 @@ import java.util.Map;
  * <ul>
  *     <li>View and manage flagged reviews</li>
  *     <li>Resolve review flags (approve removal or dismiss)</li>
- *     <li>Hide or delete inappropriate reviews</li>
+ *     <li>Hide, unhide, or delete inappropriate reviews</li>
+ *     <li>Hide, delete, or approve many reviews in one request</li>
  *     <li>Record and track administrative moderation actions</li>
  * </ul>
  *
@@ -59,10 +64,22 @@ public class AdminReviewModerationController {
     private UserRepository userRepository;
 
     /**
-     * Repository for persisting administrative action logs ({@link AdminActionLog}).
+     * Asynchronous writer for administrative action logs ({@link AdminActionLog}).
      */
     @Autowired
-    private AdminActionLogRepository adminActionLogRepository;
+    private AuditLogWriter auditLogWriter;
+
+    /**
+     * Service maintaining the per-eatery rating histograms.
+     */
+    @Autowired
+    private RatingHistogramService ratingHistogramService;
+
+    /**
+     * Service applying moderation actions to many reviews in one transaction.
+     */
+    @Autowired
+    private BulkModerationService bulkModerationService;
 
     /**
      * Retrieves all pending review flags awaiting moderation.
@@ -88,7 +105,7 @@ public class AdminReviewModerationController {
      *     <li><code>REMOVE</code> → Status becomes <code>RESOLVED</code></li>
      *     <li><code>DISMISS</code> → Status becomes <code>DISMISSED</code></li>
      * </ul>
-     * A record of this moderation action is also logged via {@link AdminActionLogRepository}.</p>
+     * A record of this moderation action is also logged via {@link AuditLogWriter}.</p>
      *
      * @param flagId the ID of the flagged review to resolve
      * @param action the action taken, either <code>REMOVE</code> or <code>DISMISS</code>
@@ -128,7 +145,7 @@ public class AdminReviewModerationController {
                     ? flag.getReview().getEatery().getId() : null;
             String details = "action=" + action + (notes != null && !notes.isBlank() ? "; notes=" + notes : "");
             AdminActionLog log = new AdminActionLog(adminUsername, "FLAG_RESOLVE", "FLAG", flag.getId(), eateryId, details, LocalDateTime.now());
-            adminActionLogRepository.save(log);
+            auditLogWriter.write(log);
         } catch (Exception ignored) {}
 
         Map<String, String> result = new HashMap<>();
@@ -185,6 +202,58 @@ public class AdminReviewModerationController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Hides, deletes, or approves many reviews in one request.
+     *
+     * <p>Intended for spam waves: pending flags are closed, points are deducted per
+     * author, and audit rows are written in batches, all within one transaction.
+     * Reviews that do not exist or are already in the requested state are skipped.</p>
+     *
+     * @param request the {@link BulkModerationRequest} listing the action, reason, and review IDs
+     * @return a {@link ResponseEntity} containing the {@link BulkModerationResult}
+     * @throws IllegalArgumentException if the action is unknown, a required reason is missing,
+     *                                  or the review list is empty or too long
+     */
+    @PostMapping("/reviews/bulk")
+    public ResponseEntity<BulkModerationResult> bulkModerate(@RequestBody BulkModerationRequest request) {
+        return ResponseEntity.ok(bulkModerationService.apply(request));
+    }
+
+    /**
+     * Restores a hidden review to public visibility.
+     *
+     * <p>The review's points are re-awarded to its author and it is counted in the
+     * eatery's ratings again.</p>
+     *
+     * @param reviewId the ID of the review to unhide
+     * @return a {@link ResponseEntity} containing a success message
+     */
+    @PutMapping("/reviews/{reviewId}/unhide")
+    public ResponseEntity<?> unhideReview(@PathVariable Long reviewId) {
+        reviewService.unhideReviewByAdmin(reviewId);
+        Map<String, String> result = new HashMap<>();
+        result.put("message", "Review unhidden.");
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Recomputes every eatery's rating histogram from its reviews.
+     *
+     * <p>Eateries are processed in chunks, each in its own transaction, so the job
+     * never holds locks on the whole catalog. Used to backfill histograms or to
+     * repair drift.</p>
+     *
+     * @return a {@link ResponseEntity} containing the number of eateries processed
+     */
+    @PostMapping("/histograms/rebuild")
+    public ResponseEntity<?> rebuildHistograms() {
+        int processed = ratingHistogramService.rebuildAll();
+        Map<String, Object> result = new HashMap<>();
+        result.put("message", "Rating histograms rebuilt.");
+        result.put("eateries", processed);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Permanently deletes a review from the system, with a reason provided by the admin.
      *
@@ -1,10 +1,26 @@
 package com.FeedEmGreens.HealthyAura.controller;
 
 
+import com.FeedEmGreens.HealthyAura.dto.EateryDetailsDto;
 import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
 import com.FeedEmGreens.HealthyAura.dto.AddTagsRequest;
+import com.FeedEmGreens.HealthyAura.dto.AddSynonymRequest;
+import com.FeedEmGreens.HealthyAura.dto.BulkTagRequest;
+import com.FeedEmGreens.HealthyAura.dto.BulkTagResult;
+import com.FeedEmGreens.HealthyAura.dto.DuplicateCandidateDto;
+import com.FeedEmGreens.HealthyAura.dto.EaterySummary;
+import com.FeedEmGreens.HealthyAura.dto.PagedResponse;
+import com.FeedEmGreens.HealthyAura.dto.SuggestionDto;
+import com.FeedEmGreens.HealthyAura.dto.SyncJobStatus;
+import com.FeedEmGreens.HealthyAura.dto.TagFacetDto;
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
 import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.service.AutoTagService;
+import com.FeedEmGreens.HealthyAura.service.BulkTagService;
+import com.FeedEmGreens.HealthyAura.service.EateryDeduplicationService;
 import com.FeedEmGreens.HealthyAura.service.EateryService;
+import com.FeedEmGreens.HealthyAura.service.EaterySyncService;
+import com.FeedEmGreens.HealthyAura.service.TagVocabularyService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.http.ResponseEntity;
@@ -45,6 +61,26 @@ public class EateryController {
     @Autowired
     private EateryService eateryService;
 
+    /** Service that applies tag operations to many eateries in one transaction. */
+    @Autowired
+    private BulkTagService bulkTagService;
+
+    /** Service that assigns tags from keywords in eatery names and descriptions. */
+    @Autowired
+    private AutoTagService autoTagService;
+
+    /** Service that runs API syncs as background jobs. */
+    @Autowired
+    private EaterySyncService eaterySyncService;
+
+    /** Service that detects and merges duplicate eateries. */
+    @Autowired
+    private EateryDeduplicationService eateryDeduplicationService;
+
+    /** Service that maintains the canonical dietary tag vocabulary. */
+    @Autowired
+    private TagVocabularyService tagVocabularyService;
+
 
     /**
      * Retrieves eateries from an external data source (e.g., OneMap API).
@@ -105,6 +141,69 @@ public class EateryController {
         return ResponseEntity.ok(eateries);
     }
 
+    /**
+     * Retrieves one page of eateries in a slim list form for map and list views.
+     *
+     * <p>Unlike {@code /fetchDb}, this endpoint returns {@link EaterySummary} objects
+     * (ID, name, coordinates, tag names, and rating aggregates) rather than full
+     * entities, and never the whole table at once. Full details of a single eatery
+     * are available from {@code /api/eateries/{id}}.</p>
+     *
+     * <p>The same {@code query} and {@code tags} filters as {@code /fetchDb} are
+     * supported. Unfiltered pages are ordered by ID; filtered pages are ordered by
+     * relevance.</p>
+     *
+     * @param query optional search string to match eatery names or locations
+     * @param tags  optional list of tags used to filter eateries
+     * @param page  zero-based page index (defaults to 0)
+     * @param size  page size, at most 200 (defaults to 50)
+     * @return a {@link ResponseEntity} containing a {@link PagedResponse} of {@link EaterySummary} objects
+     */
+    @GetMapping("/list")
+    public ResponseEntity<PagedResponse<EaterySummary>> listEateries(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "50") int size) {
+        return ResponseEntity.ok(eateryService.listEaterySummaries(query, tags, page, size));
+    }
+
+    /**
+     * Returns tag facet counts for the current search result set.
+     *
+     * <p>Accepts the same {@code query} and {@code tags} filters as {@code /list}
+     * and returns, for each tag, how many eateries in that result set carry it.
+     * Counts are computed in memory from per-tag bitmaps.</p>
+     *
+     * @param query optional search string to match eatery names or locations
+     * @param tags  optional list of tags used to filter eateries
+     * @return a {@link ResponseEntity} containing a list of {@link TagFacetDto} objects, most frequent first
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<List<TagFacetDto>> getTagFacets(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) List<String> tags) {
+        return ResponseEntity.ok(eateryService.getTagFacets(query, tags));
+    }
+
+    /**
+     * Returns typeahead suggestions for the search box.
+     *
+     * <p>Suggestions are served from an in-memory prefix trie over eatery names,
+     * building names, postal codes, and tag names, ranked by popularity. The
+     * response size is capped at 10 entries regardless of the requested limit.</p>
+     *
+     * @param prefix the text typed so far
+     * @param limit  optional maximum number of suggestions (defaults to 8)
+     * @return a {@link ResponseEntity} containing a list of {@link SuggestionDto} objects
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "8") int limit) {
+        return ResponseEntity.ok(eateryService.suggest(prefix, limit));
+    }
+
     /**
      * Retrieves a single {@link Eatery} by its unique ID.
      *
@@ -122,18 +221,78 @@ public class EateryController {
     }
 
     /**
-     * Synchronizes eateries from the external API into the local database.
+     * Retrieves the secondary dataset attributes of an eatery (e.g., unit number,
+     * website), which are not part of the eatery payload.
      *
-     * <p>This operation fetches all available eateries from the remote source
-     * and saves any new entries into the local system, ensuring data consistency.</p>
+     * @param id         the unique identifier of the eatery
+     * @param includeRaw whether to include the raw HTML description, if it was stored
+     * @return a {@link ResponseEntity} containing the {@link EateryDetailsDto}, or 404
+     */
+    @GetMapping("/{id}/details")
+    public ResponseEntity<EateryDetailsDto> getEateryDetails(@PathVariable Long id,
+                                                             @RequestParam(defaultValue = "false") boolean includeRaw) {
+        return ResponseEntity.of(eateryService.getEateryDetails(id, includeRaw));
+    }
+
+    /**
+     * Starts synchronizing eateries from the external API into the local database.
+     *
+     * <p>The sync runs as a background job: the dataset is downloaded asynchronously
+     * and new entries are saved on a virtual thread, so this request returns
+     * immediately with <strong>202 Accepted</strong> and a job ID. If a sync is
+     * already running, its status is returned instead of starting another.</p>
      *
-     * @return a {@link ResponseEntity} containing the list of saved {@link Eatery} records
+     * @return a {@link ResponseEntity} containing the {@link SyncJobStatus} of the job
      */
     // Sync API data to database
     @PostMapping("/sync")
-    public ResponseEntity<List<Eatery>> syncEateriesFromApi(){
-        List<Eatery> savedEateries = eateryService.saveEateriesFromApi();
-        return ResponseEntity.ok(savedEateries);
+    public ResponseEntity<SyncJobStatus> syncEateriesFromApi(){
+        return ResponseEntity.accepted().body(eaterySyncService.startSync());
+    }
+
+    /**
+     * Reports the progress of a sync job started by {@code POST /sync}.
+     *
+     * @param jobId the job ID returned when the sync was started
+     * @return a {@link ResponseEntity} containing the {@link SyncJobStatus},
+     *         or 404 if the job is unknown
+     */
+    @GetMapping("/sync/{jobId}")
+    public ResponseEntity<SyncJobStatus> getSyncStatus(@PathVariable String jobId) {
+        return ResponseEntity.of(eaterySyncService.getStatus(jobId));
+    }
+
+    /**
+     * Reports pairs of stored eateries that are probably the same establishment.
+     *
+     * <p>Pairs are eateries within 25 m of each other with similar normalized
+     * names. Each pair can be resolved with the merge endpoint.</p>
+     *
+     * @return a {@link ResponseEntity} containing {@link DuplicateCandidateDto} pairs, most similar first
+     */
+    @GetMapping("/duplicates")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<DuplicateCandidateDto>> getDuplicateCandidates() {
+        return ResponseEntity.ok(eateryDeduplicationService.findDuplicates());
+    }
+
+    /**
+     * Merges a duplicate eatery into another eatery.
+     *
+     * <p>Reviews and tags are moved onto the target eatery and the duplicate is
+     * deleted. If a user reviewed both, only their review of the target remains active.</p>
+     *
+     * @param targetId    the ID of the eatery that survives
+     * @param duplicateId the ID of the eatery to merge and remove
+     * @return a {@link ResponseEntity} containing the merged {@link Eatery}
+     */
+    @PostMapping("/{targetId}/merge/{duplicateId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Eatery> mergeEateries(
+            @PathVariable Long targetId,
+            @PathVariable Long duplicateId
+    ){
+        return ResponseEntity.ok(eateryDeduplicationService.merge(targetId, duplicateId));
     }
 
     /**
@@ -199,4 +358,64 @@ public class EateryController {
         Eatery updated = eateryService.editTagForEatery(eateryId, request.getOldTag(), request.getNewTag());
         return ResponseEntity.ok(updated);
     }
+
+    /**
+     * Applies an add, delete, or rename tag operation to many eateries at once.
+     *
+     * <p>Targets are given as explicit eatery IDs or as a search filter. The whole
+     * operation runs in one transaction with batched writes and is audited as one
+     * summary log entry plus one detail entry per changed eatery.</p>
+     *
+     * @param request the {@link BulkTagRequest} describing the operation and targets
+     * @return a {@link ResponseEntity} containing the {@link BulkTagResult}
+     */
+    @PostMapping("/tags/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTagResult> applyBulkTagOperation(@RequestBody BulkTagRequest request) {
+        return ResponseEntity.ok(bulkTagService.apply(request));
+    }
+
+    /**
+     * Re-runs keyword auto-tagging over the whole catalog.
+     *
+     * <p>Every eatery's name and description is matched against the configured
+     * keyword rules in parallel; tags that are not yet present are added in one
+     * transaction and audited as <code>SYSTEM</code> actions.</p>
+     *
+     * @return a {@link ResponseEntity} containing a {@link BulkTagResult} summary
+     */
+    @PostMapping("/tags/auto")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTagResult> retagCatalog() {
+        return ResponseEntity.ok(autoTagService.retagCatalog());
+    }
+
+    /**
+     * Lists the canonical dietary tag vocabulary, most used first.
+     *
+     * @return a {@link ResponseEntity} containing all {@link CanonicalTag} entries
+     */
+    @GetMapping("/tags/vocabulary")
+    public ResponseEntity<List<CanonicalTag>> getTagVocabulary() {
+        return ResponseEntity.ok(tagVocabularyService.listVocabulary());
+    }
+
+    /**
+     * Registers a synonym for a canonical tag.
+     *
+     * <p>Tags subsequently entered as the synonym are stored, filtered, and counted
+     * as the canonical tag.</p>
+     *
+     * @param tagId   the ID of the canonical tag
+     * @param request the request object containing the synonym
+     * @return a {@link ResponseEntity} containing the updated {@link CanonicalTag}
+     */
+    @PostMapping("/tags/vocabulary/{tagId}/synonyms")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CanonicalTag> addTagSynonym(
+            @PathVariable Long tagId,
+            @RequestBody AddSynonymRequest request
+    ){
+        return ResponseEntity.ok(tagVocabularyService.addSynonym(tagId, request.getSynonym()));
+    }
 }
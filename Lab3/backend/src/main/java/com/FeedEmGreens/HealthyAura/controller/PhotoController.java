@@ -0,0 +1,138 @@
+package com.FeedEmGreens.HealthyAura.controller;
+
+import com.FeedEmGreens.HealthyAura.dto.PhotoDto;
+import com.FeedEmGreens.HealthyAura.service.PhotoDownloadService;
+import com.FeedEmGreens.HealthyAura.service.PhotoStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Controller for uploading and serving review photos.
+ *
+ * <p>Clients upload a photo first, then submit its {@code original} URL in the
+ * {@code photos} of a review request. Review responses list each photo with both
+ * its original and thumbnail URLs.</p>
+ *
+ * <ul>
+ *   <li><code>POST /api/photos</code> – upload a JPEG, PNG, or GIF (multipart field <code>file</code>)</li>
+ *   <li><code>GET /api/photos/original/{name}</code> – the full-resolution photo</li>
+ *   <li><code>GET /api/photos/thumbnail/{name}</code> – the thumbnail</li>
+ * </ul>
+ *
+ * <p>Stored photos are content-addressed, so their URLs never change content:
+ * they are served with strong ETags and a long-lived, immutable cache policy,
+ * support byte ranges, and are transferred without copying through the heap
+ * ({@link PhotoDownloadService}).</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.PhotoStorageService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/photos")
+public class PhotoController {
+
+    @Autowired
+    private PhotoStorageService photoStorageService;
+
+    @Autowired
+    private PhotoDownloadService photoDownloadService;
+
+    /**
+     * Uploads a review photo.
+     *
+     * <p>The multipart body is spooled to disk by the servlet container and
+     * streamed from there into photo storage.</p>
+     *
+     * @param file the photo
+     * @return a {@link ResponseEntity} with status 201 and the photo's {@link PhotoDto}, or an error message
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> upload(@RequestParam("file") MultipartFile file) {
+        try (InputStream body = file.getInputStream()) {
+            PhotoDto photo = photoStorageService.store(body);
+            return ResponseEntity.status(HttpStatus.CREATED).body(photo);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        } catch (IOException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Failed to read upload");
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    /**
+     * Serves a full-resolution photo.
+     *
+     * <p>Supports {@code HEAD}, byte ranges, and conditional requests; see
+     * {@link PhotoDownloadService}.</p>
+     *
+     * @param name     the photo file name
+     * @param request  the HTTP request
+     * @param response the HTTP response; 404 if the photo does not exist
+     * @throws IOException if the file cannot be sent
+     */
+    @RequestMapping(value = "/original/{name}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void getOriginal(@PathVariable String name, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        Optional<Path> original = photoStorageService.findOriginal(name);
+        if (original.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        photoDownloadService.send(request, response, original.get(), PhotoStorageService.contentTypeOf(original.get()),
+                etagOf(name, ""), PhotoDownloadService.IMMUTABLE);
+    }
+
+    /**
+     * Serves a photo's thumbnail.
+     *
+     * <p>While the thumbnail is still being generated, the original is served in
+     * its place, without an ETag and marked as not cacheable.</p>
+     *
+     * @param name     the thumbnail file name
+     * @param request  the HTTP request
+     * @param response the HTTP response; 404 if the photo does not exist
+     * @throws IOException if the file cannot be sent
+     */
+    @RequestMapping(value = "/thumbnail/{name}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void getThumbnail(@PathVariable String name, HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+        Optional<Path> thumbnail = photoStorageService.findThumbnail(name);
+        if (thumbnail.isPresent()) {
+            photoDownloadService.send(request, response, thumbnail.get(), "image/jpeg",
+                    etagOf(name, "-thumb"), PhotoDownloadService.IMMUTABLE);
+            return;
+        }
+
+        Optional<Path> original = photoStorageService.findOriginalOfThumbnail(name);
+        if (original.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        photoDownloadService.send(request, response, original.get(), PhotoStorageService.contentTypeOf(original.get()),
+                null, CacheControl.noCache());
+    }
+
+    /** Strong ETag of a stored file: its content digest, plus a variant suffix. */
+    private static String etagOf(String name, String variant) {
+        return "\"" + name.substring(0, name.indexOf('.')) + variant + "\"";
+    }
+}
@@ -1,9 +1,12 @@
 package com.FeedEmGreens.HealthyAura.controller;
 
+import com.FeedEmGreens.HealthyAura.dto.CursorPage;
 import com.FeedEmGreens.HealthyAura.dto.ProfileResponse;
+import com.FeedEmGreens.HealthyAura.dto.ReviewHistoryEntry;
 import com.FeedEmGreens.HealthyAura.dto.UpdateProfileRequest;
 import com.FeedEmGreens.HealthyAura.entity.Users;
 import com.FeedEmGreens.HealthyAura.service.ProfileService;
+import com.FeedEmGreens.HealthyAura.service.ReviewService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +23,7 @@ import java.util.Map;
  *     <li>Fetching the current user's profile details</li>
  *     <li>Updating user preferences</li>
  *     <li>Retrieving points for rewards tracking</li>
+ *     <li>Browsing the user's own review history</li>
  *     <li>Updating account information (email or password)</li>
  * </ul>
  * </p>
@@ -41,12 +45,19 @@ public class ProfileController {
     private final ProfileService profileService;
 
     /**
-     * Constructs a {@code ProfileController} with the specified {@link ProfileService}.
+     * Service providing the user's review history.
+     */
+    private final ReviewService reviewService;
+
+    /**
+     * Constructs a {@code ProfileController} with the specified services.
      *
      * @param profileService the service used to perform profile-related operations
+     * @param reviewService  the service used to read the user's reviews
      */
-    public ProfileController(ProfileService profileService) {
+    public ProfileController(ProfileService profileService, ReviewService reviewService) {
         this.profileService = profileService;
+        this.reviewService = reviewService;
     }
 
     /**
@@ -143,6 +154,27 @@ public class ProfileController {
         return ResponseEntity.ok(pointsMap);
     }
 
+    /**
+     * Retrieves one page of the authenticated user's reviews, newest first.
+     *
+     * <p>Each entry includes the reviewed eatery's name and current aggregate ratings,
+     * and whether the review has been hidden by an admin. Deleted reviews are omitted.
+     * Pass the returned <code>nextCursor</code> to fetch the following page.</p>
+     *
+     * <p>Endpoint: <code>GET /profile/me/reviews?cursor=...&amp;size=20</code></p>
+     *
+     * @param cursor optional cursor from the previous page
+     * @param size   page size (default 20, maximum 50)
+     * @return a {@link ResponseEntity} containing a {@link CursorPage} of {@link ReviewHistoryEntry} objects
+     */
+    @GetMapping("/me/reviews")
+    public ResponseEntity<CursorPage<ReviewHistoryEntry>> getMyReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(reviewService.getMyReviews(cursor, size));
+    }
+
     /**
      * Updates the authenticated user's email address.
      *
@@ -1,7 +1,9 @@
 package com.FeedEmGreens.HealthyAura.controller;
 
 import com.FeedEmGreens.HealthyAura.dto.*;
+import com.FeedEmGreens.HealthyAura.service.RatingHistogramService;
 import com.FeedEmGreens.HealthyAura.service.ReviewService;
+import com.FeedEmGreens.HealthyAura.service.ReviewVoteService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,7 @@ import java.util.Map;
  *     <li>Create, update, and delete user reviews</li>
  *     <li>Fetch reviews and aggregated ratings for eateries</li>
  *     <li>Flag inappropriate reviews for moderation</li>
+ *     <li>Vote on whether reviews are helpful</li>
  * </ul>
  * </p>
  *
@@ -42,6 +45,18 @@ public class ReviewController {
     @Autowired
     private ReviewService reviewService;
 
+    /**
+     * Service maintaining the per-eatery rating histograms.
+     */
+    @Autowired
+    private RatingHistogramService ratingHistogramService;
+
+    /**
+     * Service counting helpfulness votes on reviews.
+     */
+    @Autowired
+    private ReviewVoteService reviewVoteService;
+
     /**
      * Creates or updates a user's review for a specific eatery.
      *
@@ -111,6 +126,40 @@ public class ReviewController {
         }
     }
 
+    /**
+     * Retrieves one page of reviews for a specific eatery using a cursor.
+     *
+     * <p>Supports the same sort modes as {@link #getReviews}. The first call omits
+     * <code>cursor</code>; each response carries a <code>nextCursor</code> to pass to
+     * the following call, and <code>hasMore</code> is {@code false} on the last page.
+     * Cursors are tied to the sort mode they were issued for.</p>
+     *
+     * <p>Endpoint: <code>GET /api/eateries/{eateryId}/reviews/feed</code></p>
+     *
+     * @param eateryId the ID of the eatery
+     * @param sortBy   optional sorting criteria: <code>RECENT</code> (default), <code>HEALTH</code>, <code>HYGIENE</code>,
+     *                 or <code>HELPFUL</code>
+     * @param cursor   optional cursor from the previous page
+     * @param size     optional page size (default 20, maximum 50)
+     * @return a {@link ResponseEntity} containing a {@link CursorPage} of reviews, or an error message
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<?> getReviewFeed(
+            @PathVariable Long eateryId,
+            @RequestParam(required = false, defaultValue = "RECENT") String sortBy,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        try {
+            CursorPage<ReviewResponse> page = reviewService.getReviewFeed(eateryId, sortBy, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     /**
      * Retrieves the currently authenticated user's own review for a specific eatery.
      *
@@ -246,6 +295,38 @@ public class ReviewController {
         }
     }
 
+    /**
+     * Records the current user's vote on whether a review is helpful.
+     *
+     * <p>Each user can vote once per review, and not on their own reviews. The vote
+     * is reflected in the review's counts immediately; the "most helpful" ordering
+     * (<code>sortBy=HELPFUL</code>) follows within a few seconds.</p>
+     *
+     * <p>Endpoint: <code>POST /api/eateries/{eateryId}/reviews/{reviewId}/helpful?helpful=true</code></p>
+     *
+     * @param eateryId the ID of the eatery where the review was posted
+     * @param reviewId the ID of the review being voted on
+     * @param helpful  <code>true</code> (default) for "helpful", <code>false</code> for "not helpful"
+     * @return a {@link ResponseEntity} with a confirmation or error message
+     */
+    @PostMapping("/{reviewId}/helpful")
+    public ResponseEntity<?> voteHelpful(
+            @PathVariable Long eateryId,
+            @PathVariable Long reviewId,
+            @RequestParam(required = false, defaultValue = "true") boolean helpful
+    ) {
+        try {
+            reviewVoteService.vote(eateryId, reviewId, helpful);
+            Map<String, String> result = new HashMap<>();
+            result.put("message", "Vote recorded.");
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
     /**
      * Retrieves aggregated rating statistics for a specific eatery.
      *
@@ -269,5 +350,27 @@ public class ReviewController {
             return ResponseEntity.badRequest().body(error);
         }
     }
-}
 
+    /**
+     * Retrieves the star distribution of an eatery's visible reviews.
+     *
+     * <p>Returns how many reviews gave each health and hygiene score from 1 to 5,
+     * read from a histogram maintained as reviews change rather than computed
+     * per request.</p>
+     *
+     * <p>Endpoint: <code>GET /api/eateries/{eateryId}/reviews/histogram</code></p>
+     *
+     * @param eateryId the ID of the eatery
+     * @return a {@link ResponseEntity} containing a {@link RatingHistogramResponse}, or an error message
+     */
+    @GetMapping("/histogram")
+    public ResponseEntity<?> getRatingHistogram(@PathVariable Long eateryId) {
+        try {
+            return ResponseEntity.ok(ratingHistogramService.getHistogram(eateryId));
+        } catch (IllegalArgumentException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+}
@@ -19,7 +19,7 @@ import java.util.Map;
  * <ul>
  *     <li>Personalized recommendations for logged-in users</li>
  *     <li>General recommendations for visitors</li>
- *     <li>Filtering recommendations by tag(s) or postal code</li>
+ *     <li>Filtering recommendations by tag(s), postal code, or postal sector</li>
  * </ul>
  * </p>
  *
@@ -170,5 +170,38 @@ public class homeController {
         }
     }
 
+    /**
+     * Retrieves all eateries in a postal sector (district), such as “52”.
+     *
+     * <p>A sector is the first two digits of a Singapore postal code. Setting
+     * {@code radius} includes numerically neighbouring sectors as well, e.g.
+     * sector 52 with radius 1 covers sectors 51–53. Results are ordered by postal
+     * code, or by distance when a location is given.</p>
+     *
+     * @param sector the two-digit postal sector
+     * @param radius optional number of neighbouring sectors to include on each side (defaults to 0)
+     * @param lat    optional latitude for distance sorting
+     * @param lng    optional longitude for distance sorting
+     * @return a list of {@link RecommendationDto} objects in the requested sector(s)
+     */
+    @GetMapping("/recommendations/district/{sector}")
+    public List<RecommendationDto> getRecommendationsBySector(
+            @PathVariable String sector,
+            @RequestParam(required = false, defaultValue = "0") int radius,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng) {
+        return recManager.generateRecommendationsBySector(sector, radius, lat, lng);
+    }
 
+    /**
+     * Lists the postal sectors that contain eateries, with how many each contains.
+     *
+     * <p>Used to render the area picker for district browsing.</p>
+     *
+     * @return a map of two-digit sector to eatery count, in sector order
+     */
+    @GetMapping("/recommendations/districts")
+    public Map<String, Integer> getPostalSectors() {
+        return recManager.getPostalSectorCounts();
+    }
 }
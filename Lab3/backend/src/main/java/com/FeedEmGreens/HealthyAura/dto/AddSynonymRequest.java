@@ -0,0 +1,44 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) used to register a synonym for a canonical tag.
+ *
+ * <p>Used by <code>/api/eateries/tags/vocabulary/{tagId}/synonyms</code>. Once added,
+ * tags entered as the synonym are stored and searched as the canonical tag.</p>
+ *
+ * <p>Example JSON request:</p>
+ * <pre>
+ * {
+ *   "synonym": "Plant Based"
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ * @see com.FeedEmGreens.HealthyAura.service.TagVocabularyService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AddSynonymRequest {
+
+    /** The alternative spelling to map onto the canonical tag. */
+    private String synonym;
+
+    /**
+     * Returns the synonym to register.
+     *
+     * @return the synonym
+     */
+    public String getSynonym() {
+        return synonym;
+    }
+
+    /**
+     * Sets the synonym to register.
+     *
+     * @param synonym the synonym
+     */
+    public void setSynonym(String synonym) {
+        this.synonym = synonym;
+    }
+}
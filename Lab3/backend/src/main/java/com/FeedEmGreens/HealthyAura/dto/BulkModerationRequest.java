@@ -0,0 +1,51 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing a moderation action applied to many reviews at once.
+ *
+ * <p>Used by <code>/admin/review-moderation/reviews/bulk</code>.</p>
+ *
+ * <p>Supported actions:</p>
+ * <ul>
+ *   <li><b>HIDE</b> — hides every listed review (reason required)</li>
+ *   <li><b>DELETE</b> — soft-deletes every listed review (reason required)</li>
+ *   <li><b>APPROVE</b> — keeps the reviews and dismisses their pending flags</li>
+ * </ul>
+ *
+ * <p>Example JSON request:</p>
+ * <pre>
+ * {
+ *   "action": "HIDE",
+ *   "reviewIds": [101, 102, 103],
+ *   "reason": "Spam wave"
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.AdminReviewModerationController
+ * @see com.FeedEmGreens.HealthyAura.service.BulkModerationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkModerationRequest {
+
+    /** The action to apply: HIDE, DELETE, or APPROVE. */
+    private String action;
+
+    /** The reviews to moderate. */
+    private List<Long> reviewIds;
+
+    /** The reason for hiding or deleting; optional notes for APPROVE. */
+    private String reason;
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public List<Long> getReviewIds() { return reviewIds; }
+    public void setReviewIds(List<Long> reviewIds) { this.reviewIds = reviewIds; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
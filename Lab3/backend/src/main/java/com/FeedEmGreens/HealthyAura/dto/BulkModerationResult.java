@@ -0,0 +1,84 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) summarizing the outcome of a bulk moderation action.
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "action": "HIDE",
+ *   "requestedReviews": 120,
+ *   "moderatedReviews": 117,
+ *   "resolvedFlags": 240,
+ *   "pointsDeducted": 1755,
+ *   "summary": "Hid 117 review(s); 3 skipped"
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.BulkModerationRequest
+ * @see com.FeedEmGreens.HealthyAura.service.BulkModerationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkModerationResult {
+
+    /** The action that was applied. */
+    private String action;
+
+    /** The number of distinct review IDs in the request. */
+    private int requestedReviews;
+
+    /** The number of reviews the action was applied to. */
+    private int moderatedReviews;
+
+    /** The number of pending flags resolved or dismissed. */
+    private int resolvedFlags;
+
+    /** The total number of points deducted from the reviews' authors. */
+    private long pointsDeducted;
+
+    /** Human-readable summary, identical to the summary audit entry. */
+    private String summary;
+
+    /** Default constructor for framework usage. */
+    public BulkModerationResult() {}
+
+    /**
+     * Constructs a result.
+     *
+     * @param action           the action applied
+     * @param requestedReviews the number of distinct reviews requested
+     * @param moderatedReviews the number of reviews moderated
+     * @param resolvedFlags    the number of flags resolved or dismissed
+     * @param pointsDeducted   the total points deducted
+     * @param summary          the summary text
+     */
+    public BulkModerationResult(String action, int requestedReviews, int moderatedReviews,
+                                int resolvedFlags, long pointsDeducted, String summary) {
+        this.action = action;
+        this.requestedReviews = requestedReviews;
+        this.moderatedReviews = moderatedReviews;
+        this.resolvedFlags = resolvedFlags;
+        this.pointsDeducted = pointsDeducted;
+        this.summary = summary;
+    }
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public int getRequestedReviews() { return requestedReviews; }
+    public void setRequestedReviews(int requestedReviews) { this.requestedReviews = requestedReviews; }
+
+    public int getModeratedReviews() { return moderatedReviews; }
+    public void setModeratedReviews(int moderatedReviews) { this.moderatedReviews = moderatedReviews; }
+
+    public int getResolvedFlags() { return resolvedFlags; }
+    public void setResolvedFlags(int resolvedFlags) { this.resolvedFlags = resolvedFlags; }
+
+    public long getPointsDeducted() { return pointsDeducted; }
+    public void setPointsDeducted(long pointsDeducted) { this.pointsDeducted = pointsDeducted; }
+
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+}
@@ -0,0 +1,78 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing a bulk tag operation across many eateries.
+ *
+ * <p>Used by <code>/api/eateries/tags/bulk</code>. The target eateries are given
+ * either explicitly through {@code eateryIds}, or as a search filter through
+ * {@code query} and/or {@code filterTags} (same semantics as
+ * <code>/api/eateries/list</code>). Explicit IDs take precedence.</p>
+ *
+ * <p>Supported operations:</p>
+ * <ul>
+ *   <li><b>ADD</b> — attaches every tag in {@code tags}</li>
+ *   <li><b>DELETE</b> — removes every tag in {@code tags}</li>
+ *   <li><b>RENAME</b> — replaces {@code oldTag} with {@code newTag}</li>
+ * </ul>
+ *
+ * <p>Example JSON request:</p>
+ * <pre>
+ * {
+ *   "operation": "ADD",
+ *   "query": "tampines",
+ *   "tags": ["Healthier Choice"]
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ * @see com.FeedEmGreens.HealthyAura.service.BulkTagService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkTagRequest {
+
+    /** The operation to apply: ADD, DELETE, or RENAME. */
+    private String operation;
+
+    /** Explicit target eatery IDs. */
+    private List<Long> eateryIds;
+
+    /** Keyword filter selecting the target eateries when no IDs are given. */
+    private String query;
+
+    /** Tag filter selecting the target eateries when no IDs are given. */
+    private List<String> filterTags;
+
+    /** The tags to add or delete. */
+    private List<String> tags;
+
+    /** The tag to replace (RENAME only). */
+    private String oldTag;
+
+    /** The replacement tag (RENAME only). */
+    private String newTag;
+
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public List<Long> getEateryIds() { return eateryIds; }
+    public void setEateryIds(List<Long> eateryIds) { this.eateryIds = eateryIds; }
+
+    public String getQuery() { return query; }
+    public void setQuery(String query) { this.query = query; }
+
+    public List<String> getFilterTags() { return filterTags; }
+    public void setFilterTags(List<String> filterTags) { this.filterTags = filterTags; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+
+    public String getOldTag() { return oldTag; }
+    public void setOldTag(String oldTag) { this.oldTag = oldTag; }
+
+    public String getNewTag() { return newTag; }
+    public void setNewTag(String newTag) { this.newTag = newTag; }
+}
@@ -0,0 +1,65 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) summarizing the outcome of a bulk tag operation.
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "operation": "ADD",
+ *   "targetedEateries": 130,
+ *   "changedRows": 118,
+ *   "summary": "Added 'Healthier Choice' to 118 eatery(ies); 12 already tagged"
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.BulkTagRequest
+ * @see com.FeedEmGreens.HealthyAura.service.BulkTagService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BulkTagResult {
+
+    /** The operation that was applied. */
+    private String operation;
+
+    /** The number of eateries selected by the request. */
+    private int targetedEateries;
+
+    /** The number of tag rows inserted, updated, or deleted. */
+    private int changedRows;
+
+    /** Human-readable summary, identical to the summary audit entry. */
+    private String summary;
+
+    /** Default constructor for framework usage. */
+    public BulkTagResult() {}
+
+    /**
+     * Constructs a result.
+     *
+     * @param operation        the operation applied
+     * @param targetedEateries the number of eateries selected
+     * @param changedRows      the number of tag rows changed
+     * @param summary          the summary text
+     */
+    public BulkTagResult(String operation, int targetedEateries, int changedRows, String summary) {
+        this.operation = operation;
+        this.targetedEateries = targetedEateries;
+        this.changedRows = changedRows;
+        this.summary = summary;
+    }
+
+    public String getOperation() { return operation; }
+    public void setOperation(String operation) { this.operation = operation; }
+
+    public int getTargetedEateries() { return targetedEateries; }
+    public void setTargetedEateries(int targetedEateries) { this.targetedEateries = targetedEateries; }
+
+    public int getChangedRows() { return changedRows; }
+    public void setChangedRows(int changedRows) { this.changedRows = changedRows; }
+
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+}
@@ -0,0 +1,72 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.List;
+
+/**
+ * Generic Data Transfer Object (DTO) for one page of a keyset-paginated feed.
+ *
+ * <p>Unlike {@link PagedResponse}, there are no page numbers or totals: the client
+ * passes {@code nextCursor} back to fetch the following page, which lets the
+ * server seek directly to it instead of skipping an offset. {@code nextCursor} is
+ * {@code null} on the last page.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "content": [ ... ],
+ *   "size": 20,
+ *   "nextCursor": "UkVDRU5UfDIwMjYtMTAtMThUMDk6MzA6MDB8NDI",
+ *   "hasMore": true
+ * }
+ * </pre>
+ *
+ * @param <T> the element type
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.ReviewResponse
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CursorPage<T> {
+
+    /** The elements on this page. */
+    private List<T> content;
+
+    /** The requested page size. */
+    private int size;
+
+    /** Opaque cursor for the next page, or {@code null} on the last page. */
+    private String nextCursor;
+
+    /** Whether another page follows. */
+    private boolean hasMore;
+
+    /** Default constructor for framework usage. */
+    public CursorPage() {}
+
+    /**
+     * Constructs a page.
+     *
+     * @param content    the elements on this page
+     * @param size       the page size
+     * @param nextCursor the cursor for the next page, or {@code null} on the last page
+     */
+    public CursorPage(List<T> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,87 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) describing a pair of eateries that are probably the
+ * same establishment.
+ *
+ * <p>Returned by <code>/api/eateries/duplicates</code> so that an admin can review
+ * each pair and merge it via <code>/api/eateries/{targetId}/merge/{duplicateId}</code>.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "firstId": 12,
+ *   "firstName": "Ah Hock's Kitchen",
+ *   "secondId": 418,
+ *   "secondName": "Ah Hock Kitchen",
+ *   "distanceMetres": 6.4,
+ *   "similarity": 0.93
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.EateryDeduplicationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DuplicateCandidateDto {
+
+    /** The ID of the older eatery of the pair. */
+    private Long firstId;
+
+    /** The name of the older eatery. */
+    private String firstName;
+
+    /** The ID of the newer eatery of the pair. */
+    private Long secondId;
+
+    /** The name of the newer eatery. */
+    private String secondName;
+
+    /** The distance between the two eateries in metres, rounded to one decimal place. */
+    private double distanceMetres;
+
+    /** The name similarity between 0 and 1, rounded to two decimal places. */
+    private double similarity;
+
+    /** Default constructor for framework usage. */
+    public DuplicateCandidateDto() {}
+
+    /**
+     * Constructs a candidate pair.
+     *
+     * @param firstId        the older eatery's ID
+     * @param firstName      the older eatery's name
+     * @param secondId       the newer eatery's ID
+     * @param secondName     the newer eatery's name
+     * @param distanceMetres the distance between them in metres
+     * @param similarity     the name similarity
+     */
+    public DuplicateCandidateDto(Long firstId, String firstName, Long secondId, String secondName,
+                                 double distanceMetres, double similarity) {
+        this.firstId = firstId;
+        this.firstName = firstName;
+        this.secondId = secondId;
+        this.secondName = secondName;
+        this.distanceMetres = Math.round(distanceMetres * 10.0) / 10.0;
+        this.similarity = Math.round(similarity * 100.0) / 100.0;
+    }
+
+    public Long getFirstId() { return firstId; }
+    public void setFirstId(Long firstId) { this.firstId = firstId; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public Long getSecondId() { return secondId; }
+    public void setSecondId(Long secondId) { this.secondId = secondId; }
+
+    public String getSecondName() { return secondName; }
+    public void setSecondName(String secondName) { this.secondName = secondName; }
+
+    public double getDistanceMetres() { return distanceMetres; }
+    public void setDistanceMetres(double distanceMetres) { this.distanceMetres = distanceMetres; }
+
+    public double getSimilarity() { return similarity; }
+    public void setSimilarity(double similarity) { this.similarity = similarity; }
+}
@@ -0,0 +1,70 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) carrying the secondary dataset attributes of an eatery.
+ *
+ * <p>Returned by <code>/api/eateries/{id}/details</code>. The raw HTML description
+ * is only included when requested and when it was stored at ingest.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "eateryId": 12,
+ *   "attributes": { "ADDRESSUNITNUMBER": "01-23", "HYPERLINK": "https://example.sg" },
+ *   "rawHtmlStored": true,
+ *   "rawHtml": null
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.EateryDetails
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EateryDetailsDto {
+
+    /** The eatery ID. */
+    private Long eateryId;
+
+    /** Additional dataset attributes, keyed by dataset attribute name. */
+    private Map<String, String> attributes;
+
+    /** Whether the raw HTML description was stored at ingest. */
+    private boolean rawHtmlStored;
+
+    /** The raw HTML description, when requested; {@code null} otherwise. */
+    private String rawHtml;
+
+    /** Default constructor for framework usage. */
+    public EateryDetailsDto() {}
+
+    /**
+     * Constructs a details DTO.
+     *
+     * @param eateryId      the eatery ID
+     * @param attributes    the additional attributes
+     * @param rawHtmlStored whether raw HTML was stored
+     * @param rawHtml       the raw HTML, or {@code null}
+     */
+    public EateryDetailsDto(Long eateryId, Map<String, String> attributes, boolean rawHtmlStored, String rawHtml) {
+        this.eateryId = eateryId;
+        this.attributes = attributes;
+        this.rawHtmlStored = rawHtmlStored;
+        this.rawHtml = rawHtml;
+    }
+
+    public Long getEateryId() { return eateryId; }
+    public void setEateryId(Long eateryId) { this.eateryId = eateryId; }
+
+    public Map<String, String> getAttributes() { return attributes; }
+    public void setAttributes(Map<String, String> attributes) { this.attributes = attributes; }
+
+    public boolean isRawHtmlStored() { return rawHtmlStored; }
+    public void setRawHtmlStored(boolean rawHtmlStored) { this.rawHtmlStored = rawHtmlStored; }
+
+    public String getRawHtml() { return rawHtml; }
+    public void setRawHtml(String rawHtml) { this.rawHtml = rawHtml; }
+}
@@ -1,5 +1,10 @@
 package com.FeedEmGreens.HealthyAura.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Data Transfer Object (DTO) used for handling eatery creation, update,
  * and retrieval requests between the backend and frontend.
@@ -53,6 +58,17 @@ public class EateryRequest {
     /** The longitude coordinate of the eatery's location. */
     private double longitude;
 
+    /**
+     * Additional dataset attributes not mapped to a field above (e.g., unit number,
+     * website), keyed by the dataset's attribute name. Populated at ingest only.
+     */
+    @JsonIgnore
+    private Map<String, String> attributes = new LinkedHashMap<>();
+
+    /** The raw HTML description from the dataset. Populated at ingest only. */
+    @JsonIgnore
+    private String rawDescription;
+
     /**
      * Retrieves the name of the eatery.
      *
@@ -178,4 +194,40 @@ public class EateryRequest {
     public void setLongitude(double longitude) {
         this.longitude = longitude;
     }
+
+    /**
+     * Retrieves the additional dataset attributes of the eatery.
+     *
+     * @return the attributes, keyed by dataset attribute name
+     */
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Sets the additional dataset attributes of the eatery.
+     *
+     * @param attributes the attributes, keyed by dataset attribute name
+     */
+    public void setAttributes(Map<String, String> attributes) {
+        this.attributes = attributes;
+    }
+
+    /**
+     * Retrieves the raw HTML description from the dataset.
+     *
+     * @return the raw description, or {@code null} if not captured
+     */
+    public String getRawDescription() {
+        return rawDescription;
+    }
+
+    /**
+     * Sets the raw HTML description from the dataset.
+     *
+     * @param rawDescription the raw description
+     */
+    public void setRawDescription(String rawDescription) {
+        this.rawDescription = rawDescription;
+    }
 }
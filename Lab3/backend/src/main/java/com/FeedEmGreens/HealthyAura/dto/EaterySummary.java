@@ -0,0 +1,112 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the slim, list-view form of an eatery.
+ *
+ * <p>Returned by <code>/api/eateries/list</code> for map and list views. It carries
+ * only what a marker or list row needs; the full record (description, address
+ * details) is fetched separately from <code>/api/eateries/{id}</code>.</p>
+ *
+ * <p>Average scores are rounded to one decimal place and are {@code null} when the
+ * eatery has no visible reviews.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "id": 12,
+ *   "name": "GreenBite",
+ *   "latitude": 1.303,
+ *   "longitude": 103.832,
+ *   "tags": ["Vegan", "Low Sugar"],
+ *   "averageHealthScore": 4.6,
+ *   "averageHygieneScore": 4.7,
+ *   "reviewCount": 45
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ * @see com.FeedEmGreens.HealthyAura.service.EateryService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EaterySummary {
+
+    /** The unique identifier of the eatery. */
+    private Long id;
+
+    /** The name of the eatery. */
+    private String name;
+
+    /** The latitude coordinate. */
+    private Double latitude;
+
+    /** The longitude coordinate. */
+    private Double longitude;
+
+    /** The dietary tag names attached to the eatery. */
+    private List<String> tags = new ArrayList<>();
+
+    /** The average health score of visible reviews, rounded to one decimal place. */
+    private Double averageHealthScore;
+
+    /** The average hygiene score of visible reviews, rounded to one decimal place. */
+    private Double averageHygieneScore;
+
+    /** The number of visible reviews. */
+    private Long reviewCount = 0L;
+
+    /** Default constructor for framework usage. */
+    public EaterySummary() {}
+
+    /**
+     * Constructs a summary from the scalar eatery columns.
+     *
+     * <p>Used as a JPQL constructor expression; tags and ratings are filled in
+     * afterwards by batched queries.</p>
+     *
+     * @param id        the eatery ID
+     * @param name      the eatery name
+     * @param latitude  the latitude coordinate
+     * @param longitude the longitude coordinate
+     */
+    public EaterySummary(Long id, String name, Double latitude, Double longitude) {
+        this.id = id;
+        this.name = name;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Double getLatitude() { return latitude; }
+    public void setLatitude(Double latitude) { this.latitude = latitude; }
+
+    public Double getLongitude() { return longitude; }
+    public void setLongitude(Double longitude) { this.longitude = longitude; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+
+    public Double getAverageHealthScore() { return averageHealthScore; }
+    public void setAverageHealthScore(Double averageHealthScore) {
+        this.averageHealthScore = averageHealthScore != null ?
+                Math.round(averageHealthScore * 10.0) / 10.0 : null;
+    }
+
+    public Double getAverageHygieneScore() { return averageHygieneScore; }
+    public void setAverageHygieneScore(Double averageHygieneScore) {
+        this.averageHygieneScore = averageHygieneScore != null ?
+                Math.round(averageHygieneScore * 10.0) / 10.0 : null;
+    }
+
+    public Long getReviewCount() { return reviewCount; }
+    public void setReviewCount(Long reviewCount) { this.reviewCount = reviewCount; }
+}
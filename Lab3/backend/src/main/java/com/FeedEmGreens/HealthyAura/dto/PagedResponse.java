@@ -0,0 +1,79 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.List;
+
+/**
+ * Generic Data Transfer Object (DTO) for one page of a paginated listing.
+ *
+ * <p>Used instead of serializing Spring Data's {@code Page} directly, so that the
+ * JSON shape stays stable and independent of framework internals.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "content": [ ... ],
+ *   "page": 0,
+ *   "size": 50,
+ *   "totalElements": 1243,
+ *   "totalPages": 25
+ * }
+ * </pre>
+ *
+ * @param <T> the element type
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.EaterySummary
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PagedResponse<T> {
+
+    /** The elements on this page. */
+    private List<T> content;
+
+    /** The zero-based page index. */
+    private int page;
+
+    /** The requested page size. */
+    private int size;
+
+    /** The total number of elements across all pages. */
+    private long totalElements;
+
+    /** The total number of pages. */
+    private int totalPages;
+
+    /** Default constructor for framework usage. */
+    public PagedResponse() {}
+
+    /**
+     * Constructs a page and derives {@code totalPages} from the total and page size.
+     *
+     * @param content       the elements on this page
+     * @param page          the zero-based page index
+     * @param size          the page size
+     * @param totalElements the total number of elements
+     */
+    public PagedResponse(List<T> content, int page, int size, long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = size > 0 ? (int) ((totalElements + size - 1) / size) : 0;
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public long getTotalElements() { return totalElements; }
+    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+
+    public int getTotalPages() { return totalPages; }
+    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+}
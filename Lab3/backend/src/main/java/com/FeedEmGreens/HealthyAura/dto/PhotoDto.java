@@ -0,0 +1,50 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) describing a review photo and its variants.
+ *
+ * <p>Photos uploaded through {@code POST /api/photos} are stored locally and
+ * have a separate thumbnail; photos referenced by external URL use the same URL
+ * for both variants.</p>
+ *
+ * <p>Example JSON:</p>
+ * <pre>
+ * {
+ *   "original": "/api/photos/original/9f86d0...0a08.jpg",
+ *   "thumbnail": "/api/photos/thumbnail/9f86d0...0a08.jpg"
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.PhotoStorageService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PhotoDto {
+
+    /** URL of the full-resolution photo. */
+    private String original;
+
+    /** URL of the thumbnail, for lists and previews. */
+    private String thumbnail;
+
+    /** Default constructor. */
+    public PhotoDto() {}
+
+    /**
+     * Constructs a photo DTO.
+     *
+     * @param original  URL of the full-resolution photo
+     * @param thumbnail URL of the thumbnail
+     */
+    public PhotoDto(String original, String thumbnail) {
+        this.original = original;
+        this.thumbnail = thumbnail;
+    }
+
+    public String getOriginal() { return original; }
+    public void setOriginal(String original) { this.original = original; }
+
+    public String getThumbnail() { return thumbnail; }
+    public void setThumbnail(String thumbnail) { this.thumbnail = thumbnail; }
+}
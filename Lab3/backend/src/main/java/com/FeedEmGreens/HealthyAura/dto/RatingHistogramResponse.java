@@ -0,0 +1,68 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) representing the star distribution of an eatery's
+ * visible reviews.
+ *
+ * <p>Health and hygiene counts are keyed by score, from 1 to 5.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "eateryId": 12,
+ *   "totalReviews": 18,
+ *   "health": { "1": 0, "2": 1, "3": 4, "4": 6, "5": 7 },
+ *   "hygiene": { "1": 1, "2": 0, "3": 5, "4": 8, "5": 4 }
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.RatingHistogram
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class RatingHistogramResponse {
+
+    private Long eateryId;
+    private long totalReviews;
+    private Map<Integer, Long> health;
+    private Map<Integer, Long> hygiene;
+
+    /** Default constructor. */
+    public RatingHistogramResponse() {}
+
+    /**
+     * Constructs a histogram response from per-score counts.
+     *
+     * @param eateryId      the eatery ID
+     * @param healthCounts  counts for health scores 1–5 (index 0 holds 1-star counts)
+     * @param hygieneCounts counts for hygiene scores 1–5 (index 0 holds 1-star counts)
+     */
+    public RatingHistogramResponse(Long eateryId, long[] healthCounts, long[] hygieneCounts) {
+        this.eateryId = eateryId;
+        this.health = toMap(healthCounts);
+        this.hygiene = toMap(hygieneCounts);
+        for (long count : healthCounts) totalReviews += count;
+    }
+
+    private static Map<Integer, Long> toMap(long[] counts) {
+        Map<Integer, Long> map = new LinkedHashMap<>();
+        for (int score = 1; score <= counts.length; score++) map.put(score, counts[score - 1]);
+        return map;
+    }
+
+    public Long getEateryId() { return eateryId; }
+    public void setEateryId(Long eateryId) { this.eateryId = eateryId; }
+
+    public long getTotalReviews() { return totalReviews; }
+    public void setTotalReviews(long totalReviews) { this.totalReviews = totalReviews; }
+
+    public Map<Integer, Long> getHealth() { return health; }
+    public void setHealth(Map<Integer, Long> health) { this.health = health; }
+
+    public Map<Integer, Long> getHygiene() { return hygiene; }
+    public void setHygiene(Map<Integer, Long> hygiene) { this.hygiene = hygiene; }
+}
@@ -0,0 +1,80 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) representing one review in a user's own review history.
+ *
+ * <p>Extends {@link ReviewResponse} with the review's moderation state, which only
+ * its author sees, and the reviewed eatery's current aggregate ratings, so the
+ * history can be shown without one request per eatery.</p>
+ *
+ * <p>Example JSON response (review fields omitted):</p>
+ * <pre>
+ * {
+ *   "id": 42,
+ *   "eateryId": 10,
+ *   "eateryName": "The Salad Stop",
+ *   ...
+ *   "hidden": false,
+ *   "eateryRatings": {
+ *     "averageHealthScore": 4.3,
+ *     "averageHygieneScore": 4.1,
+ *     "totalReviews": 27
+ *   }
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.ReviewResponse
+ * @see com.FeedEmGreens.HealthyAura.dto.AggregatedRatingsResponse
+ * @see com.FeedEmGreens.HealthyAura.controller.ProfileController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReviewHistoryEntry extends ReviewResponse {
+
+    /** Whether the review has been hidden by an admin. */
+    private boolean hidden;
+
+    /** The reviewed eatery's current aggregate ratings. */
+    private AggregatedRatingsResponse eateryRatings;
+
+    /** Default no-argument constructor. */
+    public ReviewHistoryEntry() {}
+
+    /**
+     * Projection constructor used by the history query's JPQL constructor expression.
+     * Photos and eatery ratings are attached separately, in one batched query each.
+     *
+     * @param id             the review ID
+     * @param eateryId       the reviewed eatery's ID
+     * @param eateryName     the reviewed eatery's name
+     * @param userId         the author's user ID
+     * @param authorAlias    the author's username
+     * @param healthScore    the health score
+     * @param hygieneScore   the hygiene score
+     * @param textFeedback   the text feedback
+     * @param createdAt      when the review was created
+     * @param updatedAt      when the review was last updated
+     * @param helpfulVotes   the flushed number of "helpful" votes
+     * @param unhelpfulVotes the flushed number of "not helpful" votes
+     * @param helpfulScore   the stored helpfulness score
+     * @param hidden         whether the review is hidden
+     */
+    public ReviewHistoryEntry(Long id, Long eateryId, String eateryName, Long userId, String authorAlias,
+                              Integer healthScore, Integer hygieneScore, String textFeedback,
+                              LocalDateTime createdAt, LocalDateTime updatedAt,
+                              Integer helpfulVotes, Integer unhelpfulVotes, Double helpfulScore,
+                              Boolean hidden) {
+        super(id, eateryId, eateryName, userId, authorAlias, healthScore, hygieneScore, textFeedback,
+                createdAt, updatedAt, helpfulVotes, unhelpfulVotes, helpfulScore);
+        this.hidden = Boolean.TRUE.equals(hidden);
+    }
+
+    public boolean isHidden() { return hidden; }
+    public void setHidden(boolean hidden) { this.hidden = hidden; }
+
+    public AggregatedRatingsResponse getEateryRatings() { return eateryRatings; }
+    public void setEateryRatings(AggregatedRatingsResponse eateryRatings) { this.eateryRatings = eateryRatings; }
+}
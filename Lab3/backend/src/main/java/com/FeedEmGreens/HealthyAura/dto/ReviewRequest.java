@@ -115,6 +115,9 @@ public class ReviewRequest {
     /**
      * Sets the list of photos associated with the review.
      *
+     * <p>Photos uploaded through {@code POST /api/photos} are referenced by the
+     * {@code original} URL returned from the upload.</p>
+     *
      * @param photos list of image URLs or encoded strings
      */
     public void setPhotos(List<String> photos) {
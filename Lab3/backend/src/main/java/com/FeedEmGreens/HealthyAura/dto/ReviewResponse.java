@@ -1,6 +1,7 @@
 package com.FeedEmGreens.HealthyAura.dto;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,10 +27,16 @@ import java.util.List;
  *   "hygieneScore": 4,
  *   "textFeedback": "Super fresh ingredients and clean environment!",
  *   "photos": [
- *     "https://example.com/reviews/photo1.jpg"
+ *     {
+ *       "original": "/api/photos/original/9f86d0...0a08.jpg",
+ *       "thumbnail": "/api/photos/thumbnail/9f86d0...0a08.jpg"
+ *     }
  *   ],
  *   "createdAt": "2025-11-07T12:15:00",
  *   "updatedAt": "2025-11-07T13:00:00",
+ *   "helpfulVotes": 12,
+ *   "unhelpfulVotes": 1,
+ *   "helpfulScore": 0.6669,
  *   "isOwnReview": true
  * }
  * </pre>
@@ -67,8 +74,8 @@ public class ReviewResponse {
     /** Optional text feedback provided by the user. */
     private String textFeedback;
 
-    /** List of photo URLs or encoded images attached to the review. */
-    private List<String> photos;
+    /** Photos attached to the review, each with its original and thumbnail URLs. */
+    private List<PhotoDto> photos;
 
     /** The date and time when the review was created. */
     private LocalDateTime createdAt;
@@ -79,9 +86,58 @@ public class ReviewResponse {
     /** Indicates whether this review belongs to the currently logged-in user. */
     private Boolean isOwnReview;
 
+    /** Number of "helpful" votes, including votes not yet flushed to the database. */
+    private int helpfulVotes;
+
+    /** Number of "not helpful" votes, including votes not yet flushed to the database. */
+    private int unhelpfulVotes;
+
+    /** Helpfulness score used by the "most helpful" sort, updated when votes are flushed. */
+    private double helpfulScore;
+
     /** Default no-argument constructor. */
     public ReviewResponse() {}
 
+    /**
+     * Projection constructor used by the review read path's JPQL constructor
+     * expressions. Photos are attached separately in one batched query, and
+     * {@code isOwnReview} is set by the service.
+     *
+     * @param id             the review ID
+     * @param eateryId       the reviewed eatery's ID
+     * @param eateryName     the reviewed eatery's name
+     * @param userId         the author's user ID
+     * @param authorAlias    the author's username
+     * @param healthScore    the health score
+     * @param hygieneScore   the hygiene score
+     * @param textFeedback   the text feedback
+     * @param createdAt      when the review was created
+     * @param updatedAt      when the review was last updated
+     * @param helpfulVotes   the flushed number of "helpful" votes
+     * @param unhelpfulVotes the flushed number of "not helpful" votes
+     * @param helpfulScore   the stored helpfulness score
+     */
+    public ReviewResponse(Long id, Long eateryId, String eateryName, Long userId, String authorAlias,
+                          Integer healthScore, Integer hygieneScore, String textFeedback,
+                          LocalDateTime createdAt, LocalDateTime updatedAt,
+                          Integer helpfulVotes, Integer unhelpfulVotes, Double helpfulScore) {
+        this.id = id;
+        this.eateryId = eateryId;
+        this.eateryName = eateryName;
+        this.userId = userId;
+        this.authorAlias = authorAlias;
+        this.healthScore = healthScore;
+        this.hygieneScore = hygieneScore;
+        this.textFeedback = textFeedback;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.helpfulVotes = helpfulVotes != null ? helpfulVotes : 0;
+        this.unhelpfulVotes = unhelpfulVotes != null ? unhelpfulVotes : 0;
+        this.helpfulScore = helpfulScore != null ? helpfulScore : 0;
+        this.photos = new ArrayList<>();
+        this.isOwnReview = false;
+    }
+
     // ------------------ Getters and Setters ------------------
 
     /** @return the unique ID of the review */
@@ -133,10 +189,10 @@ public class ReviewResponse {
     public void setTextFeedback(String textFeedback) { this.textFeedback = textFeedback; }
 
     /** @return the list of photo URLs or image strings attached to the review */
-    public List<String> getPhotos() { return photos; }
+    public List<PhotoDto> getPhotos() { return photos; }
 
-    /** @param photos the list of photo URLs or encoded image strings */
-    public void setPhotos(List<String> photos) { this.photos = photos; }
+    /** @param photos the review's photos, with their original and thumbnail URLs */
+    public void setPhotos(List<PhotoDto> photos) { this.photos = photos; }
 
     /** @return the timestamp when the review was created */
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -150,6 +206,24 @@ public class ReviewResponse {
     /** @param updatedAt the update timestamp to set */
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    /** @return the number of "helpful" votes */
+    public int getHelpfulVotes() { return helpfulVotes; }
+
+    /** @param helpfulVotes the number of "helpful" votes to set */
+    public void setHelpfulVotes(int helpfulVotes) { this.helpfulVotes = helpfulVotes; }
+
+    /** @return the number of "not helpful" votes */
+    public int getUnhelpfulVotes() { return unhelpfulVotes; }
+
+    /** @param unhelpfulVotes the number of "not helpful" votes to set */
+    public void setUnhelpfulVotes(int unhelpfulVotes) { this.unhelpfulVotes = unhelpfulVotes; }
+
+    /** @return the helpfulness score */
+    public double getHelpfulScore() { return helpfulScore; }
+
+    /** @param helpfulScore the helpfulness score to set */
+    public void setHelpfulScore(double helpfulScore) { this.helpfulScore = helpfulScore; }
+
     /** @return {@code true} if this review belongs to the logged-in user, otherwise {@code false} */
     public Boolean getIsOwnReview() { return isOwnReview; }
 
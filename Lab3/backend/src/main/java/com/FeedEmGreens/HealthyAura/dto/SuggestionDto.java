@@ -0,0 +1,61 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) representing a single typeahead suggestion for the
+ * eatery search box.
+ *
+ * <p>Suggestions are returned by <code>/api/eateries/suggest</code> and can refer to
+ * an eatery name, a building name, a postal code, or a dietary tag. Eatery
+ * suggestions also carry the eatery ID so the frontend can open it directly.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * [
+ *   { "text": "Green Delights", "type": "EATERY", "eateryId": 12 },
+ *   { "text": "Greenwood Mall", "type": "BUILDING", "eateryId": null },
+ *   { "text": "Gluten-Free", "type": "TAG", "eateryId": null }
+ * ]
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.SuggestionTrie
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SuggestionDto {
+
+    /** The text to display and to use as the search query when selected. */
+    private String text;
+
+    /** The suggestion category: EATERY, BUILDING, POSTAL_CODE, or TAG. */
+    private String type;
+
+    /** The eatery ID for EATERY suggestions; {@code null} otherwise. */
+    private Long eateryId;
+
+    /** Default constructor for framework usage. */
+    public SuggestionDto() {}
+
+    /**
+     * Constructs a suggestion.
+     *
+     * @param text     the display text
+     * @param type     the suggestion category
+     * @param eateryId the eatery ID, if the suggestion refers to a single eatery
+     */
+    public SuggestionDto(String text, String type, Long eateryId) {
+        this.text = text;
+        this.type = type;
+        this.eateryId = eateryId;
+    }
+
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public Long getEateryId() { return eateryId; }
+    public void setEateryId(Long eateryId) { this.eateryId = eateryId; }
+}
@@ -0,0 +1,110 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) reporting the progress of an eatery sync job.
+ *
+ * <p>Returned by <code>POST /api/eateries/sync</code> (which starts the job) and
+ * <code>GET /api/eateries/sync/{jobId}</code> (which polls it).</p>
+ *
+ * <p>Status values: <code>FETCHING</code> (downloading the datasets),
+ * <code>SAVING</code> (upserting eateries), <code>COMPLETED</code>, or
+ * <code>FAILED</code>. A job completes even if some sources failed; they are
+ * listed in <code>failedSources</code>.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * {
+ *   "jobId": "5f0c7a0e-2b1d-4d1e-9d57-0b6f3f6f7c11",
+ *   "status": "SAVING",
+ *   "parsed": 1650,
+ *   "inserted": 12,
+ *   "updated": 3,
+ *   "skipped": 803,
+ *   "sources": { "healthier-eateries": 1650 },
+ *   "failedSources": {},
+ *   "startedAt": "2026-10-18T09:30:00",
+ *   "finishedAt": null,
+ *   "error": null
+ * }
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.EaterySyncService
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SyncJobStatus {
+
+    /** The unique job identifier. */
+    private String jobId;
+
+    /** The current phase of the job. */
+    private String status;
+
+    /** The number of records parsed across all sources. */
+    private int parsed;
+
+    /** The number of new eateries inserted so far. */
+    private int inserted;
+
+    /** The number of existing eateries enriched from matching records so far. */
+    private int updated;
+
+    /** The number of records skipped as invalid or duplicates so far. */
+    private int skipped;
+
+    /** Records parsed per ingestion source. */
+    private Map<String, Integer> sources;
+
+    /** Failure reason per ingestion source that failed. */
+    private Map<String, String> failedSources;
+
+    /** When the job was started. */
+    private LocalDateTime startedAt;
+
+    /** When the job finished, or {@code null} while running. */
+    private LocalDateTime finishedAt;
+
+    /** The failure reason for FAILED jobs. */
+    private String error;
+
+    /** Default constructor for framework usage. */
+    public SyncJobStatus() {}
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getParsed() { return parsed; }
+    public void setParsed(int parsed) { this.parsed = parsed; }
+
+    public int getInserted() { return inserted; }
+    public void setInserted(int inserted) { this.inserted = inserted; }
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public int getSkipped() { return skipped; }
+    public void setSkipped(int skipped) { this.skipped = skipped; }
+
+    public Map<String, Integer> getSources() { return sources; }
+    public void setSources(Map<String, Integer> sources) { this.sources = sources; }
+
+    public Map<String, String> getFailedSources() { return failedSources; }
+    public void setFailedSources(Map<String, String> failedSources) { this.failedSources = failedSources; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,51 @@
+package com.FeedEmGreens.HealthyAura.dto;
+
+/**
+ * Data Transfer Object (DTO) representing one tag facet of a search result set.
+ *
+ * <p>Returned by <code>/api/eateries/facets</code>: for each tag, the number of
+ * eateries in the current result set that carry it. The frontend uses these to
+ * render filter chips such as “Vegan (12)”.</p>
+ *
+ * <p>Example JSON response:</p>
+ * <pre>
+ * [
+ *   { "tag": "Vegan", "count": 12 },
+ *   { "tag": "Halal", "count": 7 }
+ * ]
+ * </pre>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TagFacetDto {
+
+    /** The canonical display name of the tag. */
+    private String tag;
+
+    /** The number of eateries in the result set carrying the tag. */
+    private long count;
+
+    /** Default constructor for framework usage. */
+    public TagFacetDto() {}
+
+    /**
+     * Constructs a facet entry.
+     *
+     * @param tag   the tag display name
+     * @param count the number of matching eateries
+     */
+    public TagFacetDto(String tag, long count) {
+        this.tag = tag;
+        this.count = count;
+    }
+
+    public String getTag() { return tag; }
+    public void setTag(String tag) { this.tag = tag; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
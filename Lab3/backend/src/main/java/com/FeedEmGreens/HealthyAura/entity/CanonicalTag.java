@@ -0,0 +1,118 @@
+package com.FeedEmGreens.HealthyAura.entity;
+
+import jakarta.persistence.*;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Entity representing one entry of the canonical dietary tag vocabulary.
+ *
+ * <p>Free-text tags entered by admins (e.g., “Vegan”, “vegan ”, “VEGAN”) are resolved
+ * to a single {@code CanonicalTag} through its normalized name or one of its
+ * synonyms, and every {@link DietaryTags} row references the canonical entry it was
+ * resolved to. This keeps tag filters and facet counts consistent without
+ * case-insensitive string comparisons.</p>
+ *
+ * <p>Entries are stored in the <b>tag_vocabulary</b> table, with synonyms in
+ * <b>tag_synonyms</b>.</p>
+ *
+ * <p>Example use cases:</p>
+ * <ul>
+ *   <li>Mapping “Plant Based” to the canonical “Vegan” tag via a synonym</li>
+ *   <li>Listing the most used tags for filter chips on the search page</li>
+ * </ul>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.DietaryTags
+ * @see com.FeedEmGreens.HealthyAura.repository.CanonicalTagRepository
+ * @see com.FeedEmGreens.HealthyAura.service.TagVocabularyService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "tag_vocabulary")
+public class CanonicalTag {
+
+    /** Unique identifier of the canonical tag. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** The normalized lookup key (see {@link #normalize(String)}), unique across the vocabulary. */
+    @Column(name = "normalized_name", length = 100, nullable = false, unique = true)
+    private String normalizedName;
+
+    /** The display form stored on eatery tags (e.g., “Gluten-Free”). */
+    @Column(name = "display_name", length = 100, nullable = false)
+    private String displayName;
+
+    /** Normalized alternative spellings that resolve to this tag. */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "tag_synonyms", joinColumns = @JoinColumn(name = "tag_id"))
+    @Column(name = "synonym", length = 100, nullable = false, unique = true)
+    private Set<String> synonyms = new HashSet<>();
+
+    /** Number of eatery tag assignments referencing this tag. */
+    @Column(name = "usage_count", nullable = false)
+    private Long usageCount = 0L;
+
+    /** Default no-argument constructor for JPA. */
+    public CanonicalTag() {}
+
+    /**
+     * Constructs a canonical tag from its display form.
+     *
+     * @param displayName the display form; its normalized form becomes the lookup key
+     */
+    public CanonicalTag(String displayName) {
+        this.displayName = displayName.trim();
+        this.normalizedName = normalize(displayName);
+    }
+
+    /**
+     * Normalizes a tag for lookup: trimmed, lower-cased, with hyphens, underscores,
+     * and runs of whitespace collapsed into a single space.
+     *
+     * <p>“Gluten-Free”, “gluten free” and “ GLUTEN_FREE ” all normalize to
+     * {@code "gluten free"}.</p>
+     *
+     * @param tag the raw tag
+     * @return the normalized tag, or an empty string for {@code null}
+     */
+    public static String normalize(String tag) {
+        if (tag == null) return "";
+        return tag.toLowerCase(Locale.ROOT).replaceAll("[\\s_\\-]+", " ").trim();
+    }
+
+    /** @return the unique identifier of the tag */
+    public Long getId() { return id; }
+
+    /** @param id sets the unique identifier of the tag */
+    public void setId(Long id) { this.id = id; }
+
+    /** @return the normalized lookup key */
+    public String getNormalizedName() { return normalizedName; }
+
+    /** @param normalizedName sets the normalized lookup key */
+    public void setNormalizedName(String normalizedName) { this.normalizedName = normalizedName; }
+
+    /** @return the display form of the tag */
+    public String getDisplayName() { return displayName; }
+
+    /** @param displayName sets the display form of the tag */
+    public void setDisplayName(String displayName) { this.displayName = displayName; }
+
+    /** @return the normalized synonyms of the tag */
+    public Set<String> getSynonyms() { return synonyms; }
+
+    /** @param synonyms sets the normalized synonyms of the tag */
+    public void setSynonyms(Set<String> synonyms) { this.synonyms = synonyms; }
+
+    /** @return the number of eatery tag assignments referencing this tag */
+    public Long getUsageCount() { return usageCount; }
+
+    /** @param usageCount sets the usage count */
+    public void setUsageCount(Long usageCount) { this.usageCount = usageCount; }
+}
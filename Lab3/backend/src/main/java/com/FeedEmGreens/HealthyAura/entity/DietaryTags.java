@@ -50,6 +50,15 @@ public class DietaryTags {
     @JsonIgnore
     private Eatery eatery;
 
+    /**
+     * The canonical vocabulary entry this tag was resolved to.
+     * <p>{@code null} only for legacy rows not yet linked at startup.</p>
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "canonical_tag_id")
+    @JsonIgnore
+    private CanonicalTag canonicalTag;
+
     /** Default no-argument constructor for JPA. */
     public DietaryTags() {}
 
@@ -92,6 +101,12 @@ public class DietaryTags {
     /** @param eatery sets the {@link Eatery} entity linked to this tag */
     public void setEatery(Eatery eatery) { this.eatery = eatery; }
 
+    /** @return the canonical vocabulary entry of this tag */
+    public CanonicalTag getCanonicalTag() { return canonicalTag; }
+
+    /** @param canonicalTag sets the canonical vocabulary entry of this tag */
+    public void setCanonicalTag(CanonicalTag canonicalTag) { this.canonicalTag = canonicalTag; }
+
     /**
      * Returns the tag string when this entity is printed or logged.
      *
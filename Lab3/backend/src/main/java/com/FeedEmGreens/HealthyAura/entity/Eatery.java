@@ -22,6 +22,7 @@ import java.util.ArrayList;
  * </ul>
  *
  * @see com.FeedEmGreens.HealthyAura.entity.DietaryTags
+ * @see com.FeedEmGreens.HealthyAura.entity.EateryDetails
  * @see com.FeedEmGreens.HealthyAura.dto.RecommendationDto
  * @see com.FeedEmGreens.HealthyAura.controller.EateryController
  * @see com.FeedEmGreens.HealthyAura.service.EateryService
@@ -54,8 +55,11 @@ public class Eatery {
     @Column(name = "postal_code")
     private Long postalCode;
 
-    /** A short description or overview of the eatery. */
-    @Column(columnDefinition = "TEXT")
+    /**
+     * A short description or overview of the eatery, as plain text.
+     * <p>Other dataset attributes are kept in {@link EateryDetails}, outside this row.</p>
+     */
+    @Column(length = 1000)
     private String description;
 
     /** The longitude coordinate of the eatery’s location. */
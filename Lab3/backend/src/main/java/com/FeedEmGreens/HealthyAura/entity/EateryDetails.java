@@ -0,0 +1,112 @@
+package com.FeedEmGreens.HealthyAura.entity;
+
+import jakarta.persistence.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Entity holding the secondary dataset attributes of an {@link Eatery}.
+ *
+ * <p>The open datasets describe each eatery with an HTML attribute table. Fields
+ * used across the app (name, address, postal code, description) are parsed into
+ * typed {@link Eatery} columns at ingest; everything else (e.g., unit number,
+ * website) is kept here as a compact key-value map, and the raw HTML is kept
+ * only when {@code ingestion.store-raw-html} is enabled, gzip-compressed.</p>
+ *
+ * <p>This entity shares its primary key with the eatery but is deliberately not
+ * mapped from {@link Eatery}, so list and search queries never load it; it is
+ * read only by the eatery details endpoint. Rows are stored in the
+ * <b>eatery_details</b> table, with attributes in <b>eatery_attributes</b>.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.Eatery
+ * @see com.FeedEmGreens.HealthyAura.repository.EateryDetailsRepository
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "eatery_details")
+public class EateryDetails {
+
+    /** The ID of the eatery these details belong to. */
+    @Id
+    @Column(name = "eatery_id")
+    private Long eateryId;
+
+    /** Additional dataset attributes, keyed by dataset attribute name. */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "eatery_attributes", joinColumns = @JoinColumn(name = "eatery_id"))
+    @MapKeyColumn(name = "attr_key", length = 64)
+    @Column(name = "attr_value", length = 500)
+    private Map<String, String> attributes = new LinkedHashMap<>();
+
+    /** The gzip-compressed raw HTML description, if stored. */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "raw_html_gz")
+    private byte[] rawHtmlGz;
+
+    /** Default no-argument constructor for JPA. */
+    public EateryDetails() {}
+
+    /**
+     * Constructs the details of an eatery.
+     *
+     * @param eateryId   the eatery ID
+     * @param attributes the additional dataset attributes
+     */
+    public EateryDetails(Long eateryId, Map<String, String> attributes) {
+        this.eateryId = eateryId;
+        this.attributes = new LinkedHashMap<>(attributes);
+    }
+
+    public Long getEateryId() { return eateryId; }
+
+    public Map<String, String> getAttributes() { return attributes; }
+    public void setAttributes(Map<String, String> attributes) { this.attributes = attributes; }
+
+    /** @return whether the raw HTML description was stored */
+    public boolean hasRawHtml() { return rawHtmlGz != null; }
+
+    /**
+     * Returns the raw HTML description.
+     *
+     * @return the decompressed HTML, or {@code null} if it was not stored
+     */
+    public String getRawHtml() {
+        if (rawHtmlGz == null) return null;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(rawHtmlGz))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stores the raw HTML description, gzip-compressed.
+     *
+     * @param html the raw HTML, or {@code null} to clear it
+     */
+    public void setRawHtml(String html) {
+        if (html == null || html.isEmpty()) {
+            this.rawHtmlGz = null;
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(html.length() / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(html.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.rawHtmlGz = bytes.toByteArray();
+    }
+}
@@ -0,0 +1,133 @@
+package com.FeedEmGreens.HealthyAura.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a domain event waiting to be delivered to in-process subscribers.
+ *
+ * <p>Events are inserted in the same transaction as the change they describe
+ * (a review being created, hidden, deleted, ...), so an event exists if and only
+ * if that change committed. The outbox relay later delivers them and marks them
+ * <code>PUBLISHED</code>.</p>
+ *
+ * <p>Entries are stored in the <b>outbox_events</b> database table.</p>
+ *
+ * <p>Possible statuses:
+ * <ul>
+ *   <li><b>PENDING</b> — waiting for delivery, or for a retry after a failed one</li>
+ *   <li><b>PUBLISHED</b> — delivered to every subscriber</li>
+ *   <li><b>FAILED</b> — delivery kept failing and was given up</li>
+ * </ul>
+ * </p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ * @see com.FeedEmGreens.HealthyAura.repository.OutboxEventRepository
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // Relay poll: pending events that are due, in insertion order.
+        @Index(name = "idx_outbox_pending", columnList = "status, next_attempt_at, id")
+})
+public class OutboxEvent {
+
+    /** Unique identifier; also the delivery order. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** The event type (e.g., REVIEW_CREATED, REVIEW_HIDDEN). */
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    /** The type of entity the event is about (e.g., REVIEW). */
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    /** The ID of the entity the event is about. */
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    /** Event details as a JSON object. */
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    /** Delivery status: PENDING, PUBLISHED, or FAILED. */
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = "PENDING";
+
+    /** Number of failed delivery attempts. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    /** Earliest time of the next delivery attempt. */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** Error message of the last failed attempt. */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /** Timestamp when the event was recorded. */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Timestamp when the event was delivered. */
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    /** Default no-argument constructor for JPA. */
+    public OutboxEvent() {}
+
+    /**
+     * Constructs a pending event.
+     *
+     * @param eventType     the event type
+     * @param aggregateType the type of entity the event is about
+     * @param aggregateId   the ID of that entity
+     * @param payload       the event details as JSON
+     * @param createdAt     the event time
+     */
+    public OutboxEvent(String eventType, String aggregateType, Long aggregateId, String payload, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getEventType() { return eventType; }
+    public void setEventType(String eventType) { this.eventType = eventType; }
+
+    public String getAggregateType() { return aggregateType; }
+    public void setAggregateType(String aggregateType) { this.aggregateType = aggregateType; }
+
+    public Long getAggregateId() { return aggregateId; }
+    public void setAggregateId(Long aggregateId) { this.aggregateId = aggregateId; }
+
+    public String getPayload() { return payload; }
+    public void setPayload(String payload) { this.payload = payload; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+}
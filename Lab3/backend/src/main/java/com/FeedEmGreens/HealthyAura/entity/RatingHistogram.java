@@ -0,0 +1,102 @@
+package com.FeedEmGreens.HealthyAura.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Entity holding the star distribution of an eatery's visible reviews.
+ *
+ * <p>Each row counts, for one eatery, how many visible (non-deleted, non-hidden)
+ * reviews gave each health score and each hygiene score from 1 to 5 – a 2×5
+ * histogram. It is kept up to date incrementally by
+ * {@link com.FeedEmGreens.HealthyAura.service.RatingHistogramService} whenever a
+ * review is created, edited, deleted, hidden, or unhidden, so reading it is a
+ * single primary-key lookup instead of an aggregate over the eatery's reviews.</p>
+ *
+ * <p>Like {@link EateryDetails}, this entity shares its primary key with the
+ * eatery without being mapped from {@link Eatery}. Rows are stored in the
+ * <b>rating_histograms</b> table.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.RatingHistogramService
+ * @see com.FeedEmGreens.HealthyAura.repository.RatingHistogramRepository
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "rating_histograms")
+public class RatingHistogram {
+
+    /** The ID of the eatery this histogram belongs to. */
+    @Id
+    @Column(name = "eatery_id")
+    private Long eateryId;
+
+    @Column(name = "health_1", nullable = false) private long health1;
+    @Column(name = "health_2", nullable = false) private long health2;
+    @Column(name = "health_3", nullable = false) private long health3;
+    @Column(name = "health_4", nullable = false) private long health4;
+    @Column(name = "health_5", nullable = false) private long health5;
+
+    @Column(name = "hygiene_1", nullable = false) private long hygiene1;
+    @Column(name = "hygiene_2", nullable = false) private long hygiene2;
+    @Column(name = "hygiene_3", nullable = false) private long hygiene3;
+    @Column(name = "hygiene_4", nullable = false) private long hygiene4;
+    @Column(name = "hygiene_5", nullable = false) private long hygiene5;
+
+    /** Default no-argument constructor for JPA. */
+    public RatingHistogram() {}
+
+    /**
+     * Constructs an empty histogram for an eatery.
+     *
+     * @param eateryId the eatery ID
+     */
+    public RatingHistogram(Long eateryId) {
+        this.eateryId = eateryId;
+    }
+
+    public Long getEateryId() { return eateryId; }
+
+    /** @return the number of visible reviews per health score; index 0 holds 1-star counts */
+    public long[] getHealthCounts() {
+        return new long[] { health1, health2, health3, health4, health5 };
+    }
+
+    /** @return the number of visible reviews per hygiene score; index 0 holds 1-star counts */
+    public long[] getHygieneCounts() {
+        return new long[] { hygiene1, hygiene2, hygiene3, hygiene4, hygiene5 };
+    }
+
+    /**
+     * Adds {@code delta} reviews with the given scores to the histogram.
+     *
+     * @param healthScore  the health score (1–5)
+     * @param hygieneScore the hygiene score (1–5)
+     * @param delta        the number of reviews to add; negative to remove
+     * @throws IllegalArgumentException if a score is out of range
+     */
+    public void adjust(int healthScore, int hygieneScore, long delta) {
+        switch (healthScore) {
+            case 1 -> health1 += delta;
+            case 2 -> health2 += delta;
+            case 3 -> health3 += delta;
+            case 4 -> health4 += delta;
+            case 5 -> health5 += delta;
+            default -> throw new IllegalArgumentException("Scores must be between 1 and 5");
+        }
+        switch (hygieneScore) {
+            case 1 -> hygiene1 += delta;
+            case 2 -> hygiene2 += delta;
+            case 3 -> hygiene3 += delta;
+            case 4 -> hygiene4 += delta;
+            case 5 -> hygiene5 += delta;
+            default -> throw new IllegalArgumentException("Scores must be between 1 and 5");
+        }
+    }
+
+    /** Resets every count to zero. */
+    public void clear() {
+        health1 = health2 = health3 = health4 = health5 = 0;
+        hygiene1 = hygiene2 = hygiene3 = hygiene4 = hygiene5 = 0;
+    }
+}
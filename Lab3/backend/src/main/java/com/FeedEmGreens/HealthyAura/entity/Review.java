@@ -1,6 +1,7 @@
 package com.FeedEmGreens.HealthyAura.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,7 +39,15 @@ import java.util.List;
  * @since 2025-11-07
  */
 @Entity
-@Table(name = "reviews")
+@Table(name = "reviews", indexes = {
+        // Keyset pagination of the per-eatery review feed, one index per sort mode.
+        @Index(name = "idx_reviews_feed_recent", columnList = "eatery_id, is_deleted, is_hidden, created_at, id"),
+        @Index(name = "idx_reviews_feed_health", columnList = "eatery_id, is_deleted, is_hidden, health_score, id"),
+        @Index(name = "idx_reviews_feed_hygiene", columnList = "eatery_id, is_deleted, is_hidden, hygiene_score, id"),
+        @Index(name = "idx_reviews_feed_helpful", columnList = "eatery_id, is_deleted, is_hidden, helpful_score, id"),
+        // Keyset pagination of a user's own review history.
+        @Index(name = "idx_reviews_user_history", columnList = "user_id, is_deleted, created_at, id")
+})
 public class Review {
 
     /** Unique identifier for the review. */
@@ -115,6 +124,27 @@ public class Review {
     @Column(name = "points_awarded")
     private Integer pointsAwarded = 0;
 
+    /*
+     * Vote columns are written only by the vote flush (ReviewVoteService), with
+     * increments in SQL; they are not updatable through the entity, so saving a
+     * review loaded earlier never overwrites newer counts.
+     */
+
+    /** Number of "helpful" votes, flushed periodically by the vote counter. */
+    @ColumnDefault("0")
+    @Column(name = "helpful_votes", nullable = false, updatable = false)
+    private Integer helpfulVotes = 0;
+
+    /** Number of "not helpful" votes, flushed periodically by the vote counter. */
+    @ColumnDefault("0")
+    @Column(name = "unhelpful_votes", nullable = false, updatable = false)
+    private Integer unhelpfulVotes = 0;
+
+    /** Wilson lower bound of the helpful ratio, recomputed whenever votes are flushed. */
+    @ColumnDefault("0")
+    @Column(name = "helpful_score", nullable = false, updatable = false)
+    private Double helpfulScore = 0.0;
+
     /** Default constructor initializing timestamps. */
     public Review() {
         this.createdAt = LocalDateTime.now();
@@ -258,4 +288,13 @@ public class Review {
 
     public Integer getPointsAwarded() { return pointsAwarded; }
     public void setPointsAwarded(Integer pointsAwarded) { this.pointsAwarded = pointsAwarded; }
+
+    public Integer getHelpfulVotes() { return helpfulVotes; }
+    public void setHelpfulVotes(Integer helpfulVotes) { this.helpfulVotes = helpfulVotes; }
+
+    public Integer getUnhelpfulVotes() { return unhelpfulVotes; }
+    public void setUnhelpfulVotes(Integer unhelpfulVotes) { this.unhelpfulVotes = unhelpfulVotes; }
+
+    public Double getHelpfulScore() { return helpfulScore; }
+    public void setHelpfulScore(Double helpfulScore) { this.helpfulScore = helpfulScore; }
 }
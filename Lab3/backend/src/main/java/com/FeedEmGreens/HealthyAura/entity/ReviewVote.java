@@ -0,0 +1,81 @@
+package com.FeedEmGreens.HealthyAura.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording one user's "helpful" or "not helpful" vote on a {@link Review}.
+ *
+ * <p>Each user can vote once per review, enforced by a unique constraint on
+ * (user, review). Votes are not written one by one: they are accepted in memory
+ * by {@link com.FeedEmGreens.HealthyAura.service.ReviewVoteService} and inserted
+ * in batches, together with the matching increments of the review's vote counts.</p>
+ *
+ * <p>Like {@link RatingHistogram}, this entity refers to reviews and users by ID
+ * without mapping the associations. Rows are stored in the <b>review_votes</b> table.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewVoteService
+ * @see com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepository
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Entity
+@Table(name = "review_votes", uniqueConstraints = {
+        // One vote per user and review; also serves loading a user's votes.
+        @UniqueConstraint(name = "uk_review_votes_user_review", columnNames = {"user_id", "review_id"})
+})
+public class ReviewVote {
+
+    /** Unique identifier for the vote. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** The ID of the review voted on. */
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    /** The ID of the user who voted. */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** {@code true} for "helpful", {@code false} for "not helpful". */
+    @Column(name = "helpful", nullable = false)
+    private boolean helpful;
+
+    /** Timestamp when the vote was cast. */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** Default no-argument constructor for JPA. */
+    public ReviewVote() {}
+
+    /**
+     * Constructs a vote.
+     *
+     * @param reviewId  the review voted on
+     * @param userId    the voter
+     * @param helpful   whether the review was found helpful
+     * @param createdAt when the vote was cast
+     */
+    public ReviewVote(Long reviewId, Long userId, boolean helpful, LocalDateTime createdAt) {
+        this.reviewId = reviewId;
+        this.userId = userId;
+        this.helpful = helpful;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+
+    public Long getReviewId() { return reviewId; }
+    public void setReviewId(Long reviewId) { this.reviewId = reviewId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public boolean isHelpful() { return helpful; }
+    public void setHelpful(boolean helpful) { this.helpful = helpful; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
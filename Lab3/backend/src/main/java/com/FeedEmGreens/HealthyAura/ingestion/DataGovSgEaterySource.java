@@ -0,0 +1,78 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+import org.json.JSONObject;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Eatery source backed by a data.gov.sg GeoJSON dataset.
+ *
+ * <p>Fetching is a two-step, non-blocking process chained with
+ * {@link HttpClient#sendAsync}: the API is polled for the current download URL,
+ * then the dataset itself is downloaded. Parsing is delegated to
+ * {@link GeoJsonEateryParser}.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.EaterySource
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DataGovSgEaterySource implements EaterySource {
+
+    /** Base URL for the data.gov.sg public API. */
+    private static final String URL = "https://api-open.data.gov.sg/v1/public/api/datasets/";
+
+    private final String name;
+    private final String datasetId;
+    private final HttpClient client;
+
+    /**
+     * Creates a source for one dataset.
+     *
+     * @param name      the source name
+     * @param datasetId the data.gov.sg dataset ID (e.g., {@code d_2925c2ccf75d1c135c2d469e0de3cee6})
+     * @param client    the HTTP client to use
+     */
+    public DataGovSgEaterySource(String name, String datasetId, HttpClient client) {
+        this.name = name;
+        this.datasetId = datasetId;
+        this.client = client;
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    /** @return the data.gov.sg dataset ID */
+    public String getDatasetId() { return datasetId; }
+
+    @Override
+    public CompletableFuture<String> fetch() {
+        HttpRequest pollRequest = HttpRequest.newBuilder()
+                .uri(URI.create(URL + datasetId + "/poll-download"))
+                .build();
+
+        return client.sendAsync(pollRequest, HttpResponse.BodyHandlers.ofString())
+                .thenCompose(pollResponse -> {
+                    JSONObject pollJson = new JSONObject(pollResponse.body());
+                    if (pollJson.getInt("code") != 0) {
+                        throw new RuntimeException("Failed to fetch poll-download data for " + datasetId);
+                    }
+
+                    String fetchUrl = pollJson.getJSONObject("data").getString("url");
+                    HttpRequest dataReq = HttpRequest.newBuilder().uri(URI.create(fetchUrl)).build();
+                    return client.sendAsync(dataReq, HttpResponse.BodyHandlers.ofString());
+                })
+                .thenApply(HttpResponse::body);
+    }
+
+    @Override
+    public List<EateryRequest> parse(String payload) {
+        return GeoJsonEateryParser.parse(payload);
+    }
+}
@@ -0,0 +1,62 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+
+/**
+ * Normalization stage of the ingestion pipeline.
+ *
+ * <p>Cleans records from any source into one consistent shape before they are
+ * de-duplicated: text fields are trimmed with whitespace collapsed, postal codes
+ * are reduced to six digits, descriptions are capped at the column length, and
+ * records without a name or with coordinates outside Singapore are rejected.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class EateryNormalizer {
+
+    /** Bounding box around Singapore used to reject malformed coordinates. */
+    private static final double MIN_LAT = 1.1, MAX_LAT = 1.5, MIN_LNG = 103.5, MAX_LNG = 104.1;
+
+    /** Length of the {@code description} column. */
+    private static final int MAX_DESCRIPTION = 1000;
+
+    private EateryNormalizer() {}
+
+    /**
+     * Normalizes a record in place.
+     *
+     * @param request the parsed record
+     * @return {@code true} if the record is usable; {@code false} if it should be skipped
+     */
+    public static boolean normalize(EateryRequest request) {
+        request.setName(clean(request.getName()));
+        request.setBuildingName(clean(request.getBuildingName()));
+        request.setAddress(clean(request.getAddress()));
+        request.setDescription(truncate(clean(request.getDescription()), MAX_DESCRIPTION));
+        request.setPostalCode(postalCode(request.getPostalCode()));
+
+        if (request.getName().isEmpty()) return false;
+        return request.getLatitude() >= MIN_LAT && request.getLatitude() <= MAX_LAT
+                && request.getLongitude() >= MIN_LNG && request.getLongitude() <= MAX_LNG;
+    }
+
+    /** Trims and collapses whitespace; {@code null} becomes empty. */
+    private static String clean(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ");
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    /** Keeps the digits of a postal code if they form a valid six-digit code. */
+    private static String postalCode(String value) {
+        if (value == null) return "";
+        String digits = value.replaceAll("\\D", "");
+        if (digits.length() == 5) digits = "0" + digits;
+        return digits.length() == 6 ? digits : "";
+    }
+}
@@ -0,0 +1,44 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A dataset that eateries can be ingested from.
+ *
+ * <p>A source covers the first two stages of the ingestion pipeline: it
+ * <em>fetches</em> the raw payload and <em>parses</em> it into
+ * {@link EateryRequest} records. Normalization, de-duplication and upserting are
+ * shared across sources and handled by {@link IngestionPipeline}.</p>
+ *
+ * <p>Implementations: {@link DataGovSgEaterySource} for data.gov.sg datasets and
+ * {@link FileEaterySource} for local files (used for fixtures and manual
+ * imports).</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface EaterySource {
+
+    /** @return a short, unique name for the source (e.g., {@code healthier-eateries}) */
+    String getName();
+
+    /**
+     * Fetches the raw dataset payload.
+     *
+     * @return a future of the payload; completes exceptionally if the fetch fails
+     */
+    CompletableFuture<String> fetch();
+
+    /**
+     * Parses a payload returned by {@link #fetch()}.
+     *
+     * @param payload the raw payload
+     * @return the parsed records, in dataset order
+     */
+    List<EateryRequest> parse(String payload);
+}
@@ -0,0 +1,56 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Eatery source that reads a data.gov.sg-style GeoJSON file from disk.
+ *
+ * <p>Used to test the pipeline against local fixtures and to import datasets
+ * that were downloaded manually. Configured through the
+ * {@code ingestion.files} property.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.EaterySource
+ * @see com.FeedEmGreens.HealthyAura.ingestion.GeoJsonEateryParser
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class FileEaterySource implements EaterySource {
+
+    private final String name;
+    private final Path path;
+
+    /**
+     * Creates a source for one file.
+     *
+     * @param name the source name
+     * @param path the GeoJSON file
+     */
+    public FileEaterySource(String name, Path path) {
+        this.name = name;
+        this.path = path;
+    }
+
+    @Override
+    public String getName() { return name; }
+
+    @Override
+    public CompletableFuture<String> fetch() {
+        try {
+            return CompletableFuture.completedFuture(Files.readString(path));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public List<EateryRequest> parse(String payload) {
+        return GeoJsonEateryParser.parse(payload);
+    }
+}
@@ -0,0 +1,110 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parser for the GeoJSON layout used by data.gov.sg point datasets.
+ *
+ * <p>Each feature carries its coordinates as {@code [longitude, latitude]} and its
+ * attributes inside an HTML table in the {@code Description} property, one
+ * {@code <th>KEY</th> <td>value</td>} pair per attribute. The healthier eateries,
+ * hawker centre and food stall datasets all share this layout.</p>
+ *
+ * <p>The table is parsed once per feature into a key-value map. Attributes with
+ * a matching {@link EateryRequest} field (name, building, street, postal code,
+ * description) are copied to it; the rest are kept in
+ * {@link EateryRequest#getAttributes()}, except dataset bookkeeping columns. The
+ * raw HTML is kept in {@link EateryRequest#getRawDescription()} so that callers can
+ * decide whether to store it.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.DataGovSgEaterySource
+ * @see com.FeedEmGreens.HealthyAura.ingestion.FileEaterySource
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GeoJsonEateryParser {
+
+    /** One attribute row of the description table. */
+    private static final Pattern ROW = Pattern.compile("<th>([^<]*)</th>\\s*<td>(.*?)</td>", Pattern.DOTALL);
+
+    /** Attributes copied to {@link EateryRequest} fields. */
+    private static final Set<String> MAPPED = Set.of(
+            "NAME", "ADDRESSBUILDINGNAME", "ADDRESSSTREETNAME", "ADDRESSPOSTALCODE", "DESCRIPTION");
+
+    /** Dataset bookkeeping attributes that are not kept. */
+    private static final Set<String> DROPPED = Set.of("INC_CRC", "FMEL_UPD_D");
+
+    private GeoJsonEateryParser() {}
+
+    /**
+     * Parses a GeoJSON feature collection into eatery records.
+     *
+     * @param payload the GeoJSON document
+     * @return one record per feature
+     * @throws org.json.JSONException if the payload is not a feature collection
+     */
+    public static List<EateryRequest> parse(String payload) {
+        List<EateryRequest> eateries = new ArrayList<>();
+        JSONArray jsonFeature = new JSONObject(payload).getJSONArray("features");
+
+        for (int i = 0; i < jsonFeature.length(); i++) {
+            JSONObject features = jsonFeature.getJSONObject(i);
+            JSONObject geometry = features.getJSONObject("geometry");
+            JSONObject properties = features.getJSONObject("properties");
+            JSONArray coordinates = geometry.getJSONArray("coordinates");
+
+            String descHtml = properties.optString("Description", "");
+            Map<String, String> attributes = attributes(descHtml);
+
+            EateryRequest eatery = new EateryRequest();
+            eatery.setName(attributes.getOrDefault("NAME", ""));
+            eatery.setBuildingName(attributes.getOrDefault("ADDRESSBUILDINGNAME", ""));
+            eatery.setAddress(attributes.getOrDefault("ADDRESSSTREETNAME", ""));
+            eatery.setPostalCode(attributes.getOrDefault("ADDRESSPOSTALCODE", ""));
+            eatery.setDescription(attributes.getOrDefault("DESCRIPTION", ""));
+            eatery.setRawDescription(descHtml);
+
+            Map<String, String> extra = new LinkedHashMap<>();
+            attributes.forEach((key, value) -> {
+                if (!MAPPED.contains(key) && !DROPPED.contains(key) && !value.isEmpty()) extra.put(key, value);
+            });
+            eatery.setAttributes(extra);
+
+            eatery.setLatitude(coordinates.getDouble(1));
+            eatery.setLongitude(coordinates.getDouble(0));
+
+            eateries.add(eatery);
+        }
+        return eateries;
+    }
+
+    /**
+     * Parses every attribute row of a feature's HTML description table.
+     *
+     * @param descHtml the {@code Description} property
+     * @return attribute name (upper case) → trimmed, unescaped value, in table order
+     */
+    static Map<String, String> attributes(String descHtml) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        Matcher matcher = ROW.matcher(descHtml);
+        while (matcher.find()) {
+            String key = matcher.group(1).trim().toUpperCase(Locale.ROOT);
+            if (!key.isEmpty()) attributes.putIfAbsent(key, unescape(matcher.group(2).trim()));
+        }
+        return attributes;
+    }
+
+    /** Decodes the HTML entities used in the datasets. */
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) return value;
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&#39;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+}
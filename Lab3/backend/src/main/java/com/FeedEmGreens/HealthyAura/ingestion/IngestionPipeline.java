@@ -0,0 +1,307 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.entity.EateryDetails;
+import com.FeedEmGreens.HealthyAura.repository.EateryDetailsRepository;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import com.FeedEmGreens.HealthyAura.service.AutoTagService;
+import com.FeedEmGreens.HealthyAura.service.EateryDeduplicationService;
+import com.FeedEmGreens.HealthyAura.service.EateryService;
+import com.FeedEmGreens.HealthyAura.service.SyncJob;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Multi-source eatery ingestion pipeline.
+ *
+ * <p>Every configured {@link EaterySource} is run through the same stages:
+ * <ol>
+ *   <li><strong>fetch</strong> and <strong>parse</strong> – by the source itself</li>
+ *   <li><strong>normalize</strong> – {@link EateryNormalizer}</li>
+ *   <li><strong>dedupe</strong> – fuzzy name + distance matching via
+ *       {@link EateryDeduplicationService.Matcher}, across all sources</li>
+ *   <li><strong>upsert</strong> – new eateries are inserted; a record matching an
+ *       existing eatery fills in any details that eatery is missing. Secondary
+ *       dataset attributes go to {@link EateryDetails}, with the raw HTML kept
+ *       (compressed) only if {@code ingestion.store-raw-html} is set</li>
+ *   <li><strong>auto-tag</strong> – inserted and updated eateries get the tags
+ *       implied by keywords in their name and description ({@link AutoTagService}),
+ *       added in one batch once all sources have finished</li>
+ * </ol>
+ * </p>
+ *
+ * <p>The first two stages run on one virtual thread per source, so sources are
+ * fetched in parallel and a slow or failing source never holds up the others.
+ * They hand normalized records to a single writer through a bounded queue
+ * ({@code ingestion.queue-capacity}), which keeps memory flat when a large
+ * dataset arrives faster than it can be saved. A source that fails is reported
+ * on the job while the remaining sources complete.</p>
+ *
+ * <p>Sources are configured with:
+ * <ul>
+ *   <li>{@code ingestion.datasets} – comma-separated {@code name=datasetId}
+ *       pairs for data.gov.sg datasets (e.g., hawker centres, food stalls)</li>
+ *   <li>{@code ingestion.files} – comma-separated {@code name=path} pairs for
+ *       local GeoJSON files</li>
+ * </ul>
+ * </p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.ingestion.EaterySource
+ * @see com.FeedEmGreens.HealthyAura.service.EaterySyncService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class IngestionPipeline {
+
+    @Value("${ingestion.datasets:healthier-eateries=d_2925c2ccf75d1c135c2d469e0de3cee6}")
+    private String datasets;
+
+    @Value("${ingestion.files:}")
+    private String files;
+
+    @Value("${ingestion.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${ingestion.store-raw-html:false}")
+    private boolean storeRawHtml;
+
+    @Autowired
+    private EateryService eateryService;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private EateryDetailsRepository eateryDetailsRepository;
+
+    @Autowired
+    private EaterySearchIndex eaterySearchIndex;
+
+    @Autowired
+    private EateryDeduplicationService eateryDeduplicationService;
+
+    @Autowired
+    private AutoTagService autoTagService;
+
+    /** Executor for the per-source fetch/parse stages; one virtual thread per source. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** HTTP client shared by the data.gov.sg sources. */
+    private final HttpClient client = HttpClient.newBuilder().executor(executor).build();
+
+    /** The configured sources, in configuration order. */
+    private List<EaterySource> sources = List.of();
+
+    /** A normalized record on its way to the writer; a {@code null} request marks the end of a source. */
+    private record Staged(String source, EateryRequest request) {}
+
+    /** Builds the sources from configuration. */
+    @PostConstruct
+    void configureSources() {
+        List<EaterySource> configured = new ArrayList<>();
+        parsePairs(datasets).forEach((name, id) -> configured.add(new DataGovSgEaterySource(name, id, client)));
+        parsePairs(files).forEach((name, path) -> configured.add(new FileEaterySource(name, Path.of(path))));
+        this.sources = List.copyOf(configured);
+    }
+
+    /** @return the configured sources */
+    public List<EaterySource> getSources() {
+        return sources;
+    }
+
+    /**
+     * Runs every configured source through the pipeline.
+     *
+     * <p>Blocks until all sources have finished; intended to be called from a
+     * background thread (see {@code EaterySyncService}). Progress is reported on
+     * {@code job} as records are parsed, inserted, updated, or skipped.</p>
+     *
+     * @param job the sync job to report progress to
+     * @throws IllegalStateException if every source failed
+     */
+    public void run(SyncJob job) {
+        BlockingQueue<Staged> queue = new ArrayBlockingQueue<>(queueCapacity);
+        List<Future<?>> producers = new ArrayList<>();
+        for (EaterySource source : sources) {
+            producers.add(executor.submit(() -> produce(source, queue, job)));
+        }
+
+        try {
+            consume(queue, sources.size(), job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ingestion was interrupted");
+        } finally {
+            producers.forEach(p -> p.cancel(true));
+        }
+
+        if (!sources.isEmpty() && job.failedSourceCount() == sources.size()) {
+            throw new IllegalStateException("All ingestion sources failed");
+        }
+    }
+
+    /** Fetch, parse, and normalize stages for one source. */
+    private void produce(EaterySource source, BlockingQueue<Staged> queue, SyncJob job) {
+        try {
+            List<EateryRequest> records = source.parse(source.fetch().join());
+            job.parsed(source.getName(), records.size());
+
+            for (EateryRequest record : records) {
+                if (EateryNormalizer.normalize(record)) {
+                    queue.put(new Staged(source.getName(), record));
+                } else {
+                    job.skipped();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            System.err.println("Ingestion source " + source.getName() + " failed: " + cause.getMessage());
+            job.sourceFailed(source.getName(), cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        }
+
+        try {
+            queue.put(new Staged(source.getName(), null));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Dedupe, upsert, and auto-tag stages; drains the queue until every source has finished. */
+    private void consume(BlockingQueue<Staged> queue, int sourceCount, SyncJob job) throws InterruptedException {
+        EateryDeduplicationService.Matcher matcher = eateryDeduplicationService.newMatcher();
+        Set<Long> incomplete = new HashSet<>(eateryRepository.findIdsWithMissingDetails());
+        Set<Long> withDetails = new HashSet<>(eateryDetailsRepository.findAllEateryIds());
+        Map<String, Set<Long>> autoTags = new HashMap<>();
+
+        int open = sourceCount;
+        while (open > 0) {
+            Staged item = queue.take();
+            if (item.request() == null) {
+                open--;
+                continue;
+            }
+            job.saving();
+            Eatery changed = upsert(item.request(), matcher, incomplete, withDetails, job);
+            if (changed != null) {
+                for (String tag : autoTagService.suggestTags(changed.getName(), changed.getDescription())) {
+                    autoTags.computeIfAbsent(tag, t -> new HashSet<>()).add(changed.getId());
+                }
+            }
+        }
+
+        if (!autoTags.isEmpty()) autoTagService.applyTags(autoTags);
+    }
+
+    /**
+     * Inserts a new eatery, or enriches the existing one it duplicates.
+     *
+     * <p>Either way, the record's secondary attributes are stored as
+     * {@link EateryDetails} if the eatery has none yet.</p>
+     *
+     * @return the inserted or updated eatery, or {@code null} if the record was skipped
+     */
+    private Eatery upsert(EateryRequest request, EateryDeduplicationService.Matcher matcher,
+                          Set<Long> incomplete, Set<Long> withDetails, SyncJob job) {
+        Eatery incoming = eateryService.convertToEntity(request);
+        Optional<Long> duplicate = matcher.findDuplicate(incoming.getName(), incoming.getLatitude(), incoming.getLongitude());
+
+        if (duplicate.isEmpty()) {
+            Eatery saved = eateryRepository.save(incoming);
+            eaterySearchIndex.index(saved);
+            matcher.add(saved.getId(), saved.getName(), saved.getLatitude(), saved.getLongitude());
+            if (isIncomplete(saved)) incomplete.add(saved.getId());
+            saveDetails(saved.getId(), request, withDetails);
+            job.inserted();
+            return saved;
+        }
+
+        Long existingId = duplicate.get();
+        saveDetails(existingId, request, withDetails);
+        Eatery existing = incomplete.contains(existingId) ? eateryRepository.findById(existingId).orElse(null) : null;
+        if (existing == null || !fillMissing(existing, incoming)) {
+            job.skipped();
+            return null;
+        }
+
+        Eatery saved = eateryRepository.save(existing);
+        eaterySearchIndex.index(saved);
+        if (!isIncomplete(saved)) incomplete.remove(existingId);
+        job.updated();
+        return saved;
+    }
+
+    /** Stores the record's attributes (and, if enabled, its raw HTML) for an eatery without details. */
+    private void saveDetails(Long eateryId, EateryRequest request, Set<Long> withDetails) {
+        if (withDetails.contains(eateryId)) return;
+        if (request.getAttributes().isEmpty() && !storeRawHtml) return;
+
+        EateryDetails details = new EateryDetails(eateryId, request.getAttributes());
+        if (storeRawHtml) details.setRawHtml(request.getRawDescription());
+        eateryDetailsRepository.save(details);
+        withDetails.add(eateryId);
+    }
+
+    /** Copies fields the existing eatery lacks from the incoming record. */
+    private static boolean fillMissing(Eatery existing, Eatery incoming) {
+        boolean changed = false;
+        if (isBlank(existing.getBuildingName()) && !isBlank(incoming.getBuildingName())) {
+            existing.setBuildingName(incoming.getBuildingName());
+            changed = true;
+        }
+        if (isBlank(existing.getAddress()) && !isBlank(incoming.getAddress())) {
+            existing.setAddress(incoming.getAddress());
+            changed = true;
+        }
+        if (existing.getPostalCode() == null && incoming.getPostalCode() != null) {
+            existing.setPostalCode(incoming.getPostalCode());
+            changed = true;
+        }
+        if (isBlank(existing.getDescription()) && !isBlank(incoming.getDescription())) {
+            existing.setDescription(incoming.getDescription());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static boolean isIncomplete(Eatery eatery) {
+        return isBlank(eatery.getBuildingName()) || isBlank(eatery.getAddress())
+                || eatery.getPostalCode() == null || isBlank(eatery.getDescription());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /** Parses {@code name=value} pairs separated by commas; malformed entries are ignored. */
+    private static Map<String, String> parsePairs(String config) {
+        Map<String, String> pairs = new LinkedHashMap<>();
+        if (config == null) return pairs;
+        for (String entry : config.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0 || eq == entry.length() - 1) continue;
+            pairs.put(entry.substring(0, eq).trim(), entry.substring(eq + 1).trim());
+        }
+        return pairs;
+    }
+
+    /** Stops the source threads on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
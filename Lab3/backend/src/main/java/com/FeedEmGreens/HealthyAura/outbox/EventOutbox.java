@@ -0,0 +1,307 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import com.FeedEmGreens.HealthyAura.entity.OutboxEvent;
+import com.FeedEmGreens.HealthyAura.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transactional outbox for domain events, with a relay that delivers them to
+ * in-process {@link OutboxSubscriber}s.
+ *
+ * <p>Services record events with {@link #publish} inside the transaction that makes
+ * the change, so an event is stored if and only if that change commits, and is
+ * never lost to a crash afterwards. A single background thread then:
+ * <ol>
+ *   <li>claims a batch of due events ({@code outbox.batch-size}), skipping rows
+ *       claimed by other instances, and leases them for a minute</li>
+ *   <li>delivers each event to every subscriber that accepts it, outside any
+ *       transaction</li>
+ *   <li>marks the delivered events <code>PUBLISHED</code>; events whose delivery
+ *       failed are retried with exponential backoff and marked <code>FAILED</code>
+ *       after {@code outbox.max-attempts} attempts</li>
+ * </ol>
+ * The relay wakes as soon as a transaction that recorded events commits, and
+ * otherwise polls every {@code outbox.poll-interval-ms}. An instance that crashes
+ * after delivering but before acknowledging a batch leaves its lease to expire,
+ * and the batch is delivered again: delivery is at-least-once.</p>
+ *
+ * <p>Published events are deleted after {@code outbox.retention-hours}.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.OutboxEvent
+ * @see com.FeedEmGreens.HealthyAura.outbox.OutboxSubscriber
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class EventOutbox {
+
+    /** How long a claimed batch is reserved for the instance that claimed it. */
+    private static final Duration LEASE = Duration.ofMinutes(1);
+
+    /** Longest wait between retries of a failing event. */
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofHours(1);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Subscribers are resolved when the relay starts, so they may depend on services that publish events. */
+    @Autowired
+    private ObjectProvider<OutboxSubscriber> subscriberProvider;
+
+    /** Maximum number of events claimed per batch. */
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    /** Interval between polls when no commit has signalled new events. */
+    @Value("${outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    /** Delivery attempts before an event is given up. */
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    /** How long published events are kept. */
+    @Value("${outbox.retention-hours:24}")
+    private int retentionHours;
+
+    /** Released when a transaction that recorded events commits. */
+    private final Semaphore signal = new Semaphore(0);
+
+    /** Subscribers that already handled an event whose delivery has not completed. Relay thread only. */
+    private final Map<Long, Set<Integer>> partialDeliveries = new HashMap<>();
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder givenUp = new LongAdder();
+
+    private volatile List<OutboxSubscriber> subscribers = List.of();
+    private TransactionTemplate relayTransaction;
+    private LocalDateTime nextCleanup = LocalDateTime.MIN;
+    private Thread worker;
+    private volatile boolean running;
+
+    /**
+     * Records an event in the current transaction (or in a new one, if there is none).
+     *
+     * @param eventType     the event type (e.g., REVIEW_CREATED)
+     * @param aggregateType the type of entity the event is about (e.g., REVIEW)
+     * @param aggregateId   the ID of that entity
+     * @param payload       the event details; values must be serializable to JSON
+     * @throws IllegalArgumentException if the payload cannot be serialized
+     */
+    @Transactional
+    public void publish(String eventType, String aggregateType, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event payload is not serializable: " + e.getMessage());
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, aggregateType, aggregateId, json, LocalDateTime.now()));
+        signalAfterCommit();
+    }
+
+    /** Wakes the relay once the current transaction commits; registered once per transaction. */
+    private void signalAfterCommit() {
+        if (TransactionSynchronizationManager.hasResource(signal)) return;
+        TransactionSynchronizationManager.bindResource(signal, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (signal.availablePermits() == 0) signal.release();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(signal);
+            }
+        });
+    }
+
+    /** Starts the relay thread once the application (and every subscriber) is ready. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscribers = subscriberProvider.orderedStream().toList();
+        relayTransaction = new TransactionTemplate(transactionManager);
+
+        running = true;
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the relay thread. Undelivered events stay in the outbox.
+     *
+     * @throws InterruptedException if interrupted while waiting for the relay thread
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker == null) return;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /** Relay loop: drains due events after every signal or poll interval. */
+    private void run() {
+        while (running) {
+            try {
+                signal.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                signal.drainPermits();
+                while (running && relayBatch() == batchSize) {
+                    // A full batch suggests more are due.
+                }
+                cleanupIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) return;
+                System.err.println("Outbox relay failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Claims, delivers, and acknowledges one batch. Package-private for tests.
+     *
+     * @return the number of events claimed
+     */
+    int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = relayTransaction.execute(status -> {
+            List<OutboxEvent> claimed = outboxEventRepository.lockDue(now, PageRequest.of(0, batchSize));
+            for (OutboxEvent event : claimed) event.setNextAttemptAt(now.plus(LEASE));
+            return claimed;
+        });
+        if (batch == null || batch.isEmpty()) return 0;
+
+        List<Long> succeeded = new ArrayList<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (OutboxEvent event : batch) {
+            String error = deliver(event);
+            if (error == null) succeeded.add(event.getId());
+            else failures.put(event.getId(), error);
+        }
+
+        relayTransaction.executeWithoutResult(status -> {
+            LocalDateTime completedAt = LocalDateTime.now();
+            if (!succeeded.isEmpty()) outboxEventRepository.markPublished(succeeded, completedAt);
+            if (!failures.isEmpty()) {
+                for (OutboxEvent event : outboxEventRepository.findAllById(failures.keySet())) {
+                    recordFailure(event, failures.get(event.getId()), completedAt);
+                }
+            }
+        });
+        delivered.add(succeeded.size());
+        succeeded.forEach(partialDeliveries::remove);
+        return batch.size();
+    }
+
+    /**
+     * Delivers an event to every accepting subscriber that has not handled it yet.
+     *
+     * @return {@code null} on success, or the first error message
+     */
+    private String deliver(OutboxEvent event) {
+        OutboxMessage message;
+        try {
+            Map<String, Object> payload = event.getPayload() == null ? Map.of()
+                    : objectMapper.readValue(event.getPayload(), new TypeReference<Map<String, Object>>() {});
+            message = new OutboxMessage(event.getId(), event.getEventType(), event.getAggregateType(),
+                    event.getAggregateId(), Collections.unmodifiableMap(payload), event.getCreatedAt());
+        } catch (JsonProcessingException e) {
+            return "Unreadable payload: " + e.getOriginalMessage();
+        }
+
+        Set<Integer> done = partialDeliveries.getOrDefault(event.getId(), Set.of());
+        String error = null;
+        for (int i = 0; i < subscribers.size(); i++) {
+            OutboxSubscriber subscriber = subscribers.get(i);
+            if (done.contains(i) || !subscriber.accepts(message.type())) continue;
+            try {
+                subscriber.handle(message);
+                partialDeliveries.computeIfAbsent(event.getId(), id -> new HashSet<>()).add(i);
+            } catch (Exception e) {
+                if (error == null) error = ClassUtils.getUserClass(subscriber).getSimpleName() + ": " + e.getMessage();
+            }
+        }
+        return error;
+    }
+
+    /** Schedules a retry with exponential backoff, or gives the event up. */
+    private void recordFailure(OutboxEvent event, String error, LocalDateTime now) {
+        failedAttempts.increment();
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        if (attempts >= maxAttempts) {
+            event.setStatus("FAILED");
+            partialDeliveries.remove(event.getId());
+            givenUp.increment();
+            System.err.println("Outbox event " + event.getId() + " (" + event.getEventType()
+                    + ") failed " + attempts + " times and was given up: " + error);
+            return;
+        }
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 20));
+        event.setNextAttemptAt(now.plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF));
+    }
+
+    /** Deletes old published events, at most once per cleanup interval. */
+    private void cleanupIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(nextCleanup)) return;
+        nextCleanup = now.plus(CLEANUP_INTERVAL);
+        relayTransaction.executeWithoutResult(status ->
+                outboxEventRepository.deletePublishedBefore(now.minusHours(retentionHours)));
+    }
+
+    /**
+     * Returns a snapshot of the outbox state and relay counters.
+     *
+     * @return counter name → value
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pending", outboxEventRepository.countByStatus("PENDING"));
+        metrics.put("failed", outboxEventRepository.countByStatus("FAILED"));
+        metrics.put("delivered", delivered.sum());
+        metrics.put("failedAttempts", failedAttempts.sum());
+        metrics.put("givenUp", givenUp.sum());
+        metrics.put("subscribers", subscribers.stream().map(s -> ClassUtils.getUserClass(s).getSimpleName()).toList());
+        return metrics;
+    }
+}
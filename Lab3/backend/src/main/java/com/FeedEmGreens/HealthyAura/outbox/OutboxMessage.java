@@ -0,0 +1,48 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A domain event as delivered to {@link OutboxSubscriber}s.
+ *
+ * <p>Because delivery is at-least-once, the same message (same {@code id}) may be
+ * delivered more than once, e.g., after a crash between delivery and
+ * acknowledgement.</p>
+ *
+ * @param id            the event ID, unique and increasing in recording order
+ * @param type          the event type (e.g., REVIEW_CREATED)
+ * @param aggregateType the type of entity the event is about (e.g., REVIEW)
+ * @param aggregateId   the ID of that entity
+ * @param payload       the event details
+ * @param createdAt     when the event was recorded
+ *
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record OutboxMessage(long id, String type, String aggregateType, Long aggregateId,
+                            Map<String, Object> payload, LocalDateTime createdAt) {
+
+    /**
+     * Returns a numeric payload value.
+     *
+     * @param key the payload key
+     * @return the value, or {@code 0} if it is missing or not a number
+     */
+    public long getLong(String key) {
+        return payload.get(key) instanceof Number n ? n.longValue() : 0L;
+    }
+
+    /**
+     * Returns a text payload value.
+     *
+     * @param key the payload key
+     * @return the value, or {@code null} if it is missing
+     */
+    public String getString(String key) {
+        Object value = payload.get(key);
+        return value != null ? value.toString() : null;
+    }
+}
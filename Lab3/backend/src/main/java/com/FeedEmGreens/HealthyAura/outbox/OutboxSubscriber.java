@@ -0,0 +1,38 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+/**
+ * An in-process consumer of outbox events.
+ *
+ * <p>Every Spring bean implementing this interface receives the events it
+ * {@linkplain #accepts accepts}, on the outbox relay thread, after the
+ * transaction that recorded them has committed. Delivery is at-least-once, so
+ * handlers should be idempotent or tolerate occasional duplicates. A handler that
+ * throws causes the event to be retried later; subscribers that already handled
+ * it are not called again by the same instance.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ * @see com.FeedEmGreens.HealthyAura.outbox.OutboxMessage
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface OutboxSubscriber {
+
+    /**
+     * Whether this subscriber wants events of a type.
+     *
+     * @param eventType the event type
+     * @return {@code true} to receive the event (the default)
+     */
+    default boolean accepts(String eventType) {
+        return true;
+    }
+
+    /**
+     * Handles one event.
+     *
+     * @param message the event
+     * @throws Exception to have the event retried
+     */
+    void handle(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,67 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbox subscriber keeping running review and points activity counters for
+ * the admin dashboard.
+ *
+ * <p>Counts are kept in memory since startup and are fed asynchronously by the
+ * outbox relay, so they never slow down the requests that produce the events.
+ * Because delivery is at-least-once, a redelivered event may occasionally be
+ * counted twice.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ * @see com.FeedEmGreens.HealthyAura.controller.AdminDashboardController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ReviewActivityStats implements OutboxSubscriber {
+
+    private final ConcurrentHashMap<String, LongAdder> eventsByType = new ConcurrentHashMap<>();
+    private final LongAdder pointsAwarded = new LongAdder();
+    private final LongAdder pointsDeducted = new LongAdder();
+    private final LongAdder pointsRedeemed = new LongAdder();
+    private final AtomicReference<LocalDateTime> lastEventAt = new AtomicReference<>();
+
+    @Override
+    public void handle(OutboxMessage message) {
+        eventsByType.computeIfAbsent(message.type(), t -> new LongAdder()).increment();
+        switch (message.type()) {
+            case "POINTS_AWARDED" -> pointsAwarded.add(message.getLong("points"));
+            case "POINTS_DEDUCTED" -> pointsDeducted.add(message.getLong("points"));
+            case "POINTS_REDEEMED" -> pointsRedeemed.add(message.getLong("points"));
+            default -> { }
+        }
+        lastEventAt.accumulateAndGet(message.createdAt(),
+                (current, next) -> current == null || next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * Returns a snapshot of the counters.
+     *
+     * @return counter name → value; {@code events} maps event type → count
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Long> events = new TreeMap<>();
+        eventsByType.forEach((type, count) -> events.put(type, count.sum()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("events", events);
+        snapshot.put("pointsAwarded", pointsAwarded.sum());
+        snapshot.put("pointsDeducted", pointsDeducted.sum());
+        snapshot.put("pointsRedeemed", pointsRedeemed.sum());
+        snapshot.put("lastEventAt", lastEventAt.get());
+        return snapshot;
+    }
+}
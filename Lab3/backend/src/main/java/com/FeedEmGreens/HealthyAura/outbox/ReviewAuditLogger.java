@@ -0,0 +1,62 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Outbox subscriber writing the admin action log entries of review moderation.
+ *
+ * <p>Admin actions on reviews (single or bulk approve, hide, unhide and delete)
+ * record their audit entry in the review event's payload, under
+ * {@code auditAction} and {@code auditDetails}, so it commits together with the
+ * moderation itself. Events without an audit entry, such as a user deleting
+ * their own review, are ignored.</p>
+ *
+ * <p>Entries are inserted synchronously rather than through the asynchronous
+ * {@link com.FeedEmGreens.HealthyAura.service.AuditLogWriter}: the relay marks an
+ * event published only after {@link #handle} returns, so the row is committed
+ * before the event is acknowledged, and a failed insert is retried with the
+ * event.</p>
+ *
+ * <p>Entries keep the event's timestamp. Because delivery is at-least-once, a
+ * redelivered event may occasionally log the same action twice.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ * @see com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepositoryCustom#batchInsert(List)
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService
+ * @see com.FeedEmGreens.HealthyAura.service.BulkModerationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ReviewAuditLogger implements OutboxSubscriber {
+
+    private final AdminActionLogRepository adminActionLogRepository;
+
+    /**
+     * Constructs the subscriber.
+     *
+     * @param adminActionLogRepository the repository the entries are inserted into
+     */
+    public ReviewAuditLogger(AdminActionLogRepository adminActionLogRepository) {
+        this.adminActionLogRepository = adminActionLogRepository;
+    }
+
+    @Override
+    public boolean accepts(String eventType) {
+        return eventType.startsWith("REVIEW_");
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        String action = message.getString("auditAction");
+        if (action == null) return;
+        adminActionLogRepository.batchInsert(List.of(new AdminActionLog(message.getString("actor"), action,
+                message.aggregateType(), message.aggregateId(), message.getLong("eateryId"),
+                message.getString("auditDetails"), message.createdAt())));
+    }
+}
@@ -0,0 +1,49 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Outbox subscriber marking typeahead suggestions stale when an eatery's visible
+ * review count changes.
+ *
+ * <p>Suggestions are weighted by visible review count, so reviews being created,
+ * deleted, hidden or unhidden change their ranking. The index rebuilds the trie in
+ * the background on the next lookup; redelivered events only mark it stale again.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex#invalidateSuggestions()
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SuggestionRefresher implements OutboxSubscriber {
+
+    /** Events that change how many visible reviews an eatery has. */
+    private static final Set<String> VISIBILITY_EVENTS =
+            Set.of("REVIEW_CREATED", "REVIEW_DELETED", "REVIEW_HIDDEN", "REVIEW_UNHIDDEN");
+
+    private final EaterySearchIndex eaterySearchIndex;
+
+    /**
+     * Constructs the subscriber.
+     *
+     * @param eaterySearchIndex the index whose suggestions are refreshed
+     */
+    public SuggestionRefresher(EaterySearchIndex eaterySearchIndex) {
+        this.eaterySearchIndex = eaterySearchIndex;
+    }
+
+    @Override
+    public boolean accepts(String eventType) {
+        return VISIBILITY_EVENTS.contains(eventType);
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        eaterySearchIndex.invalidateSuggestions();
+    }
+}
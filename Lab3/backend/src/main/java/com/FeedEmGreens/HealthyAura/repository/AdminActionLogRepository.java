@@ -25,7 +25,7 @@ import java.util.List;
  * @since 2025-11-07
  */
 @Repository
-public interface AdminActionLogRepository extends JpaRepository<AdminActionLog, Long> {
+public interface AdminActionLogRepository extends JpaRepository<AdminActionLog, Long>, AdminActionLogRepositoryCustom {
 
     /**
      * Retrieves all admin action logs performed by a specific administrator,
@@ -0,0 +1,30 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+
+import java.util.List;
+
+/**
+ * Custom fragment of {@link AdminActionLogRepository} for bulk audit writes.
+ *
+ * <p>Implemented in {@link AdminActionLogRepositoryImpl} with JDBC batching, so that
+ * bulk admin operations can write hundreds of per-item detail rows without one
+ * {@code INSERT} round trip (and one identity fetch) per row.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository
+ * @see com.FeedEmGreens.HealthyAura.entity.AdminActionLog
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface AdminActionLogRepositoryCustom {
+
+    /**
+     * Inserts audit rows using JDBC batch statements.
+     *
+     * <p>Generated IDs are not read back; the given objects keep a {@code null} ID.</p>
+     *
+     * @param logs the rows to insert
+     */
+    void batchInsert(List<AdminActionLog> logs);
+}
@@ -0,0 +1,47 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AdminActionLogRepositoryCustom}.
+ *
+ * <p>Rows are written with {@link JdbcTemplate#batchUpdate} in chunks of
+ * {@value #BATCH_SIZE}, joining the surrounding Spring transaction.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepositoryCustom
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AdminActionLogRepositoryImpl implements AdminActionLogRepositoryCustom {
+
+    /** Number of rows sent per JDBC batch. */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO admin_action_logs " +
+            "(admin_username, action_type, target_type, target_id, eatery_id, details, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<AdminActionLog> logs) {
+        if (logs.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, BATCH_SIZE, (ps, log) -> {
+            ps.setString(1, log.getAdminUsername());
+            ps.setString(2, log.getActionType());
+            ps.setString(3, log.getTargetType());
+            if (log.getTargetId() != null) ps.setLong(4, log.getTargetId()); else ps.setNull(4, Types.BIGINT);
+            if (log.getEateryId() != null) ps.setLong(5, log.getEateryId()); else ps.setNull(5, Types.BIGINT);
+            ps.setString(6, log.getDetails());
+            ps.setTimestamp(7, Timestamp.valueOf(log.getTimestamp()));
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the canonical dietary tag vocabulary
+ * ({@link com.FeedEmGreens.HealthyAura.entity.CanonicalTag}).
+ *
+ * <p>Supports resolving a normalized tag string to its canonical entry, either by
+ * name or by synonym, and maintaining per-tag usage counts.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.CanonicalTag
+ * @see com.FeedEmGreens.HealthyAura.service.TagVocabularyService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface CanonicalTagRepository extends JpaRepository<CanonicalTag, Long> {
+
+    /**
+     * Finds a canonical tag by its normalized name.
+     *
+     * @param normalizedName the normalized lookup key
+     * @return the matching tag, if any
+     */
+    Optional<CanonicalTag> findByNormalizedName(String normalizedName);
+
+    /**
+     * Finds the canonical tag that lists the given normalized string as a synonym.
+     *
+     * @param synonym the normalized synonym
+     * @return the matching tag, if any
+     */
+    @Query("SELECT t FROM CanonicalTag t JOIN t.synonyms s WHERE s = :synonym")
+    Optional<CanonicalTag> findBySynonym(@Param("synonym") String synonym);
+
+    /**
+     * Returns the whole vocabulary, most used first.
+     *
+     * @return all canonical tags ordered by usage count, then name
+     */
+    List<CanonicalTag> findAllByOrderByUsageCountDescNormalizedNameAsc();
+
+    /**
+     * Adjusts a tag's usage count in place.
+     *
+     * @param id    the canonical tag ID
+     * @param delta the amount to add (negative to subtract)
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE CanonicalTag t SET t.usageCount = t.usageCount + :delta WHERE t.id = :id")
+    int adjustUsageCount(@Param("id") Long id, @Param("delta") long delta);
+
+    /**
+     * Recomputes every usage count from the tags currently attached to eateries.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE CanonicalTag t SET t.usageCount = " +
+            "(SELECT COUNT(d) FROM DietaryTags d WHERE d.canonicalTag = t AND d.eatery IS NOT NULL)")
+    int recomputeUsageCounts();
+}
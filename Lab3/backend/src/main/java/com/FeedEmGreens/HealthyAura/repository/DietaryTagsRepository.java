@@ -1,10 +1,15 @@
 package com.FeedEmGreens.HealthyAura.repository;
 
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
 import com.FeedEmGreens.HealthyAura.entity.DietaryTags;
 import com.FeedEmGreens.HealthyAura.entity.Eatery;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,7 +34,7 @@ import java.util.Optional;
  * @since 2025-11-07
  */
 @Repository
-public interface DietaryTagsRepository extends JpaRepository<DietaryTags, Long> {
+public interface DietaryTagsRepository extends JpaRepository<DietaryTags, Long>, DietaryTagsRepositoryCustom {
 
     /**
      * Retrieves all dietary tags associated with a specific eatery.
@@ -55,4 +60,119 @@ public interface DietaryTagsRepository extends JpaRepository<DietaryTags, Long>
      *         or empty if the tag does not exist for that eatery
      */
     Optional<DietaryTags> findByEateryAndTagIgnoreCase(Eatery eatery, String tag);
+
+    /**
+     * Retrieves the tag names of several eateries in a single query.
+     *
+     * <p>Each row is {@code [eateryId, tag]}. Used to attach tags to list
+     * projections without loading the eatery entities.</p>
+     *
+     * @param eateryIds the eatery IDs whose tags are needed
+     * @return one row per tag, ordered by tag ID
+     */
+    @Query("SELECT dt.eatery.id, dt.tag FROM DietaryTags dt WHERE dt.eatery.id IN :eateryIds ORDER BY dt.id")
+    List<Object[]> findTagNamesByEateryIds(@Param("eateryIds") Collection<Long> eateryIds);
+
+    /**
+     * Retrieves tags that still reference an eatery but have not been linked to
+     * the canonical vocabulary (rows created before the vocabulary existed).
+     *
+     * @return the unlinked tags
+     */
+    List<DietaryTags> findByCanonicalTagIsNullAndEateryIsNotNull();
+
+    /**
+     * Checks whether an eatery already carries a tag resolved to the given canonical entry.
+     *
+     * @param eatery       the eatery to check
+     * @param canonicalTag the canonical vocabulary entry
+     * @return {@code true} if such a tag exists
+     */
+    boolean existsByEateryAndCanonicalTag(Eatery eatery, CanonicalTag canonicalTag);
+
+    /**
+     * Returns the IDs of the given eateries that already carry a canonical tag.
+     *
+     * @param eateryIds      the eateries to check
+     * @param canonicalTagId the canonical tag ID
+     * @return the subset of eatery IDs that carry the tag
+     */
+    @Query("SELECT DISTINCT dt.eatery.id FROM DietaryTags dt " +
+            "WHERE dt.eatery.id IN :eateryIds AND dt.canonicalTag.id = :canonicalTagId")
+    List<Long> findEateryIdsWithCanonicalTag(@Param("eateryIds") Collection<Long> eateryIds,
+                                             @Param("canonicalTagId") Long canonicalTagId);
+
+    /**
+     * Returns the IDs of all eateries carrying a canonical tag.
+     *
+     * @param canonicalTagId the canonical tag
+     * @return the IDs of the tagged eateries
+     */
+    @Query("SELECT DISTINCT dt.eatery.id FROM DietaryTags dt WHERE dt.canonicalTag.id = :canonicalTagId")
+    List<Long> findEateryIdsByCanonicalTagId(@Param("canonicalTagId") Long canonicalTagId);
+
+    /**
+     * Detaches a canonical tag from the given eateries in one statement.
+     *
+     * @param eateryIds      the eateries to modify
+     * @param canonicalTagId the canonical tag ID
+     * @return the number of tag rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DietaryTags dt WHERE dt.eatery.id IN :eateryIds AND dt.canonicalTag.id = :canonicalTagId")
+    int deleteByEateryIdsAndCanonicalTag(@Param("eateryIds") Collection<Long> eateryIds,
+                                         @Param("canonicalTagId") Long canonicalTagId);
+
+    /**
+     * Re-points a canonical tag to another one on the given eateries in one statement,
+     * updating the stored display name as well.
+     *
+     * @param eateryIds   the eateries to modify
+     * @param fromId      the canonical tag ID being replaced
+     * @param to          the replacement canonical tag
+     * @param displayName the display name to store (normally {@code to.getDisplayName()})
+     * @return the number of tag rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DietaryTags dt SET dt.canonicalTag = :to, dt.tag = :displayName " +
+            "WHERE dt.eatery.id IN :eateryIds AND dt.canonicalTag.id = :fromId")
+    int renameByEateryIds(@Param("eateryIds") Collection<Long> eateryIds,
+                          @Param("fromId") Long fromId,
+                          @Param("to") CanonicalTag to,
+                          @Param("displayName") String displayName);
+
+    /**
+     * Returns the canonical tag IDs attached to an eatery.
+     *
+     * @param eateryId the eatery ID
+     * @return the canonical tag IDs (unlinked tags are skipped)
+     */
+    @Query("SELECT dt.canonicalTag.id FROM DietaryTags dt WHERE dt.eatery.id = :eateryId AND dt.canonicalTag IS NOT NULL")
+    List<Long> findCanonicalTagIdsByEateryId(@Param("eateryId") Long eateryId);
+
+    /**
+     * Moves an eatery's tags to another eatery, except tags already present there.
+     *
+     * @param sourceEateryId the eatery whose tags are moved
+     * @param target         the eatery receiving the tags
+     * @param excludedTagIds canonical tag IDs the target already carries (must not be empty)
+     * @return the number of tag rows moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DietaryTags dt SET dt.eatery = :target WHERE dt.eatery.id = :sourceEateryId " +
+            "AND (dt.canonicalTag IS NULL OR dt.canonicalTag.id NOT IN :excludedTagIds)")
+    int reassignEateryExcept(@Param("sourceEateryId") Long sourceEateryId,
+                             @Param("target") Eatery target,
+                             @Param("excludedTagIds") Collection<Long> excludedTagIds);
+
+    /**
+     * Moves all of an eatery's tags to another eatery.
+     *
+     * @param sourceEateryId the eatery whose tags are moved
+     * @param target         the eatery receiving the tags
+     * @return the number of tag rows moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DietaryTags dt SET dt.eatery = :target WHERE dt.eatery.id = :sourceEateryId")
+    int reassignEatery(@Param("sourceEateryId") Long sourceEateryId, @Param("target") Eatery target);
 }
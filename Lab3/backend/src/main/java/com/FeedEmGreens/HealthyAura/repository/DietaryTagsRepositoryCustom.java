@@ -0,0 +1,30 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+
+import java.util.Collection;
+
+/**
+ * Custom fragment of {@link DietaryTagsRepository} for bulk tag assignment.
+ *
+ * <p>Implemented in {@link DietaryTagsRepositoryImpl} with JDBC batching, so that
+ * attaching a tag to many eateries does not load and save each eatery entity.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository
+ * @see com.FeedEmGreens.HealthyAura.service.BulkTagService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface DietaryTagsRepositoryCustom {
+
+    /**
+     * Attaches a canonical tag to each of the given eateries using JDBC batch inserts.
+     *
+     * <p>The caller is responsible for excluding eateries that already carry the tag.</p>
+     *
+     * @param tag       the canonical tag to attach (stored under its display name)
+     * @param eateryIds the eateries to tag
+     */
+    void batchInsert(CanonicalTag tag, Collection<Long> eateryIds);
+}
@@ -0,0 +1,41 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * JDBC implementation of {@link DietaryTagsRepositoryCustom}.
+ *
+ * <p>Rows are written with {@link JdbcTemplate#batchUpdate} in chunks of
+ * {@value #BATCH_SIZE}, joining the surrounding Spring transaction.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepositoryCustom
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class DietaryTagsRepositoryImpl implements DietaryTagsRepositoryCustom {
+
+    /** Number of rows sent per JDBC batch. */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO dietary_tags (tag, eatery_id, canonical_tag_id) VALUES (?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(CanonicalTag tag, Collection<Long> eateryIds) {
+        if (eateryIds.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, new ArrayList<>(eateryIds), BATCH_SIZE, (ps, eateryId) -> {
+            ps.setString(1, tag.getDisplayName());
+            ps.setLong(2, eateryId);
+            ps.setLong(3, tag.getId());
+        });
+    }
+}
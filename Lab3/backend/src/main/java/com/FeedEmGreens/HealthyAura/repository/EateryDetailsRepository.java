@@ -0,0 +1,33 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.EateryDetails;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link EateryDetails} entities.
+ *
+ * <p>Details share their primary key with the eatery, so they are looked up with
+ * {@code findById(eateryId)}.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.EateryDetails
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface EateryDetailsRepository extends JpaRepository<EateryDetails, Long> {
+
+    /**
+     * Returns the IDs of all eateries that have details stored.
+     *
+     * <p>Used by ingestion to backfill details only where they are missing.</p>
+     *
+     * @return eatery IDs with a details row
+     */
+    @Query("SELECT d.eateryId FROM EateryDetails d")
+    List<Long> findAllEateryIds();
+}
@@ -1,11 +1,15 @@
 package com.FeedEmGreens.HealthyAura.repository;
 
+import com.FeedEmGreens.HealthyAura.dto.EaterySummary;
 import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -99,4 +103,86 @@ public interface EateryRepository extends JpaRepository<Eatery, Long> {
             "LOWER(e.address) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
             "CAST(e.postalCode AS string) LIKE CONCAT('%', :query, '%')")
     List<Eatery> searchByQuery(@Param("query") String query);
+
+    /**
+     * Retrieves one page of eateries as slim {@link EaterySummary} projections.
+     *
+     * <p>Only the ID, name, and coordinates are selected, so neither the
+     * {@code TEXT} description nor the eagerly mapped dietary tags are loaded.
+     * Tags and ratings are attached afterwards in batches.</p>
+     *
+     * @param pageable the page request (ordering is applied by the caller)
+     * @return a page of summaries without tags or ratings
+     */
+    @Query(value = "SELECT new com.FeedEmGreens.HealthyAura.dto.EaterySummary(e.id, e.name, e.latitude, e.longitude) " +
+            "FROM Eatery e",
+            countQuery = "SELECT COUNT(e) FROM Eatery e")
+    Page<EaterySummary> findSummaries(Pageable pageable);
+
+    /**
+     * Retrieves slim {@link EaterySummary} projections for the given eatery IDs.
+     *
+     * @param ids the eatery IDs to load
+     * @return the summaries, in no particular order
+     */
+    @Query("SELECT new com.FeedEmGreens.HealthyAura.dto.EaterySummary(e.id, e.name, e.latitude, e.longitude) " +
+            "FROM Eatery e WHERE e.id IN :ids")
+    List<EaterySummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the next eatery IDs after a given ID, in ascending order.
+     *
+     * <p>Used by batch jobs to walk the catalog in fixed-size chunks.</p>
+     *
+     * @param afterId  the last ID of the previous chunk ({@code 0} to start)
+     * @param pageable the chunk size
+     * @return up to one chunk of IDs
+     */
+    @Query("SELECT e.id FROM Eatery e WHERE e.id > :afterId ORDER BY e.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Returns which of the given IDs belong to existing eateries.
+     *
+     * @param ids candidate eatery IDs
+     * @return the IDs that exist
+     */
+    @Query("SELECT e.id FROM Eatery e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the ID, name, and coordinates of every eatery.
+     *
+     * <p>Each row is {@code [id, name, latitude, longitude]}. Used by duplicate
+     * detection, which needs only these columns.</p>
+     *
+     * @return one row per eatery
+     */
+    @Query("SELECT e.id, e.name, e.latitude, e.longitude FROM Eatery e")
+    List<Object[]> findLocations();
+
+    /**
+     * Returns the IDs of eateries missing a building name, address, postal code,
+     * or description.
+     *
+     * <p>Used by ingestion to decide which existing eateries may be enriched from
+     * a matching record in another dataset, without loading every eatery.</p>
+     *
+     * @return the IDs of incomplete eateries
+     */
+    @Query("SELECT e.id FROM Eatery e WHERE e.buildingName IS NULL OR e.buildingName = '' " +
+            "OR e.address IS NULL OR e.address = '' OR e.postalCode IS NULL " +
+            "OR e.description IS NULL OR e.description = ''")
+    List<Long> findIdsWithMissingDetails();
+
+    /**
+     * Retrieves the ID, name, and description of every eatery.
+     *
+     * <p>Each row is {@code [id, name, description]}. Used by catalog-wide
+     * auto-tagging, which scans only these columns.</p>
+     *
+     * @return one row per eatery
+     */
+    @Query("SELECT e.id, e.name, e.description FROM Eatery e")
+    List<Object[]> findTextFields();
 }
@@ -0,0 +1,75 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ *
+ * <p>The relay claims due events with {@link #lockDue}, which skips rows already
+ * locked by another relay, so several application instances can drain the
+ * outbox without delivering the same batch twice at the same time.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.OutboxEvent
+ * @see com.FeedEmGreens.HealthyAura.outbox.EventOutbox
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Loads and locks pending events that are due, oldest first, skipping locked rows.
+     *
+     * @param now      the current time
+     * @param pageable the maximum batch size
+     * @return the claimed events
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PENDING' AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Marks events as delivered in one statement.
+     *
+     * @param ids the event IDs
+     * @param now the delivery time
+     * @return the number of events updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = 'PUBLISHED', e.publishedAt = :now WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes delivered events older than a cutoff.
+     *
+     * @param cutoff the oldest delivery time to keep
+     * @return the number of events deleted
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PUBLISHED' AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Counts events by status.
+     *
+     * @param status the status
+     * @return the number of events with that status
+     */
+    long countByStatus(String status);
+}
@@ -3,8 +3,14 @@ package com.FeedEmGreens.HealthyAura.repository;
 import com.FeedEmGreens.HealthyAura.entity.Points;
 import com.FeedEmGreens.HealthyAura.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -43,4 +49,26 @@ public interface PointsRepository extends JpaRepository<Points, Long> {
      *         or empty if none exists
      */
     Optional<Points> findByUser(Users user);
+
+    /**
+     * Returns which of the given users already have a points record.
+     *
+     * @param userIds the user IDs
+     * @return the IDs of users with a points record
+     */
+    @Query("SELECT p.user.id FROM Points p WHERE p.user.id IN :userIds")
+    List<Long> findUserIdsWithPoints(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Deducts points from a user's record in one statement, without loading it.
+     *
+     * @param userId the user ID
+     * @param amount the number of points to remove
+     * @param now    the update time
+     * @return the number of records updated (0 if the user has none)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Points p SET p.totalPoints = p.totalPoints - :amount, p.lastUpdated = :now " +
+            "WHERE p.user.id = :userId")
+    int deductByUserId(@Param("userId") Long userId, @Param("amount") int amount, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,50 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.RatingHistogram;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link RatingHistogram} entities.
+ *
+ * <p>Histograms share their primary key with the eatery, so they are read with
+ * {@code findById(eateryId)}. Writers lock the row first with
+ * {@link #findForUpdate(Long)} so concurrent review changes on the same eatery
+ * are applied one after the other.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.RatingHistogram
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface RatingHistogramRepository extends JpaRepository<RatingHistogram, Long> {
+
+    /**
+     * Loads an eatery's histogram and locks its row until the transaction ends.
+     *
+     * @param eateryId the eatery ID
+     * @return the histogram, if the eatery has one
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM RatingHistogram h WHERE h.eateryId = :eateryId")
+    Optional<RatingHistogram> findForUpdate(@Param("eateryId") Long eateryId);
+
+    /**
+     * Loads and locks the histograms of several eateries.
+     *
+     * @param eateryIds the eatery IDs
+     * @return the histograms that exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM RatingHistogram h WHERE h.eateryId IN :eateryIds")
+    List<RatingHistogram> findAllForUpdate(@Param("eateryIds") Collection<Long> eateryIds);
+}
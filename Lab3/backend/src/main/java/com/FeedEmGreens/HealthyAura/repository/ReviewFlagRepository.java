@@ -4,10 +4,13 @@ import com.FeedEmGreens.HealthyAura.entity.ReviewFlag;
 import com.FeedEmGreens.HealthyAura.entity.Review;
 import com.FeedEmGreens.HealthyAura.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,4 +110,25 @@ public interface ReviewFlagRepository extends JpaRepository<ReviewFlag, Long> {
      * @return an {@link Optional} containing the existing {@link ReviewFlag}, if any
      */
     Optional<ReviewFlag> findByReviewAndUser(Review review, Users user);
+
+    /**
+     * Closes every pending flag on the given reviews in one statement.
+     *
+     * <p>Used by bulk moderation instead of loading and saving each flag.</p>
+     *
+     * @param reviewIds the reviews whose pending flags are closed
+     * @param status    the new status ({@code RESOLVED} or {@code DISMISSED})
+     * @param admin     the moderating admin, or {@code null} if unknown
+     * @param notes     the admin notes to store
+     * @param now       the moderation time
+     * @return the number of flags updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewFlag rf SET rf.status = :status, rf.admin = :admin, rf.adminNotes = :notes, " +
+            "rf.reviewedAt = :now WHERE rf.review.id IN :reviewIds AND rf.status = 'PENDING'")
+    int closePendingByReviewIds(@Param("reviewIds") Collection<Long> reviewIds,
+                                @Param("status") String status,
+                                @Param("admin") Users admin,
+                                @Param("notes") String notes,
+                                @Param("now") LocalDateTime now);
 }
@@ -1,15 +1,26 @@
 package com.FeedEmGreens.HealthyAura.repository;
 
+import com.FeedEmGreens.HealthyAura.dto.ReviewHistoryEntry;
+import com.FeedEmGreens.HealthyAura.dto.ReviewResponse;
 import com.FeedEmGreens.HealthyAura.entity.Review;
 import com.FeedEmGreens.HealthyAura.entity.Eatery;
 import com.FeedEmGreens.HealthyAura.entity.Users;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for performing CRUD and custom query operations
@@ -36,19 +47,6 @@ import java.util.Optional;
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    /**
-     * Retrieves all visible (non-deleted and not hidden) reviews for a given eatery,
-     * sorted by creation date in descending order.
-     *
-     * <p>This method is primarily used for displaying recent public reviews
-     * to end-users.</p>
-     *
-     * @param eatery the {@link Eatery} entity for which reviews are retrieved
-     * @return a list of visible {@link Review} entities ordered by newest first
-     */
-    @Query("SELECT r FROM Review r WHERE r.eatery = :eatery AND r.isDeleted = false AND r.isHidden = false ORDER BY r.createdAt DESC")
-    List<Review> findVisibleByEateryOrderByCreatedAtDesc(@Param("eatery") Eatery eatery);
-
     /**
      * Finds a user’s active (non-deleted) review for a specific eatery.
      *
@@ -61,14 +59,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     Optional<Review> findByEateryAndUserAndIsDeletedFalse(Eatery eatery, Users user);
 
-    /**
-     * Retrieves all active (non-deleted) reviews submitted by a given user.
-     *
-     * @param user the {@link Users} entity whose reviews are being fetched
-     * @return a list of the user’s visible {@link Review} entries
-     */
-    List<Review> findByUserAndIsDeletedFalse(Users user);
-
     /**
      * Retrieves all active (non-deleted) reviews in the database.
      *
@@ -110,44 +100,16 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Long getReviewCount(@Param("eatery") Eatery eatery);
 
     /**
-     * Retrieves all reviews submitted by a specific user for a given eatery
-     * within the last seven days (including deleted ones).
+     * Returns when a user last submitted a review for an eatery (including deleted reviews).
      *
-     * <p>This helps enforce the review submission cooldown policy,
-     * preventing repeated spam submissions.</p>
+     * <p>Used to warm the in-memory submission cooldown after a restart.</p>
      *
-     * @param eatery the eatery being reviewed
-     * @param user the user who submitted the review
-     * @param sevenDaysAgo the date threshold (typically {@code LocalDateTime.now().minusDays(7)})
-     * @return a list of recent {@link Review} entities within the cooldown period
-     */
-    @Query("SELECT r FROM Review r WHERE r.eatery = :eatery AND r.user = :user " +
-            "AND r.lastSubmissionDate >= :sevenDaysAgo")
-    List<Review> findRecentSubmissions(@Param("eatery") Eatery eatery,
-                                       @Param("user") Users user,
-                                       @Param("sevenDaysAgo") java.time.LocalDateTime sevenDaysAgo);
-
-    /**
-     * Retrieves reviews for an eatery sorted by the highest health score,
-     * followed by most recent submissions.
-     *
-     * @param eatery the {@link Eatery} being queried
-     * @return a list of {@link Review} entities sorted by descending health score
+     * @param eateryId the eatery ID
+     * @param userId   the user ID
+     * @return the latest submission time, or {@code null} if the user never reviewed the eatery
      */
-    @Query("SELECT r FROM Review r WHERE r.eatery = :eatery AND r.isDeleted = false AND r.isHidden = false " +
-            "ORDER BY r.healthScore DESC, r.createdAt DESC")
-    List<Review> findByEateryOrderByHealthScoreDesc(@Param("eatery") Eatery eatery);
-
-    /**
-     * Retrieves reviews for an eatery sorted by the highest hygiene score,
-     * followed by most recent submissions.
-     *
-     * @param eatery the {@link Eatery} being queried
-     * @return a list of {@link Review} entities sorted by descending hygiene score
-     */
-    @Query("SELECT r FROM Review r WHERE r.eatery = :eatery AND r.isDeleted = false AND r.isHidden = false " +
-            "ORDER BY r.hygieneScore DESC, r.createdAt DESC")
-    List<Review> findByEateryOrderByHygieneScoreDesc(@Param("eatery") Eatery eatery);
+    @Query("SELECT MAX(r.lastSubmissionDate) FROM Review r WHERE r.eatery.id = :eateryId AND r.user.id = :userId")
+    java.time.LocalDateTime findLastSubmissionDate(@Param("eateryId") Long eateryId, @Param("userId") Long userId);
 
     /**
      * Counts the number of reviews created by a user since the start of the day.
@@ -163,4 +125,365 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             "AND r.createdAt >= :startOfDay")
     Long countReviewsCreatedTodayByUser(@Param("user") Users user,
                                         @Param("startOfDay") java.time.LocalDateTime startOfDay);
+
+    /**
+     * Counts visible (non-deleted and non-hidden) reviews for every eatery in one pass.
+     *
+     * <p>Used to weight eateries by popularity when building in-memory search
+     * structures, instead of issuing one count query per eatery.</p>
+     *
+     * @return rows of {@code [eateryId (Long), reviewCount (Long)]}
+     */
+    @Query("SELECT r.eatery.id, COUNT(r) FROM Review r WHERE r.isDeleted = false AND r.isHidden = false " +
+            "GROUP BY r.eatery.id")
+    List<Object[]> countVisibleReviewsGroupedByEatery();
+
+    /**
+     * Aggregates visible review ratings for several eateries in a single query.
+     *
+     * <p>Each row is {@code [eateryId, averageHealthScore, averageHygieneScore, reviewCount]}.
+     * Eateries without visible reviews are absent from the result.</p>
+     *
+     * @param eateryIds the eatery IDs to aggregate
+     * @return one row per eatery that has visible reviews
+     */
+    @Query("SELECT r.eatery.id, AVG(r.healthScore), AVG(r.hygieneScore), COUNT(r) FROM Review r " +
+            "WHERE r.eatery.id IN :eateryIds AND r.isDeleted = false AND r.isHidden = false " +
+            "GROUP BY r.eatery.id")
+    List<Object[]> getRatingStatsByEateryIds(@Param("eateryIds") Collection<Long> eateryIds);
+
+    /**
+     * Counts visible reviews for several eateries, grouped by score pair.
+     *
+     * <p>Each row is {@code [eateryId, healthScore, hygieneScore, reviewCount]}.
+     * Used to seed and rebuild rating histograms, so reviews with a score
+     * outside 1–5 are left out.</p>
+     *
+     * @param eateryIds the eatery IDs to count
+     * @return one row per eatery and score pair that occurs
+     */
+    @Query("SELECT r.eatery.id, r.healthScore, r.hygieneScore, COUNT(r) FROM Review r " +
+            "WHERE r.eatery.id IN :eateryIds AND r.isDeleted = false AND r.isHidden = false " +
+            "AND r.healthScore BETWEEN 1 AND 5 AND r.hygieneScore BETWEEN 1 AND 5 " +
+            "GROUP BY r.eatery.id, r.healthScore, r.hygieneScore")
+    List<Object[]> countVisibleByScoresForEateryIds(@Param("eateryIds") Collection<Long> eateryIds);
+
+    /**
+     * Finds active reviews on one eatery whose author also has an active review on another.
+     *
+     * <p>Used when merging duplicate eateries, where each user may keep only one
+     * active review on the surviving eatery.</p>
+     *
+     * @param sourceEateryId the eatery whose reviews are being moved
+     * @param targetEateryId the eatery receiving the reviews
+     * @return IDs of reviews on the source eatery that would conflict
+     */
+    @Query("SELECT s.id FROM Review s WHERE s.eatery.id = :sourceEateryId AND s.isDeleted = false " +
+            "AND EXISTS (SELECT t.id FROM Review t WHERE t.eatery.id = :targetEateryId " +
+            "AND t.user = s.user AND t.isDeleted = false)")
+    List<Long> findConflictingReviewIds(@Param("sourceEateryId") Long sourceEateryId,
+                                        @Param("targetEateryId") Long targetEateryId);
+
+    /**
+     * Soft-deletes reviews by ID in one statement.
+     *
+     * @param ids the review IDs
+     * @return the number of reviews updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Review r SET r.isDeleted = true WHERE r.id IN :ids")
+    int softDeleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Moves every review of one eatery to another in one statement.
+     *
+     * @param sourceEateryId the eatery whose reviews are moved
+     * @param target         the eatery receiving the reviews
+     * @return the number of reviews moved
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Review r SET r.eatery = :target WHERE r.eatery.id = :sourceEateryId")
+    int reassignEatery(@Param("sourceEateryId") Long sourceEateryId, @Param("target") Eatery target);
+
+    /**
+     * Returns the text of recently created, non-deleted reviews, newest first.
+     *
+     * <p>Used to warm the near-duplicate index on startup.</p>
+     *
+     * @param since    the earliest creation time
+     * @param pageable the maximum number of rows
+     * @return rows of {@code [reviewId (Long), userId (Long), eateryId (Long),
+     *         textFeedback (String), createdAt (LocalDateTime)]}
+     */
+    @Query("SELECT r.id, r.user.id, r.eatery.id, r.textFeedback, r.createdAt FROM Review r " +
+            "WHERE r.isDeleted = false AND r.textFeedback IS NOT NULL AND r.createdAt >= :since " +
+            "ORDER BY r.createdAt DESC")
+    List<Object[]> findRecentTexts(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // ===== Bulk moderation =====
+
+    /**
+     * Returns the moderation state of several reviews in one query.
+     *
+     * @param ids the review IDs
+     * @return rows of {@code [reviewId (Long), eateryId (Long), userId (Long),
+     *         isHidden (Boolean), isDeleted (Boolean), pointsAwarded (Integer)]}
+     */
+    @Query("SELECT r.id, r.eatery.id, r.user.id, r.isHidden, r.isDeleted, r.pointsAwarded " +
+            "FROM Review r WHERE r.id IN :ids")
+    List<Object[]> findModerationStateByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Hides reviews by ID in one statement, skipping deleted or already hidden ones.
+     *
+     * @param ids    the review IDs
+     * @param reason the reason shown to moderators
+     * @param admin  the moderating admin's username
+     * @param now    the moderation time
+     * @return the number of reviews hidden
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Review r SET r.isHidden = true, r.hiddenAt = :now, r.hiddenReason = :reason, " +
+            "r.moderatedByAdminUsername = :admin, r.updatedAt = :now " +
+            "WHERE r.id IN :ids AND r.isDeleted = false AND r.isHidden = false")
+    int hideByIds(@Param("ids") Collection<Long> ids, @Param("reason") String reason,
+                  @Param("admin") String admin, @Param("now") LocalDateTime now);
+
+    /**
+     * Soft-deletes reviews by ID on behalf of an admin in one statement.
+     *
+     * @param ids   the review IDs
+     * @param admin the moderating admin's username
+     * @param now   the moderation time
+     * @return the number of reviews deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Review r SET r.isDeleted = true, r.moderatedByAdminUsername = :admin, r.updatedAt = :now " +
+            "WHERE r.id IN :ids AND r.isDeleted = false")
+    int softDeleteByAdmin(@Param("ids") Collection<Long> ids, @Param("admin") String admin,
+                          @Param("now") LocalDateTime now);
+
+    // ===== Review read path =====
+    // Reviews are listed as ReviewResponse projections (review, author and eatery
+    // columns in one row) plus one batched photo query, instead of loading Review
+    // entities and touching their lazy associations per row.
+
+    /** Columns of the {@code ReviewResponse} projection constructor, in parameter order. */
+    String RESPONSE_COLUMNS = "r.id, e.id, e.name, u.id, u.username, r.healthScore, r.hygieneScore, " +
+            "r.textFeedback, r.createdAt, r.updatedAt, r.helpfulVotes, r.unhelpfulVotes, r.helpfulScore";
+
+    /** SELECT and FROM clauses shared by every {@code ReviewResponse} query; append the WHERE clause. */
+    String RESPONSE_PROJECTION = "SELECT new com.FeedEmGreens.HealthyAura.dto.ReviewResponse(" + RESPONSE_COLUMNS + ") " +
+            "FROM Review r JOIN r.eatery e JOIN r.user u ";
+
+    /**
+     * Lists visible reviews for an eatery as response projections.
+     *
+     * @param eateryId the eatery
+     * @param sort     the ordering (properties of {@code Review}, e.g., {@code createdAt})
+     * @return every visible review, without photos
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false")
+    List<ReviewResponse> findVisibleResponsesByEateryId(@Param("eateryId") Long eateryId, Sort sort);
+
+    /**
+     * Returns the photo URLs of several reviews in one query.
+     *
+     * @param reviewIds the review IDs
+     * @return rows of {@code [reviewId (Long), photoUrl (String)]}
+     */
+    @Query("SELECT r.id, p FROM Review r JOIN r.photos p WHERE r.id IN :reviewIds")
+    List<Object[]> findPhotoUrlsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // Keyset-paginated feed: each sort mode has a first-page query and an "after
+    // cursor" query. Both seek on the matching composite index declared on Review,
+    // so every page costs the same.
+
+    /**
+     * First page of visible reviews for an eatery, newest first.
+     *
+     * @param eateryId the eatery
+     * @param pageable the page limit (offset is ignored by callers; always page 0)
+     * @return up to {@code pageable.getPageSize()} reviews, without photos
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponse> findFeedByRecent(@Param("eateryId") Long eateryId, Pageable pageable);
+
+    /**
+     * Next page of visible reviews for an eatery, newest first, after a cursor.
+     *
+     * @param eateryId  the eatery
+     * @param createdAt the creation time of the last review on the previous page
+     * @param id        the ID of the last review on the previous page
+     * @param pageable  the page limit
+     * @return up to {@code pageable.getPageSize()} reviews after the cursor
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponse> findFeedByRecentAfter(@Param("eateryId") Long eateryId,
+                                               @Param("createdAt") java.time.LocalDateTime createdAt,
+                                               @Param("id") Long id, Pageable pageable);
+
+    /**
+     * First page of visible reviews for an eatery, highest health score first.
+     *
+     * @param eateryId the eatery
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews, without photos
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "ORDER BY r.healthScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHealth(@Param("eateryId") Long eateryId, Pageable pageable);
+
+    /**
+     * Next page of visible reviews for an eatery, highest health score first, after a cursor.
+     *
+     * @param eateryId the eatery
+     * @param score    the health score of the last review on the previous page
+     * @param id       the ID of the last review on the previous page
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews after the cursor
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "AND (r.healthScore < :score OR (r.healthScore = :score AND r.id < :id)) " +
+            "ORDER BY r.healthScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHealthAfter(@Param("eateryId") Long eateryId, @Param("score") Integer score,
+                                               @Param("id") Long id, Pageable pageable);
+
+    /**
+     * First page of visible reviews for an eatery, highest hygiene score first.
+     *
+     * @param eateryId the eatery
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews, without photos
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "ORDER BY r.hygieneScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHygiene(@Param("eateryId") Long eateryId, Pageable pageable);
+
+    /**
+     * Next page of visible reviews for an eatery, highest hygiene score first, after a cursor.
+     *
+     * @param eateryId the eatery
+     * @param score    the hygiene score of the last review on the previous page
+     * @param id       the ID of the last review on the previous page
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews after the cursor
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "AND (r.hygieneScore < :score OR (r.hygieneScore = :score AND r.id < :id)) " +
+            "ORDER BY r.hygieneScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHygieneAfter(@Param("eateryId") Long eateryId, @Param("score") Integer score,
+                                                @Param("id") Long id, Pageable pageable);
+
+    /**
+     * First page of visible reviews for an eatery, most helpful first.
+     *
+     * @param eateryId the eatery
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews, without photos
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "ORDER BY r.helpfulScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHelpful(@Param("eateryId") Long eateryId, Pageable pageable);
+
+    /**
+     * Next page of visible reviews for an eatery, most helpful first, after a cursor.
+     *
+     * @param eateryId the eatery
+     * @param score    the helpfulness score of the last review on the previous page
+     * @param id       the ID of the last review on the previous page
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews after the cursor
+     */
+    @Query(RESPONSE_PROJECTION +
+            "WHERE r.eatery.id = :eateryId AND r.isDeleted = false AND r.isHidden = false " +
+            "AND (r.helpfulScore < :score OR (r.helpfulScore = :score AND r.id < :id)) " +
+            "ORDER BY r.helpfulScore DESC, r.id DESC")
+    List<ReviewResponse> findFeedByHelpfulAfter(@Param("eateryId") Long eateryId, @Param("score") Double score,
+                                                @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Returns the stored vote counts of several reviews.
+     *
+     * @param reviewIds the review IDs
+     * @return rows of {@code [reviewId (Long), helpfulVotes (Integer), unhelpfulVotes (Integer)]}
+     */
+    @Query("SELECT r.id, r.helpfulVotes, r.unhelpfulVotes FROM Review r WHERE r.id IN :reviewIds")
+    List<Object[]> findVoteCounts(@Param("reviewIds") Collection<Long> reviewIds);
+
+    /**
+     * First page of a user's non-deleted reviews (including hidden ones), newest first.
+     *
+     * @param userId   the author
+     * @param pageable the page limit
+     * @return up to {@code pageable.getPageSize()} reviews, without photos or eatery ratings
+     */
+    @Query("SELECT new com.FeedEmGreens.HealthyAura.dto.ReviewHistoryEntry(" + RESPONSE_COLUMNS + ", r.isHidden) " +
+            "FROM Review r JOIN r.eatery e JOIN r.user u " +
+            "WHERE u.id = :userId AND r.isDeleted = false " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewHistoryEntry> findHistoryByUser(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Next page of a user's non-deleted reviews, newest first, after a cursor.
+     *
+     * @param userId    the author
+     * @param createdAt the creation time of the last review on the previous page
+     * @param id        the ID of the last review on the previous page
+     * @param pageable  the page limit
+     * @return up to {@code pageable.getPageSize()} reviews after the cursor
+     */
+    @Query("SELECT new com.FeedEmGreens.HealthyAura.dto.ReviewHistoryEntry(" + RESPONSE_COLUMNS + ", r.isHidden) " +
+            "FROM Review r JOIN r.eatery e JOIN r.user u " +
+            "WHERE u.id = :userId AND r.isDeleted = false " +
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewHistoryEntry> findHistoryByUserAfter(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Streams non-deleted reviews for export, oldest first, with optional filters.
+     *
+     * <p>Rows are scalar values, not entities, so nothing accumulates in the persistence
+     * context, and are fetched from the database {@value #EXPORT_FETCH_SIZE} at a time.
+     * The stream must be consumed and closed inside a read-only transaction.</p>
+     *
+     * <p>Each row contains: review ID, eatery ID, eatery name, user ID, username,
+     * health score, hygiene score, text feedback, hidden flag, created at, updated at.</p>
+     *
+     * @param eateryId only reviews of this eatery, or {@code null} for all eateries
+     * @param from     only reviews created at or after this time, or {@code null}
+     * @param to       only reviews created before this time, or {@code null}
+     * @return a stream of review rows ordered by ID
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.id, e.id, e.name, u.id, u.username, r.healthScore, r.hygieneScore, r.textFeedback, " +
+            "r.isHidden, r.createdAt, r.updatedAt " +
+            "FROM Review r JOIN r.eatery e JOIN r.user u " +
+            "WHERE r.isDeleted = false " +
+            "AND (:eateryId IS NULL OR e.id = :eateryId) " +
+            "AND (:from IS NULL OR r.createdAt >= :from) " +
+            "AND (:to IS NULL OR r.createdAt < :to) " +
+            "ORDER BY r.id")
+    Stream<Object[]> streamForExport(@Param("eateryId") Long eateryId,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    /** JDBC fetch size of {@link #streamForExport}. */
+    int EXPORT_FETCH_SIZE = 1000;
 }
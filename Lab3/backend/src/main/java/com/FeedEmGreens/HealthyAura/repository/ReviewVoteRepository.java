@@ -0,0 +1,47 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.ReviewVote;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link ReviewVote} entities.
+ *
+ * <p>Votes are written in batches through {@link ReviewVoteRepositoryCustom}; the
+ * queries here support deduplication.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.ReviewVote
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewVoteService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface ReviewVoteRepository extends JpaRepository<ReviewVote, Long>, ReviewVoteRepositoryCustom {
+
+    /**
+     * Returns the IDs of all reviews a user has voted on.
+     *
+     * @param userId the voter
+     * @return the review IDs
+     */
+    @Query("SELECT v.reviewId FROM ReviewVote v WHERE v.userId = :userId")
+    List<Long> findReviewIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Returns the stored votes among the given reviews and users, as a superset
+     * filter for a batch of new votes.
+     *
+     * @param reviewIds the reviews
+     * @param userIds   the voters
+     * @return rows of {@code [reviewId (Long), userId (Long)]}
+     */
+    @Query("SELECT v.reviewId, v.userId FROM ReviewVote v WHERE v.reviewId IN :reviewIds AND v.userId IN :userIds")
+    List<Object[]> findExisting(@Param("reviewIds") Collection<Long> reviewIds,
+                                @Param("userIds") Collection<Long> userIds);
+}
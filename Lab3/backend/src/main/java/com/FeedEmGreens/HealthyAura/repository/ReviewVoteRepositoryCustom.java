@@ -0,0 +1,45 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.ReviewVote;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom fragment of {@link ReviewVoteRepository} for flushing votes in bulk.
+ *
+ * <p>Implemented in {@link ReviewVoteRepositoryImpl} with JDBC batching, so that a
+ * flush of hundreds of votes costs a handful of round trips, and each review row
+ * is updated once per flush rather than once per vote.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepository
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewVoteService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ReviewVoteRepositoryCustom {
+
+    /**
+     * Inserts votes using JDBC batch statements.
+     *
+     * <p>Generated IDs are not read back; the given objects keep a {@code null} ID.</p>
+     *
+     * @param votes the votes to insert
+     */
+    void batchInsert(List<ReviewVote> votes);
+
+    /**
+     * Adds to the vote counts of reviews.
+     *
+     * @param deltas review ID → {@code [helpful, not helpful]} votes to add
+     */
+    void addVoteCounts(Map<Long, int[]> deltas);
+
+    /**
+     * Stores the helpfulness scores of reviews.
+     *
+     * @param scores review ID → score
+     */
+    void updateHelpfulScores(Map<Long, Double> scores);
+}
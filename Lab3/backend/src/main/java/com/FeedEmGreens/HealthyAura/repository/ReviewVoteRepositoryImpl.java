@@ -0,0 +1,68 @@
+package com.FeedEmGreens.HealthyAura.repository;
+
+import com.FeedEmGreens.HealthyAura.entity.ReviewVote;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link ReviewVoteRepositoryCustom}.
+ *
+ * <p>Statements are sent with {@link JdbcTemplate#batchUpdate} in chunks of
+ * {@value #BATCH_SIZE}, joining the surrounding Spring transaction.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepositoryCustom
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReviewVoteRepositoryImpl implements ReviewVoteRepositoryCustom {
+
+    /** Number of statements sent per JDBC batch. */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO review_votes (review_id, user_id, helpful, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String ADD_COUNTS_SQL =
+            "UPDATE reviews SET helpful_votes = helpful_votes + ?, unhelpful_votes = unhelpful_votes + ? WHERE id = ?";
+
+    private static final String UPDATE_SCORE_SQL = "UPDATE reviews SET helpful_score = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<ReviewVote> votes) {
+        if (votes.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, votes, BATCH_SIZE, (ps, vote) -> {
+            ps.setLong(1, vote.getReviewId());
+            ps.setLong(2, vote.getUserId());
+            ps.setBoolean(3, vote.isHelpful());
+            ps.setTimestamp(4, Timestamp.valueOf(vote.getCreatedAt()));
+        });
+    }
+
+    @Override
+    public void addVoteCounts(Map<Long, int[]> deltas) {
+        if (deltas.isEmpty()) return;
+        jdbcTemplate.batchUpdate(ADD_COUNTS_SQL, new ArrayList<>(deltas.entrySet()), BATCH_SIZE, (ps, delta) -> {
+            ps.setInt(1, delta.getValue()[0]);
+            ps.setInt(2, delta.getValue()[1]);
+            ps.setLong(3, delta.getKey());
+        });
+    }
+
+    @Override
+    public void updateHelpfulScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, new ArrayList<>(scores.entrySet()), BATCH_SIZE, (ps, score) -> {
+            ps.setDouble(1, score.getValue());
+            ps.setLong(2, score.getKey());
+        });
+    }
+}
@@ -0,0 +1,496 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import com.FeedEmGreens.HealthyAura.dto.SuggestionDto;
+import com.FeedEmGreens.HealthyAura.dto.TagFacetDto;
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory keyword and typeahead index over the eateries stored in the database.
+ *
+ * <p>Wraps a {@link TrigramIndex} over each eatery's name, building name, street
+ * address, and postal code so that {@code /api/eateries/fetchDb?query=} can be
+ * answered without the {@code LIKE '%q%'} table scans performed by
+ * {@link EateryRepository#searchByQuery(String)}.</p>
+ *
+ * <p>It also serves {@code /api/eateries/suggest} from a {@link SuggestionTrie} over
+ * eatery names, building names, postal codes, and tag names. The trie is immutable;
+ * it is marked stale whenever the catalog or a visible review count changes. The
+ * next lookup still answers from the stale trie and schedules a rebuild on a
+ * background thread, so requests never wait for the review-count query; only the
+ * very first lookup builds the trie inline. Suggestions are weighted by popularity:
+ * eateries by their visible review count, and buildings, postal codes, and tags by
+ * how many eateries (and their reviews) share them.</p>
+ *
+ * <p>Tag filters are answered from per-tag posting sets (normalized tag name →
+ * eatery IDs), so tag-only and combined keyword + tag searches resolve to a list of
+ * IDs before anything is loaded from the database. Multiple tags are combined with
+ * OR semantics, matching the original tag filter. Tag names are keyed by
+ * {@link CanonicalTag#normalize(String)}.</p>
+ *
+ * <p>Facet counts for {@code /api/eateries/facets} come from one {@link BitSet} per
+ * tag (bit = eatery ID). Counting a result set is a bitwise AND plus cardinality
+ * per tag, rather than a {@code GROUP BY} over the tag join. The bitmaps are
+ * rebuilt lazily, like the suggestion trie, after the catalog changes.</p>
+ *
+ * <p>The index is loaded lazily from the database on first use and then kept in
+ * sync incrementally: {@link com.FeedEmGreens.HealthyAura.service.EateryService}
+ * re-indexes an eatery whenever it is inserted during an API sync or has its
+ * tags edited.</p>
+ *
+ * <p>Postal codes are indexed as zero-padded six-digit strings, so a query such as
+ * {@code "01"} matches codes in the 01 district even though they are stored as
+ * numbers. A {@link PostalIndex} additionally keeps eateries sorted by code and
+ * grouped by two-digit sector for area-based browsing.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.TrigramIndex
+ * @see com.FeedEmGreens.HealthyAura.search.SuggestionTrie
+ * @see com.FeedEmGreens.HealthyAura.search.PostalIndex
+ * @see com.FeedEmGreens.HealthyAura.outbox.SuggestionRefresher
+ * @see com.FeedEmGreens.HealthyAura.service.EateryService
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class EaterySearchIndex {
+
+    /** Ranking weights for name, building name, address, and postal code respectively. */
+    private static final int[] FIELD_WEIGHTS = {8, 4, 3, 2};
+
+    private final EateryRepository eateryRepository;
+    private final ReviewRepository reviewRepository;
+
+    /** Trigram index keyed by eatery ID. */
+    private final TrigramIndex keywordIndex = newKeywordIndex();
+
+    /** Eatery IDs sorted by postal code and grouped by sector. */
+    private final PostalIndex postalIndex = new PostalIndex();
+
+    /** Normalized tag name → IDs of the eateries carrying that tag. */
+    private final Map<String, Set<Long>> tagPostings = new ConcurrentHashMap<>();
+
+    /** Snapshot of every indexed eatery, keyed by ID. */
+    private final Map<Long, IndexedEatery> documents = new ConcurrentHashMap<>();
+
+    /** Whether the index has been populated from the database. */
+    private volatile boolean loaded = false;
+
+    /** Current typeahead trie; {@code null} until first built. */
+    private volatile SuggestionTrie suggestions;
+
+    /** Whether {@link #suggestions} no longer reflects the catalog. */
+    private volatile boolean suggestionsStale = true;
+
+    /** Whether a background rebuild of {@link #suggestions} is queued but not yet started. */
+    private final AtomicBoolean suggestionRebuildQueued = new AtomicBoolean();
+
+    /** Single daemon thread rebuilding the typeahead trie off the request path. */
+    private final ExecutorService suggestionRebuilder = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "suggestion-rebuilder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Current per-tag facet bitmaps; {@code null} until first built. */
+    private volatile FacetBitmaps facets;
+
+    /** Whether {@link #facets} no longer reflects the catalog. */
+    private volatile boolean facetsStale = true;
+
+    /**
+     * Constructs the index with the repositories used to load it.
+     *
+     * @param eateryRepository repository for reading all stored eateries
+     * @param reviewRepository repository for review counts used as popularity weights
+     */
+    public EaterySearchIndex(EateryRepository eateryRepository, ReviewRepository reviewRepository) {
+        this.eateryRepository = eateryRepository;
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * Creates an empty trigram index ranking eatery fields the way this index does.
+     * Fields are passed to {@link TrigramIndex#put(long, String...)} as name, building
+     * name, address, and postal code.
+     *
+     * @return a new, empty index
+     */
+    public static TrigramIndex newKeywordIndex() {
+        return new TrigramIndex(FIELD_WEIGHTS);
+    }
+
+    /**
+     * Searches indexed eateries by keyword.
+     *
+     * @param query free-text query matched against name, building, address, and postal code
+     * @return matching eatery IDs, best match first
+     */
+    public List<Long> search(String query) {
+        ensureLoaded();
+        return keywordIndex.search(query);
+    }
+
+    /**
+     * Returns the IDs of eateries carrying at least one of the given tags.
+     *
+     * @param tags tag names to match (case-insensitive)
+     * @return matching eatery IDs in ascending order
+     */
+    public List<Long> searchByTags(Collection<String> tags) {
+        ensureLoaded();
+        List<Long> ids = new ArrayList<>(tagged(tags));
+        Collections.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Searches by keyword and restricts the results to eateries carrying at least
+     * one of the given tags.
+     *
+     * @param query free-text query; if blank, only the tag filter applies
+     * @param tags  tag names to match (case-insensitive)
+     * @return matching eatery IDs, best keyword match first
+     */
+    public List<Long> search(String query, Collection<String> tags) {
+        if (query == null || query.isBlank()) return searchByTags(tags);
+        ensureLoaded();
+        Set<Long> allowed = tagged(tags);
+        if (allowed.isEmpty()) return List.of();
+
+        List<Long> ids = new ArrayList<>();
+        for (Long id : keywordIndex.search(query)) {
+            if (allowed.contains(id)) ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the eateries in one or more adjacent postal sectors, ordered by postal code.
+     *
+     * @param sector the two-digit sector (e.g., {@code "52"})
+     * @param radius how many numerically neighbouring sectors to include on each side
+     * @return matching eatery IDs
+     * @throws IllegalArgumentException if the sector is not two digits or the radius is negative
+     */
+    public List<Long> searchBySector(String sector, int radius) {
+        if (!PostalIndex.isSector(sector)) {
+            throw new IllegalArgumentException("Postal sector must be two digits, e.g. 52");
+        }
+        if (radius < 0) throw new IllegalArgumentException("Radius must not be negative");
+        ensureLoaded();
+
+        int center = Integer.parseInt(sector);
+        String from = String.format("%02d0000", Math.max(0, center - radius));
+        String to = String.format("%02d9999", Math.min(99, center + radius));
+        return postalIndex.inRange(from, to);
+    }
+
+    /**
+     * Returns the number of indexed eateries in each postal sector.
+     *
+     * @return sector → eatery count, in sector order
+     */
+    public NavigableMap<String, Integer> postalSectorCounts() {
+        ensureLoaded();
+        return postalIndex.sectorCounts();
+    }
+
+    /**
+     * Counts, for every tag, how many eateries of a result set carry it.
+     *
+     * @param resultIds the IDs of the result set, or {@code null} for the whole catalog
+     * @return one entry per tag present in the result set, most frequent first
+     */
+    public List<TagFacetDto> facetCounts(Collection<Long> resultIds) {
+        ensureLoaded();
+        FacetBitmaps bitmaps = facets;
+        if (bitmaps == null || facetsStale) bitmaps = rebuildFacets();
+
+        BitSet results = null;
+        if (resultIds != null) {
+            results = new BitSet();
+            for (Long id : resultIds) {
+                if (id != null && id >= 0 && id <= Integer.MAX_VALUE) results.set(id.intValue());
+            }
+        }
+
+        List<TagFacetDto> counts = new ArrayList<>();
+        for (int i = 0; i < bitmaps.names.length; i++) {
+            int count;
+            if (results == null) {
+                count = bitmaps.bitmaps[i].cardinality();
+            } else {
+                BitSet and = (BitSet) bitmaps.bitmaps[i].clone();
+                and.and(results);
+                count = and.cardinality();
+            }
+            if (count > 0) counts.add(new TagFacetDto(bitmaps.names[i], count));
+        }
+        counts.sort((a, b) -> a.getCount() != b.getCount()
+                ? Long.compare(b.getCount(), a.getCount())
+                : a.getTag().compareToIgnoreCase(b.getTag()));
+        return counts;
+    }
+
+    /**
+     * Returns typeahead suggestions for a prefix.
+     *
+     * <p>If the trie is stale, the current one answers and a rebuild is scheduled
+     * in the background.</p>
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions (capped at {@link SuggestionTrie#MAX_SUGGESTIONS})
+     * @return suggestions ordered by popularity
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        ensureLoaded();
+        SuggestionTrie trie = suggestions;
+        if (trie == null) trie = rebuildSuggestions();
+        else if (suggestionsStale) scheduleSuggestionRebuild();
+        return trie.suggest(prefix, Math.min(limit, SuggestionTrie.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Adds or refreshes a single eatery in the index.
+     *
+     * <p>If the index has not been loaded yet, this is a no-op: the eatery will be
+     * picked up by the initial load instead.</p>
+     *
+     * @param eatery the persisted eatery (must have an ID)
+     */
+    public void index(Eatery eatery) {
+        if (!loaded || eatery == null || eatery.getId() == null) return;
+        put(eatery);
+        suggestionsStale = true;
+        facetsStale = true;
+    }
+
+    /**
+     * Re-reads the given eateries from the database and refreshes them in the index.
+     *
+     * <p>Used after set-based updates that bypass the entity lifecycle, such as bulk
+     * tag operations. IDs that no longer exist are removed.</p>
+     *
+     * @param eateryIds the IDs of the eateries to refresh
+     */
+    public void reindex(Collection<Long> eateryIds) {
+        if (!loaded || eateryIds.isEmpty()) return;
+        Set<Long> missing = new HashSet<>(eateryIds);
+        for (Eatery eatery : eateryRepository.findAllById(eateryIds)) {
+            put(eatery);
+            missing.remove(eatery.getId());
+        }
+        missing.forEach(this::remove);
+        suggestionsStale = true;
+        facetsStale = true;
+    }
+
+    /**
+     * Removes an eatery from the index.
+     *
+     * @param eateryId the ID of the eatery to remove
+     */
+    public void remove(Long eateryId) {
+        if (!loaded || eateryId == null) return;
+        synchronized (this) {
+            keywordIndex.remove(eateryId);
+            unlink(documents.remove(eateryId));
+        }
+        suggestionsStale = true;
+        facetsStale = true;
+    }
+
+    /**
+     * Marks popularity-weighted structures as stale, e.g. after review counts change.
+     */
+    public void invalidateSuggestions() {
+        suggestionsStale = true;
+    }
+
+    /** Stops the background rebuild thread. */
+    @PreDestroy
+    public void shutdown() {
+        suggestionRebuilder.shutdownNow();
+    }
+
+    /**
+     * Discards the current contents and re-indexes the given eateries.
+     *
+     * @param eateries the full eatery catalog
+     */
+    public synchronized void rebuild(Collection<Eatery> eateries) {
+        keywordIndex.clear();
+        postalIndex.clear();
+        tagPostings.clear();
+        documents.clear();
+        for (Eatery eatery : eateries) {
+            if (eatery.getId() != null) put(eatery);
+        }
+        suggestionsStale = true;
+        facetsStale = true;
+        loaded = true;
+    }
+
+    /** Loads the index from the database the first time it is needed. */
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (!loaded) rebuild(eateryRepository.findAll());
+        }
+    }
+
+    /** Writes a single eatery's fields into the in-memory structures. */
+    private synchronized void put(Eatery eatery) {
+        IndexedEatery doc = new IndexedEatery(eatery);
+        unlink(documents.put(doc.getId(), doc));
+        keywordIndex.put(doc.getId(),
+                doc.getName(),
+                doc.getBuildingName(),
+                doc.getAddress(),
+                doc.getPostalCode());
+        postalIndex.put(doc.getId(), doc.getPostalCode());
+        for (String tag : doc.getTags()) {
+            String key = CanonicalTag.normalize(tag);
+            if (!key.isEmpty()) tagPostings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(doc.getId());
+        }
+    }
+
+    /** Removes a previous snapshot's entries from the postal index and tag postings. */
+    private void unlink(IndexedEatery previous) {
+        if (previous == null) return;
+        postalIndex.remove(previous.getId(), previous.getPostalCode());
+        for (String tag : previous.getTags()) {
+            String key = CanonicalTag.normalize(tag);
+            Set<Long> ids = tagPostings.get(key);
+            if (ids != null) {
+                ids.remove(previous.getId());
+                if (ids.isEmpty()) tagPostings.remove(key);
+            }
+        }
+    }
+
+    /** Unions the posting sets of the given tags. */
+    private Set<Long> tagged(Collection<String> tags) {
+        if (tags == null) return Set.of();
+        Set<Long> ids = new HashSet<>();
+        for (String tag : tags) {
+            Set<Long> posting = tagPostings.get(CanonicalTag.normalize(tag));
+            if (posting != null) ids.addAll(posting);
+        }
+        return ids;
+    }
+
+    /** Queues a background rebuild of the typeahead trie unless one is already queued. */
+    private void scheduleSuggestionRebuild() {
+        if (!suggestionRebuildQueued.compareAndSet(false, true)) return;
+        suggestionRebuilder.execute(() -> {
+            // Cleared first, so changes made during this rebuild queue another one.
+            suggestionRebuildQueued.set(false);
+            try {
+                rebuildSuggestions();
+            } catch (RuntimeException e) {
+                suggestionsStale = true;
+                System.err.println("Suggestion rebuild failed: " + e.getMessage());
+            }
+        });
+    }
+
+    /** Rebuilds the typeahead trie from the current snapshots and review counts. */
+    private synchronized SuggestionTrie rebuildSuggestions() {
+        if (suggestions != null && !suggestionsStale) return suggestions;
+        suggestionsStale = false;
+
+        Map<Long, Long> reviewCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countVisibleReviewsGroupedByEatery()) {
+            reviewCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        Map<String, Long> buildings = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Long> postalCodes = new HashMap<>();
+        Map<String, Long> tags = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder();
+
+        for (IndexedEatery doc : documents.values()) {
+            long weight = 1 + reviewCounts.getOrDefault(doc.getId(), 0L);
+            if (doc.getName() != null) builder.add(doc.getName(), "EATERY", doc.getId(), weight);
+            if (doc.getBuildingName() != null && !doc.getBuildingName().isBlank()) {
+                buildings.merge(doc.getBuildingName().trim(), weight, Long::sum);
+            }
+            if (!doc.getPostalCode().isEmpty()) postalCodes.merge(doc.getPostalCode(), weight, Long::sum);
+            for (String tag : doc.getTags()) {
+                if (tag != null && !tag.isBlank()) tags.merge(tag.trim(), weight, Long::sum);
+            }
+        }
+
+        buildings.forEach((text, weight) -> builder.add(text, "BUILDING", null, weight));
+        postalCodes.forEach((text, weight) -> builder.add(text, "POSTAL_CODE", null, weight));
+        tags.forEach((text, weight) -> builder.add(text, "TAG", null, weight));
+
+        SuggestionTrie trie = builder.build();
+        suggestions = trie;
+        return trie;
+    }
+
+    /** Rebuilds the per-tag facet bitmaps from the current snapshots. */
+    private synchronized FacetBitmaps rebuildFacets() {
+        if (facets != null && !facetsStale) return facets;
+        facetsStale = false;
+
+        Map<String, String> names = new TreeMap<>();
+        Map<String, BitSet> bitmaps = new HashMap<>();
+        for (IndexedEatery doc : documents.values()) {
+            if (doc.getId() > Integer.MAX_VALUE) continue;
+            for (String tag : doc.getTags()) {
+                String key = CanonicalTag.normalize(tag);
+                if (key.isEmpty()) continue;
+                names.putIfAbsent(key, tag.trim());
+                bitmaps.computeIfAbsent(key, k -> new BitSet()).set(doc.getId().intValue());
+            }
+        }
+
+        String[] displayNames = new String[names.size()];
+        BitSet[] sets = new BitSet[names.size()];
+        int i = 0;
+        for (Map.Entry<String, String> entry : names.entrySet()) {
+            displayNames[i] = entry.getValue();
+            sets[i] = bitmaps.get(entry.getKey());
+            i++;
+        }
+        FacetBitmaps built = new FacetBitmaps(displayNames, sets);
+        facets = built;
+        return built;
+    }
+
+    /** Immutable snapshot of one bitmap per tag; bitmaps are never mutated after construction. */
+    private static final class FacetBitmaps {
+        final String[] names;
+        final BitSet[] bitmaps;
+
+        FacetBitmaps(String[] names, BitSet[] bitmaps) {
+            this.names = names;
+            this.bitmaps = bitmaps;
+        }
+    }
+
+    /**
+     * Formats a numeric postal code as the six-digit string users type.
+     *
+     * @param postalCode the stored postal code
+     * @return the zero-padded postal code, or an empty string if absent
+     */
+    public static String formatPostalCode(Long postalCode) {
+        return postalCode == null ? "" : String.format("%06d", postalCode);
+    }
+}
@@ -0,0 +1,60 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the eatery fields held by {@link EaterySearchIndex}.
+ *
+ * <p>Snapshots are taken when an eatery is indexed so that in-memory structures
+ * (keyword postings, suggestions) can be rebuilt without going back to the
+ * database, and without holding on to managed JPA entities.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
+ * @see com.FeedEmGreens.HealthyAura.entity.Eatery
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IndexedEatery {
+
+    private final Long id;
+    private final String name;
+    private final String buildingName;
+    private final String address;
+    private final String postalCode;
+    private final List<String> tags;
+
+    /**
+     * Captures the indexed fields of an eatery.
+     *
+     * @param eatery the persisted eatery
+     */
+    public IndexedEatery(Eatery eatery) {
+        this.id = eatery.getId();
+        this.name = eatery.getName();
+        this.buildingName = eatery.getBuildingName();
+        this.address = eatery.getAddress();
+        this.postalCode = EaterySearchIndex.formatPostalCode(eatery.getPostalCode());
+        this.tags = List.copyOf(eatery.getTagNames());
+    }
+
+    /** @return the eatery ID */
+    public Long getId() { return id; }
+
+    /** @return the eatery name */
+    public String getName() { return name; }
+
+    /** @return the building name */
+    public String getBuildingName() { return buildingName; }
+
+    /** @return the street address */
+    public String getAddress() { return address; }
+
+    /** @return the six-digit postal code, or an empty string if unknown */
+    public String getPostalCode() { return postalCode; }
+
+    /** @return the tag names attached to the eatery at indexing time */
+    public List<String> getTags() { return tags; }
+}
@@ -0,0 +1,174 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import java.util.*;
+
+/**
+ * Immutable Aho-Corasick automaton that finds every configured keyword in a text
+ * in a single left-to-right pass.
+ *
+ * <p>Keywords are compiled into a trie whose nodes carry failure links (the
+ * longest proper suffix that is also a trie path) and a merged output list, so
+ * the scan never backtracks: its cost is linear in the text length plus the
+ * number of matches, independent of how many keywords are configured.</p>
+ *
+ * <p>Keywords and texts are normalized with {@link TrigramIndex#normalize}, and a
+ * match only counts when it is bounded by non-alphanumeric characters (or the
+ * ends of the text), so {@code "ham"} does not match inside {@code "shami"}.</p>
+ *
+ * <p>Each keyword maps to a value (e.g., the tag it implies); {@link #match}
+ * returns the distinct values of all keywords found. Instances are built once and
+ * then shared read-only between threads.</p>
+ *
+ * @param <T> the type of value attached to each keyword
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.AutoTagService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class KeywordAutomaton<T> {
+
+    /** Sorted outgoing characters of each state. */
+    private final char[][] keys;
+
+    /** Target state for each entry of {@link #keys}. */
+    private final int[][] targets;
+
+    /** Failure link of each state. */
+    private final int[] fail;
+
+    /** Keywords (by index) recognized on reaching each state, including via failure links. */
+    private final int[][] outputs;
+
+    /** Length of each keyword, by index. */
+    private final int[] lengths;
+
+    /** Value of each keyword, by index. */
+    private final List<T> values;
+
+    private KeywordAutomaton(char[][] keys, int[][] targets, int[] fail, int[][] outputs,
+                             int[] lengths, List<T> values) {
+        this.keys = keys;
+        this.targets = targets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.lengths = lengths;
+        this.values = values;
+    }
+
+    /**
+     * Compiles an automaton from keyword → value rules.
+     *
+     * @param rules the rules; blank keywords are ignored
+     * @param <T>   the value type
+     * @return the compiled automaton
+     */
+    public static <T> KeywordAutomaton<T> compile(Map<String, T> rules) {
+        List<TreeMap<Character, Integer>> gotos = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        gotos.add(new TreeMap<>());
+        out.add(new ArrayList<>());
+
+        List<Integer> lengths = new ArrayList<>();
+        List<T> values = new ArrayList<>();
+
+        for (Map.Entry<String, T> rule : rules.entrySet()) {
+            String keyword = TrigramIndex.normalize(rule.getKey());
+            if (keyword.isEmpty()) continue;
+
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = gotos.get(state).get(keyword.charAt(i));
+                if (next == null) {
+                    next = gotos.size();
+                    gotos.get(state).put(keyword.charAt(i), next);
+                    gotos.add(new TreeMap<>());
+                    out.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            out.get(state).add(values.size());
+            lengths.add(keyword.length());
+            values.add(rule.getValue());
+        }
+
+        // Breadth-first pass: failure links, with outputs inherited along them.
+        int n = gotos.size();
+        int[] fail = new int[n];
+        Deque<Integer> queue = new ArrayDeque<>(gotos.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : gotos.get(state).entrySet()) {
+                int child = edge.getValue();
+                int f = fail[state];
+                while (f != 0 && !gotos.get(f).containsKey(edge.getKey())) f = fail[f];
+                Integer target = gotos.get(f).get(edge.getKey());
+                fail[child] = target != null && target != child ? target : 0;
+                out.get(child).addAll(out.get(fail[child]));
+                queue.add(child);
+            }
+        }
+
+        char[][] keys = new char[n][];
+        int[][] targets = new int[n][];
+        int[][] outputs = new int[n][];
+        for (int s = 0; s < n; s++) {
+            TreeMap<Character, Integer> edges = gotos.get(s);
+            keys[s] = new char[edges.size()];
+            targets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                keys[s][i] = edge.getKey();
+                targets[s][i++] = edge.getValue();
+            }
+            outputs[s] = out.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new KeywordAutomaton<>(keys, targets, fail, outputs,
+                lengths.stream().mapToInt(Integer::intValue).toArray(), List.copyOf(values));
+    }
+
+    /** @return the number of compiled keywords */
+    public int size() {
+        return lengths.length;
+    }
+
+    /**
+     * Returns the values of every keyword found as a whole word in any of the texts.
+     *
+     * @param texts the texts to scan; {@code null} entries are skipped
+     * @return the distinct values found, in order of first match
+     */
+    public Set<T> match(String... texts) {
+        Set<T> found = new LinkedHashSet<>();
+        for (String raw : texts) {
+            String text = TrigramIndex.normalize(raw);
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                int next;
+                while ((next = step(state, c)) < 0 && state != 0) state = fail[state];
+                state = Math.max(next, 0);
+
+                for (int keyword : outputs[state]) {
+                    int start = i - lengths[keyword] + 1;
+                    if (isBoundary(text, start - 1) && isBoundary(text, i + 1)) {
+                        found.add(values.get(keyword));
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /** Follows the goto edge for {@code c}, or returns -1 if there is none. */
+    private int step(int state, char c) {
+        int i = Arrays.binarySearch(keys[state], c);
+        return i >= 0 ? targets[state][i] : -1;
+    }
+
+    /** Whether position {@code i} is outside the text or a non-alphanumeric character. */
+    private static boolean isBoundary(String text, int i) {
+        return i < 0 || i >= text.length() || !Character.isLetterOrDigit(text.charAt(i));
+    }
+}
@@ -0,0 +1,72 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import java.util.*;
+
+/**
+ * Fuzzy comparison of eatery names.
+ *
+ * <p>Names are normalized (lower case, punctuation removed, whitespace collapsed,
+ * common company suffixes such as “Pte Ltd” dropped) and compared with the
+ * Sørensen–Dice coefficient over character bigrams. This tolerates the small
+ * spelling, spacing, and punctuation differences seen between dataset revisions
+ * (“Ah Hock's Kitchen” vs “Ah Hock Kitchen”).</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.EateryDeduplicationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class NameSimilarity {
+
+    /** Suffixes that carry no identifying information. */
+    private static final Set<String> STOP_WORDS = Set.of("pte", "ltd", "llp", "the");
+
+    private NameSimilarity() {}
+
+    /**
+     * Normalizes a name for comparison.
+     *
+     * @param name the raw name
+     * @return the normalized name, or an empty string for {@code null}
+     */
+    public static String normalize(String name) {
+        if (name == null) return "";
+        String cleaned = name.toLowerCase(Locale.ROOT)
+                .replace("'", "")
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+        StringBuilder sb = new StringBuilder(cleaned.length());
+        for (String word : cleaned.split(" ")) {
+            if (word.isEmpty() || STOP_WORDS.contains(word)) continue;
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(word);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Computes the similarity of two already-normalized names.
+     *
+     * @param a a normalized name
+     * @param b a normalized name
+     * @return a score between 0 (nothing in common) and 1 (identical)
+     */
+    public static double similarity(String a, String b) {
+        if (a.equals(b)) return a.isEmpty() ? 0.0 : 1.0;
+        if (a.length() < 2 || b.length() < 2) return 0.0;
+
+        Map<String, Integer> bigrams = new HashMap<>();
+        for (int i = 0; i + 2 <= a.length(); i++) bigrams.merge(a.substring(i, i + 2), 1, Integer::sum);
+
+        int shared = 0;
+        for (int i = 0; i + 2 <= b.length(); i++) {
+            String gram = b.substring(i, i + 2);
+            Integer count = bigrams.get(gram);
+            if (count != null && count > 0) {
+                shared++;
+                bigrams.put(gram, count - 1);
+            }
+        }
+        return 2.0 * shared / ((a.length() - 1) + (b.length() - 1));
+    }
+}
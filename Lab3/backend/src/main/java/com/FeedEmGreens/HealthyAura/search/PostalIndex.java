@@ -0,0 +1,134 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory sorted index of documents by Singapore postal code.
+ *
+ * <p>Postal codes are kept as six-digit strings in a sorted map, so that a range
+ * of codes (e.g., a whole postal sector, {@code "520000"}–{@code "529999"}) is a
+ * single ordered range scan. A second map groups documents by sector — the first
+ * two digits of the code — for constant-time sector sizes and listings of the
+ * sectors that have any documents.</p>
+ *
+ * <p>Writes are serialized; reads use concurrent skip-list structures and are
+ * lock-free.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
+ * @see com.FeedEmGreens.HealthyAura.service.RecManager
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PostalIndex {
+
+    /** Full six-digit code → IDs of the documents at that code. */
+    private final ConcurrentSkipListMap<String, Set<Long>> byCode = new ConcurrentSkipListMap<>();
+
+    /** Two-digit sector → IDs of the documents in that sector. */
+    private final ConcurrentSkipListMap<String, Set<Long>> bySector = new ConcurrentSkipListMap<>();
+
+    /**
+     * Adds a document under a postal code.
+     *
+     * @param id   the document ID
+     * @param code the six-digit postal code; blank or malformed codes are ignored
+     */
+    public synchronized void put(long id, String code) {
+        if (!isPostalCode(code)) return;
+        byCode.computeIfAbsent(code, k -> new ConcurrentSkipListSet<>()).add(id);
+        bySector.computeIfAbsent(sectorOf(code), k -> new ConcurrentSkipListSet<>()).add(id);
+    }
+
+    /**
+     * Removes a document from a postal code.
+     *
+     * @param id   the document ID
+     * @param code the postal code the document was indexed under
+     */
+    public synchronized void remove(long id, String code) {
+        if (!isPostalCode(code)) return;
+        removeFrom(byCode, code, id);
+        removeFrom(bySector, sectorOf(code), id);
+    }
+
+    /** Removes every document from the index. */
+    public synchronized void clear() {
+        byCode.clear();
+        bySector.clear();
+    }
+
+    /**
+     * Returns the documents in a postal sector, ordered by postal code then ID.
+     *
+     * @param sector the two-digit sector (e.g., {@code "52"})
+     * @return the matching document IDs
+     */
+    public List<Long> inSector(String sector) {
+        if (!isSector(sector)) return List.of();
+        return inRange(sector + "0000", sector + "9999");
+    }
+
+    /**
+     * Returns the documents whose postal code lies in an inclusive range, ordered
+     * by postal code then ID.
+     *
+     * @param fromCode the lowest six-digit code
+     * @param toCode   the highest six-digit code
+     * @return the matching document IDs
+     */
+    public List<Long> inRange(String fromCode, String toCode) {
+        if (fromCode.compareTo(toCode) > 0) return List.of();
+        List<Long> ids = new ArrayList<>();
+        for (Set<Long> atCode : byCode.subMap(fromCode, true, toCode, true).values()) {
+            ids.addAll(atCode);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the number of documents in each non-empty sector.
+     *
+     * @return sector → document count, in sector order
+     */
+    public NavigableMap<String, Integer> sectorCounts() {
+        NavigableMap<String, Integer> counts = new TreeMap<>();
+        bySector.forEach((sector, ids) -> {
+            if (!ids.isEmpty()) counts.put(sector, ids.size());
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the sector of a postal code.
+     *
+     * @param code a six-digit postal code
+     * @return its first two digits
+     */
+    public static String sectorOf(String code) {
+        return code.substring(0, 2);
+    }
+
+    /**
+     * Checks whether a value is a two-digit postal sector.
+     *
+     * @param sector the value to check
+     * @return {@code true} for values such as {@code "01"} or {@code "52"}
+     */
+    public static boolean isSector(String sector) {
+        return sector != null && sector.matches("\\d{2}");
+    }
+
+    private static boolean isPostalCode(String code) {
+        return code != null && code.matches("\\d{6}");
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> map, String key, long id) {
+        Set<Long> ids = map.get(key);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) map.remove(key);
+    }
+}
@@ -0,0 +1,103 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import java.util.*;
+
+/**
+ * Uniform grid over latitude/longitude for finding nearby points without
+ * comparing every pair.
+ *
+ * <p>Coordinates are projected onto an equirectangular grid of square cells with
+ * the given edge length in metres. Any two points closer than one cell edge are
+ * guaranteed to lie in the same or adjacent cells, so a neighbourhood lookup only
+ * inspects the 3×3 block of cells around a point.</p>
+ *
+ * <p>The projection uses a single reference latitude, which is accurate to well
+ * under a percent across an area the size of Singapore.</p>
+ *
+ * <p>Not thread-safe; instances are built and queried by a single caller.</p>
+ *
+ * @param <T> the payload stored with each point
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.EateryDeduplicationService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SpatialHash<T> {
+
+    /** Metres per degree of latitude. */
+    private static final double METRES_PER_DEGREE = 111_320.0;
+
+    private final double cellMetres;
+    private final double metresPerDegreeLng;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    /**
+     * Creates an empty grid.
+     *
+     * @param cellMetres        edge length of each cell in metres
+     * @param referenceLatitude latitude used to scale longitude degrees to metres
+     */
+    public SpatialHash(double cellMetres, double referenceLatitude) {
+        this.cellMetres = cellMetres;
+        this.metresPerDegreeLng = METRES_PER_DEGREE * Math.cos(Math.toRadians(referenceLatitude));
+    }
+
+    /**
+     * Adds a point.
+     *
+     * @param latitude  the latitude
+     * @param longitude the longitude
+     * @param value     the payload
+     */
+    public void put(double latitude, double longitude, T value) {
+        cells.computeIfAbsent(key(cellY(latitude), cellX(longitude)), k -> new ArrayList<>(2)).add(value);
+    }
+
+    /**
+     * Returns the payloads in the cell containing a point and its eight neighbours.
+     *
+     * @param latitude  the latitude
+     * @param longitude the longitude
+     * @return candidate payloads; callers must still check the exact distance
+     */
+    public List<T> neighbours(double latitude, double longitude) {
+        long y = cellY(latitude);
+        long x = cellX(longitude);
+        List<T> result = new ArrayList<>();
+        for (long dy = -1; dy <= 1; dy++) {
+            for (long dx = -1; dx <= 1; dx++) {
+                List<T> cell = cells.get(key(y + dy, x + dx));
+                if (cell != null) result.addAll(cell);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the great-circle distance between two points using the haversine formula.
+     *
+     * @return the distance in metres
+     */
+    public static double distanceMetres(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 6_371_000.0 * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private long cellY(double latitude) {
+        return (long) Math.floor(latitude * METRES_PER_DEGREE / cellMetres);
+    }
+
+    private long cellX(double longitude) {
+        return (long) Math.floor(longitude * metresPerDegreeLng / cellMetres);
+    }
+
+    /** Packs two cell coordinates into one map key. */
+    private static long key(long y, long x) {
+        return (y << 32) ^ (x & 0xffffffffL);
+    }
+}
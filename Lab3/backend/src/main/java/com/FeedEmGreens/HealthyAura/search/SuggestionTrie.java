@@ -0,0 +1,179 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import com.FeedEmGreens.HealthyAura.dto.SuggestionDto;
+
+import java.util.*;
+
+/**
+ * Immutable prefix trie that answers typeahead queries in time proportional to
+ * the prefix length.
+ *
+ * <p>Every node stores its children as a sorted {@code char[]} (looked up by binary
+ * search) and a precomputed array of the highest-weighted suggestions anywhere in
+ * its subtree. A lookup therefore walks the prefix and returns the array already
+ * stored at the final node, without visiting the subtree.</p>
+ *
+ * <p>Each suggestion is reachable from the start of every word in its text, so
+ * typing {@code "mall"} finds {@code "Tampines Mall"} as well as names that begin
+ * with it.</p>
+ *
+ * <p>Instances are built once via {@link Builder} and then shared read-only
+ * between request threads.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
+ * @see com.FeedEmGreens.HealthyAura.dto.SuggestionDto
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SuggestionTrie {
+
+    /** Maximum number of suggestions kept at each node. */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final Node root;
+
+    private SuggestionTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the top suggestions whose text has a word starting with the prefix.
+     *
+     * @param prefix the typed prefix (case-insensitive)
+     * @param limit  the maximum number of suggestions to return
+     * @return up to {@code limit} suggestions, highest weight first
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        String key = TrigramIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) return List.of();
+
+        int n = Math.min(limit, node.top.length);
+        List<SuggestionDto> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) result.add(node.top[i].toDto());
+        return result;
+    }
+
+    /** A single weighted suggestion entry. */
+    private static final class Entry {
+        final String text;
+        final String type;
+        final Long eateryId;
+        final long weight;
+
+        Entry(String text, String type, Long eateryId, long weight) {
+            this.text = text;
+            this.type = type;
+            this.eateryId = eateryId;
+            this.weight = weight;
+        }
+
+        SuggestionDto toDto() {
+            return new SuggestionDto(text, type, eateryId);
+        }
+    }
+
+    /** Orders entries by descending weight, then alphabetically. */
+    private static final Comparator<Entry> BY_WEIGHT = (a, b) -> a.weight != b.weight
+            ? Long.compare(b.weight, a.weight)
+            : a.text.compareToIgnoreCase(b.text);
+
+    /** Read-only trie node. */
+    private static final class Node {
+        final char[] keys;
+        final Node[] children;
+        final Entry[] top;
+
+        Node(char[] keys, Node[] children, Entry[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    /**
+     * Mutable builder that accumulates weighted terms and produces an immutable trie.
+     */
+    public static final class Builder {
+
+        private final BuildNode root = new BuildNode();
+
+        /**
+         * Adds a suggestion, reachable from the start of each of its words.
+         *
+         * @param text     the display text
+         * @param type     the suggestion category (e.g., {@code EATERY}, {@code TAG})
+         * @param eateryId the eatery the suggestion points to, or {@code null}
+         * @param weight   the popularity weight; higher is suggested first
+         * @return this builder
+         */
+        public Builder add(String text, String type, Long eateryId, long weight) {
+            String key = TrigramIndex.normalize(text);
+            if (key.isEmpty()) return this;
+
+            Entry entry = new Entry(text.trim(), type, eateryId, weight);
+            for (int i = 0; i < key.length(); i++) {
+                if (i == 0 || key.charAt(i - 1) == ' ') insert(key.substring(i), entry);
+            }
+            return this;
+        }
+
+        /** @return the finished trie */
+        public SuggestionTrie build() {
+            return new SuggestionTrie(root.freeze());
+        }
+
+        private void insert(String key, Entry entry) {
+            BuildNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.entries.add(entry);
+        }
+    }
+
+    /** Node used while building; converted into a compact {@link Node} by {@link #freeze()}. */
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<Entry> entries = new ArrayList<>(1);
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+
+            // Merge this node's own entries with the best entries of every child subtree.
+            PriorityQueue<Entry> best = new PriorityQueue<>(BY_WEIGHT.reversed());
+            Set<String> seen = new HashSet<>();
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                frozen[i] = child.getValue().freeze();
+                for (Entry e : frozen[i].top) offer(best, seen, e);
+                i++;
+            }
+            for (Entry e : entries) offer(best, seen, e);
+
+            Entry[] top = best.toArray(new Entry[0]);
+            Arrays.sort(top, BY_WEIGHT);
+            return new Node(keys, frozen, top);
+        }
+
+        private static void offer(PriorityQueue<Entry> best, Set<String> seen, Entry e) {
+            String identity = e.type + '|' + e.eateryId + '|' + e.text.toLowerCase(Locale.ROOT);
+            if (!seen.add(identity)) return;
+            best.offer(e);
+            if (best.size() > MAX_SUGGESTIONS) best.poll();
+        }
+    }
+}
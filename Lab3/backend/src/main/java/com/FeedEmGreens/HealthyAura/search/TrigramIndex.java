@@ -0,0 +1,205 @@
+package com.FeedEmGreens.HealthyAura.search;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory trigram inverted index used for substring keyword search.
+ *
+ * <p>Each document is identified by a numeric ID and consists of a fixed number of
+ * text fields (e.g., name, building name, address, postal code). Every field is
+ * normalized to lower case and split into overlapping three-character grams, and each
+ * gram keeps a posting set of the document IDs that contain it.</p>
+ *
+ * <p>A query is answered by intersecting the posting sets of its own trigrams
+ * (smallest set first), then verifying the surviving candidates with a plain
+ * {@code contains} check to drop false positives. Queries shorter than three
+ * characters cannot be expressed as trigrams and fall back to a scan over the
+ * indexed documents, which is still entirely in memory.</p>
+ *
+ * <p>Results are ranked using the per-field weights supplied at construction:
+ * a match at the start of a field scores higher than a match at the start of a word,
+ * which in turn scores higher than a match in the middle of a word.</p>
+ *
+ * <p>Writes are serialized; reads are lock-free against concurrent maps and
+ * tolerate a document being re-indexed at the same time.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
+ * @see com.FeedEmGreens.HealthyAura.service.EateryService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TrigramIndex {
+
+    /** Length of each gram stored in the index. */
+    private static final int GRAM = 3;
+
+    /** Relative importance of each indexed field, in field order. */
+    private final int[] fieldWeights;
+
+    /** Gram → IDs of the documents containing that gram in any field. */
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    /** Document ID → normalized field values, used for verification and ranking. */
+    private final Map<Long, String[]> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param fieldWeights ranking weight of each field, in the same order the fields
+     *                     are passed to {@link #put(long, String...)}
+     */
+    public TrigramIndex(int... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    /**
+     * Adds or replaces a document in the index.
+     *
+     * @param id     the document ID
+     * @param fields the raw field values (nulls are treated as empty)
+     */
+    public synchronized void put(long id, String... fields) {
+        removeInternal(id);
+
+        String[] normalized = new String[fieldWeights.length];
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] = i < fields.length ? normalize(fields[i]) : "";
+        }
+        documents.put(id, normalized);
+
+        for (String field : normalized) {
+            for (String gram : grams(field)) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes a document from the index, if present.
+     *
+     * @param id the document ID
+     */
+    public synchronized void remove(long id) {
+        removeInternal(id);
+    }
+
+    /** Removes every document from the index. */
+    public synchronized void clear() {
+        postings.clear();
+        documents.clear();
+    }
+
+    /** @return the number of indexed documents */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Returns the IDs of all documents whose fields contain the query as a substring,
+     * ranked from best to worst match.
+     *
+     * @param query the raw query (case-insensitive)
+     * @return ranked document IDs, or an empty list if the query is blank
+     */
+    public List<Long> search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) return List.of();
+
+        List<long[]> scored = new ArrayList<>();
+        for (Long id : candidates(q)) {
+            String[] fields = documents.get(id);
+            if (fields == null) continue;
+            int score = score(fields, q);
+            if (score > 0) {
+                scored.add(new long[]{id, score, fields[0].length()});
+            }
+        }
+
+        scored.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1])
+                : a[2] != b[2] ? Long.compare(a[2], b[2])
+                : Long.compare(a[0], b[0]));
+
+        List<Long> ids = new ArrayList<>(scored.size());
+        for (long[] entry : scored) ids.add(entry[0]);
+        return ids;
+    }
+
+    /**
+     * Normalizes a value for indexing and querying: trimmed, lower-cased,
+     * with runs of whitespace collapsed into a single space.
+     *
+     * @param value the raw value
+     * @return the normalized value, or an empty string for {@code null}
+     */
+    public static String normalize(String value) {
+        if (value == null) return "";
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /** Removes a document's postings; caller must hold the write lock. */
+    private void removeInternal(long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) return;
+        for (String field : previous) {
+            for (String gram : grams(field)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /** Intersects the posting sets of the query grams, smallest first. */
+    private Collection<Long> candidates(String q) {
+        if (q.length() < GRAM) return documents.keySet();
+
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : grams(q)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) return List.of();
+            sets.add(ids);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+
+        List<Long> result = new ArrayList<>();
+        outer:
+        for (Long id : sets.get(0)) {
+            for (int i = 1; i < sets.size(); i++) {
+                if (!sets.get(i).contains(id)) continue outer;
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    /** Scores a document against the query; 0 means the document does not match. */
+    private int score(String[] fields, String q) {
+        int best = 0;
+        for (int i = 0; i < fields.length; i++) {
+            int pos = fields[i].indexOf(q);
+            if (pos < 0) continue;
+
+            int position;
+            if (pos == 0) position = 3;
+            else if (!Character.isLetterOrDigit(fields[i].charAt(pos - 1))) position = 2;
+            else position = 1;
+
+            best = Math.max(best, fieldWeights[i] * position);
+        }
+        return best;
+    }
+
+    /** Splits a normalized value into its distinct trigrams. */
+    private static Set<String> grams(String value) {
+        if (value.length() < GRAM) return Set.of();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
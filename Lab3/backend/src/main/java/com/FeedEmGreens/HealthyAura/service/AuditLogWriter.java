@@ -0,0 +1,191 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous, batched writer for {@link AdminActionLog} audit entries.
+ *
+ * <p>Admin operations hand their audit rows to this writer instead of inserting them
+ * inline. Rows are placed on a bounded in-memory queue and persisted by a single
+ * background thread in JDBC batches, flushed when {@code audit.batch-size} rows are
+ * waiting or {@code audit.flush-interval-ms} has passed since the first one.</p>
+ *
+ * <p>Delivery guarantees:</p>
+ * <ul>
+ *   <li>Rows written inside a transaction are only queued after it commits, so
+ *       rolled-back actions are not audited (as before).</li>
+ *   <li>If the queue is full, or the writer is shutting down, rows are written
+ *       synchronously in their own transaction instead of being dropped.</li>
+ *   <li>On graceful shutdown the background thread is stopped and every queued row
+ *       is flushed before the data source is closed.</li>
+ * </ul>
+ *
+ * @see com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepositoryCustom
+ * @see com.FeedEmGreens.HealthyAura.service.EateryService
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class AuditLogWriter {
+
+    @Autowired
+    private AdminActionLogRepository adminActionLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Maximum number of rows held in memory before falling back to synchronous writes. */
+    @Value("${audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    /** Maximum number of rows per JDBC batch. */
+    @Value("${audit.batch-size:200}")
+    private int batchSize;
+
+    /** Maximum time a queued row waits before its batch is flushed. */
+    @Value("${audit.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<AdminActionLog> queue;
+    private TransactionTemplate writeTransaction;
+    private Thread worker;
+    private volatile boolean running;
+
+    /** Starts the background writer thread. */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the background thread and flushes every row still queued.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<AdminActionLog> remaining = new ArrayList<>(batchSize);
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            flush(remaining);
+            remaining.clear();
+        }
+    }
+
+    /**
+     * Submits one audit row.
+     *
+     * @param log the row to persist
+     */
+    public void write(AdminActionLog log) {
+        writeAll(List.of(log));
+    }
+
+    /**
+     * Submits several audit rows. If called inside a transaction, the rows are
+     * queued only once that transaction commits.
+     *
+     * @param logs the rows to persist
+     */
+    public void writeAll(List<AdminActionLog> logs) {
+        if (logs.isEmpty()) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<AdminActionLog> pending = List.copyOf(logs);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+            });
+        } else {
+            enqueue(logs);
+        }
+    }
+
+    /** @return the number of rows waiting to be written */
+    public int pending() {
+        return queue.size();
+    }
+
+    /** Queues rows, writing any that do not fit synchronously. */
+    private void enqueue(List<AdminActionLog> logs) {
+        List<AdminActionLog> overflow = new ArrayList<>();
+        for (AdminActionLog log : logs) {
+            if (!running || !queue.offer(log)) overflow.add(log);
+        }
+        if (!overflow.isEmpty()) flush(overflow);
+    }
+
+    /** Background loop: collects a batch by size or time, then flushes it. */
+    private void run() {
+        List<AdminActionLog> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                AdminActionLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    AdminActionLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (!batch.isEmpty()) flush(batch);
+        }
+    }
+
+    /** Writes a batch in its own transaction, retrying row by row if the batch fails. */
+    private void flush(List<AdminActionLog> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> adminActionLogRepository.batchInsert(batch));
+        } catch (Exception batchFailure) {
+            for (AdminActionLog log : batch) {
+                try {
+                    writeTransaction.executeWithoutResult(status -> adminActionLogRepository.batchInsert(List.of(log)));
+                } catch (Exception e) {
+                    System.err.println("Failed to write admin audit log (" + log.getActionType() + "): " + e.getMessage());
+                }
+            }
+        }
+    }
+}
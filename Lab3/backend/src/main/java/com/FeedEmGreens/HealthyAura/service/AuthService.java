@@ -83,7 +83,7 @@ public class AuthService {
      * @throws DuplicateUserException if username or email already exists
      */
     public Users signup(String email, String username, String rawPassword, String role) {
-        if (userRepo.existsByUsername(username)) {
+        if (userRepo.existsByUsername(username) || ReviewSpamDetector.SYSTEM_USERNAME.equalsIgnoreCase(username)) {
             throw new DuplicateUserException("Username already exists");
         }
         if (userRepo.findByEmail(email).isPresent()) {
@@ -124,7 +124,7 @@ public class AuthService {
      * @throws DuplicateUserException if username or email already exists
      */
     public Users createAdmin(String email, String username, String rawPassword, String role) {
-        if (userRepo.existsByUsername(username)) {
+        if (userRepo.existsByUsername(username) || ReviewSpamDetector.SYSTEM_USERNAME.equalsIgnoreCase(username)) {
             throw new DuplicateUserException("Username already exists");
         }
         if (userRepo.findByEmail(email).isPresent()) {
@@ -0,0 +1,200 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.BulkTagResult;
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import com.FeedEmGreens.HealthyAura.search.KeywordAutomaton;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that assigns dietary tags automatically from keywords in an eatery's
+ * name and description.
+ *
+ * <p>Rules map keywords to tags (e.g., {@code "plant based" → Vegan}) and are read
+ * from {@code autotag.rules-location} (default
+ * {@code classpath:autotag-rules.properties}). They are compiled once into a
+ * {@link KeywordAutomaton}, so each eatery is tagged in a single pass over its
+ * text regardless of how many rules there are.</p>
+ *
+ * <p>Auto-tagging is used in two places:
+ * <ul>
+ *   <li>by the ingestion pipeline, for eateries inserted or updated by a sync</li>
+ *   <li>by {@link #retagCatalog()}, an admin-triggered batch job that scans the
+ *       whole catalog in parallel</li>
+ * </ul>
+ * Tags are only ever added, never removed, and each added tag is audited as a
+ * system action under the {@value #SYSTEM_ACTOR} actor.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.KeywordAutomaton
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ * @see com.FeedEmGreens.HealthyAura.service.TagVocabularyService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class AutoTagService {
+
+    /** Actor recorded in audit logs for automatic tag changes. */
+    public static final String SYSTEM_ACTOR = "SYSTEM";
+
+    @Value("${autotag.rules-location:classpath:autotag-rules.properties}")
+    private Resource rulesLocation;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private DietaryTagsRepository dietaryTagsRepository;
+
+    @Autowired
+    private TagVocabularyService tagVocabularyService;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private EaterySearchIndex eaterySearchIndex;
+
+    /** The compiled keyword → tag rules. */
+    private volatile KeywordAutomaton<String> automaton = KeywordAutomaton.compile(Map.of());
+
+    /**
+     * Loads and compiles the auto-tagging rules.
+     *
+     * <p>Each property is {@code Tag=keyword, keyword, ...}. A missing rules file
+     * leaves auto-tagging disabled.</p>
+     */
+    @PostConstruct
+    public void loadRules() {
+        if (rulesLocation == null || !rulesLocation.exists()) {
+            System.err.println("Auto-tag rules not found: " + rulesLocation);
+            return;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream in = rulesLocation.getInputStream()) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.err.println("Failed to load auto-tag rules: " + e.getMessage());
+            return;
+        }
+
+        Map<String, String> rules = new LinkedHashMap<>();
+        for (String tag : new TreeSet<>(properties.stringPropertyNames())) {
+            for (String keyword : properties.getProperty(tag).split(",")) {
+                if (!keyword.isBlank()) rules.put(keyword.trim(), tag.trim());
+            }
+        }
+        this.automaton = KeywordAutomaton.compile(rules);
+    }
+
+    /**
+     * Returns the tags implied by an eatery's name and description.
+     *
+     * @param name        the eatery name
+     * @param description the eatery description
+     * @return the matching tag names, possibly empty
+     */
+    public Set<String> suggestTags(String name, String description) {
+        return automaton.match(name, description);
+    }
+
+    /**
+     * Attaches auto-detected tags to eateries, skipping tags they already carry.
+     *
+     * @param matches tag name → IDs of the eateries it was detected on
+     * @return a summary of the tags added
+     */
+    @Transactional
+    public BulkTagResult applyTags(Map<String, Set<Long>> matches) {
+        Set<Long> targets = new HashSet<>();
+        matches.values().forEach(targets::addAll);
+        return apply(matches, targets.size());
+    }
+
+    /**
+     * Re-runs auto-tagging over the whole catalog.
+     *
+     * <p>Names and descriptions are read in one query and matched in parallel
+     * against the shared, immutable automaton; the resulting tags are then
+     * inserted with JDBC batches in this transaction.</p>
+     *
+     * @return a summary of the tags added
+     */
+    @Transactional
+    public BulkTagResult retagCatalog() {
+        List<Object[]> rows = eateryRepository.findTextFields();
+        KeywordAutomaton<String> rules = automaton;
+
+        Map<String, Set<Long>> matches = new ConcurrentHashMap<>();
+        rows.parallelStream().forEach(row -> {
+            for (String tag : rules.match((String) row[1], (String) row[2])) {
+                matches.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add((Long) row[0]);
+            }
+        });
+
+        return apply(matches, rows.size());
+    }
+
+    /** Inserts the missing tag rows, audits them, and schedules a reindex. */
+    private BulkTagResult apply(Map<String, Set<Long>> matches, int scanned) {
+        LocalDateTime now = LocalDateTime.now();
+        List<AdminActionLog> details = new ArrayList<>();
+        List<String> parts = new ArrayList<>();
+        Set<Long> changedEateries = new HashSet<>();
+        int added = 0;
+
+        for (Map.Entry<String, Set<Long>> entry : new TreeMap<>(matches).entrySet()) {
+            CanonicalTag tag = tagVocabularyService.resolve(entry.getKey());
+            Set<Long> missing = new TreeSet<>(entry.getValue());
+            missing.removeAll(dietaryTagsRepository.findEateryIdsByCanonicalTagId(tag.getId()));
+            if (missing.isEmpty()) continue;
+
+            dietaryTagsRepository.batchInsert(tag, missing);
+            tagVocabularyService.adjustUsage(tag, missing.size());
+            for (Long eateryId : missing) {
+                details.add(new AdminActionLog(SYSTEM_ACTOR, "AUTO_TAG", "TAG", tag.getId(), eateryId,
+                        "Auto-tagged '" + tag.getDisplayName() + "'", now));
+            }
+            parts.add("Added '" + tag.getDisplayName() + "' to " + missing.size() + " eatery(ies)");
+            changedEateries.addAll(missing);
+            added += missing.size();
+        }
+
+        String summary = (parts.isEmpty() ? "No new tags" : String.join("; ", parts))
+                + " (" + scanned + " eatery(ies) scanned)";
+        if (added > 0) {
+            details.add(0, new AdminActionLog(SYSTEM_ACTOR, "AUTO_TAG", "TAG", null, null, summary, now));
+            auditLogWriter.writeAll(details);
+            reindexAfterCommit(changedEateries);
+        }
+        return new BulkTagResult("AUTO_TAG", scanned, added, summary);
+    }
+
+    /** Refreshes the search index for the changed eateries once the transaction has committed. */
+    private void reindexAfterCommit(Collection<Long> eateryIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eaterySearchIndex.reindex(eateryIds);
+            }
+        });
+    }
+}
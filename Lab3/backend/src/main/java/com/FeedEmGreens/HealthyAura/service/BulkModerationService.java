@@ -0,0 +1,234 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.BulkModerationRequest;
+import com.FeedEmGreens.HealthyAura.dto.BulkModerationResult;
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
+import com.FeedEmGreens.HealthyAura.repository.ReviewFlagRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service that applies admin moderation actions to many reviews at once.
+ *
+ * <p>Each request runs in a single transaction and never loads review or flag
+ * entities:
+ * <ul>
+ *   <li>the reviews' moderation state is read with one projection query</li>
+ *   <li><b>HIDE</b> and <b>DELETE</b> change the reviews with one set-based
+ *       {@code UPDATE}; reviews that are already hidden (HIDE) or deleted are skipped</li>
+ *   <li>pending flags on the affected reviews are resolved (or, for <b>APPROVE</b>,
+ *       dismissed) with one set-based {@code UPDATE}</li>
+ *   <li>points are deducted once per author, summed over that author's reviews
+ *       that were still visible, since hidden reviews have already lost theirs</li>
+ *   <li>the affected eateries' rating histograms are recomputed together</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Each moderated review also gets a {@code REVIEW_HIDDEN}, {@code REVIEW_DELETED}
+ * or {@code REVIEW_APPROVED} event in the {@link EventOutbox}, like its single-review
+ * counterpart.</p>
+ *
+ * <p>Auditing writes one summary {@link AdminActionLog} row for the request,
+ * handed to {@link AuditLogWriter} after commit. The per-review rows travel with the
+ * review events and are written by
+ * {@link com.FeedEmGreens.HealthyAura.outbox.ReviewAuditLogger}.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.BulkModerationRequest
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService#hideReviewByAdmin
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService#deleteReviewByAdmin
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class BulkModerationService {
+
+    /** Maximum number of reviews a single bulk request may target. */
+    private static final int MAX_TARGETS = 1000;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewFlagRepository reviewFlagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RewardsService rewardsService;
+
+    @Autowired
+    private RatingHistogramService ratingHistogramService;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    /** Moderation state of one review, as read by {@link ReviewRepository#findModerationStateByIds}. */
+    private record Target(Long reviewId, Long eateryId, Long userId, boolean hidden, boolean deleted, int points) {
+
+        boolean visible() {
+            return !hidden && !deleted;
+        }
+    }
+
+    /**
+     * Applies a bulk moderation action.
+     *
+     * @param request the action, its reason, and the target reviews
+     * @return a summary of the changes
+     * @throws IllegalArgumentException if the request is malformed
+     */
+    @Transactional
+    public BulkModerationResult apply(BulkModerationRequest request) {
+        String action = request.getAction() == null ? "" : request.getAction().trim().toUpperCase();
+        String reason = request.getReason() == null ? null : request.getReason().trim();
+        Set<Long> requested = requestedIds(request);
+
+        String admin = SecurityContextHolder.getContext().getAuthentication().getName();
+        Users adminUser = userRepository.findByUsername(admin).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        List<Target> targets = loadTargets(requested);
+
+        List<Target> moderated;
+        int resolvedFlags;
+        String verb;
+        switch (action) {
+            case "HIDE" -> {
+                requireReason(reason, "hide");
+                moderated = targets.stream().filter(Target::visible).toList();
+                if (!moderated.isEmpty()) reviewRepository.hideByIds(idsOf(moderated), reason, admin, now);
+                resolvedFlags = closeFlags(moderated, "RESOLVED", adminUser,
+                        "Hidden by: " + admin + "; Reason: " + reason, now);
+                verb = "Hid";
+            }
+            case "DELETE" -> {
+                requireReason(reason, "delete");
+                moderated = targets.stream().filter(t -> !t.deleted()).toList();
+                if (!moderated.isEmpty()) reviewRepository.softDeleteByAdmin(idsOf(moderated), admin, now);
+                resolvedFlags = closeFlags(moderated, "RESOLVED", adminUser,
+                        "Deleted by: " + admin + "; Reason: " + reason, now);
+                verb = "Deleted";
+            }
+            case "APPROVE" -> {
+                moderated = targets.stream().filter(t -> !t.deleted()).toList();
+                resolvedFlags = closeFlags(moderated, "DISMISSED", adminUser,
+                        reason != null && !reason.isEmpty() ? reason : "Approved by: " + admin, now);
+                verb = "Approved";
+            }
+            default -> throw new IllegalArgumentException("Action must be one of HIDE, DELETE, APPROVE");
+        }
+
+        long pointsDeducted = 0;
+        if (!action.equals("APPROVE")) {
+            List<Target> wereVisible = moderated.stream().filter(Target::visible).toList();
+            pointsDeducted = deductPoints(wereVisible);
+            Set<Long> eateryIds = new HashSet<>();
+            for (Target t : wereVisible) eateryIds.add(t.eateryId());
+            ratingHistogramService.rebuild(eateryIds);
+        }
+
+        String summary = verb + " " + moderated.size() + " review(s); "
+                + (requested.size() - moderated.size()) + " skipped; "
+                + resolvedFlags + " flag(s) closed";
+        auditLogWriter.write(new AdminActionLog(admin, "BULK_REVIEW_" + action, "REVIEW", null, null, summary, now));
+        publishEvents(action, moderated, reason, admin);
+        return new BulkModerationResult(action, requested.size(), moderated.size(), resolvedFlags, pointsDeducted, summary);
+    }
+
+    /** Validates and de-duplicates the requested review IDs. */
+    private static Set<Long> requestedIds(BulkModerationRequest request) {
+        Set<Long> requested = new LinkedHashSet<>();
+        if (request.getReviewIds() != null) requested.addAll(request.getReviewIds());
+        requested.remove(null);
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one review ID must be provided");
+        }
+        if (requested.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException("A bulk request may target at most " + MAX_TARGETS + " reviews");
+        }
+        return requested;
+    }
+
+    private static void requireReason(String reason, String verb) {
+        if (reason == null || reason.isEmpty()) {
+            throw new IllegalArgumentException("Reason is required to " + verb + " reviews");
+        }
+    }
+
+    /** Reads the moderation state of the requested reviews that exist, in request order. */
+    private List<Target> loadTargets(Set<Long> requested) {
+        Map<Long, Target> byId = new HashMap<>();
+        for (Object[] row : reviewRepository.findModerationStateByIds(requested)) {
+            Integer points = (Integer) row[5];
+            byId.put((Long) row[0], new Target((Long) row[0], (Long) row[1], (Long) row[2],
+                    Boolean.TRUE.equals(row[3]), Boolean.TRUE.equals(row[4]), points != null ? points : 0));
+        }
+        List<Target> targets = new ArrayList<>(byId.size());
+        for (Long id : requested) {
+            Target target = byId.get(id);
+            if (target != null) targets.add(target);
+        }
+        return targets;
+    }
+
+    /** Closes the pending flags of the given reviews with one statement. */
+    private int closeFlags(List<Target> targets, String status, Users admin, String notes, LocalDateTime now) {
+        if (targets.isEmpty()) return 0;
+        return reviewFlagRepository.closePendingByReviewIds(idsOf(targets), status, admin, notes, now);
+    }
+
+    /** Deducts the reviews' awarded points, summed per author (in user ID order, so row locks are taken consistently). */
+    private long deductPoints(List<Target> targets) {
+        Map<Long, Integer> byUser = new TreeMap<>();
+        long total = 0;
+        for (Target t : targets) {
+            if (t.points() <= 0) continue;
+            byUser.merge(t.userId(), t.points(), Integer::sum);
+            total += t.points();
+        }
+        rewardsService.deductPoints(byUser);
+        return total;
+    }
+
+    /** Records one outbox event per moderated review, with its audit entry, in the current transaction. */
+    private void publishEvents(String action, List<Target> moderated, String reason, String admin) {
+        String type = switch (action) {
+            case "HIDE" -> "REVIEW_HIDDEN";
+            case "DELETE" -> "REVIEW_DELETED";
+            default -> "REVIEW_APPROVED";
+        };
+        String details = switch (action) {
+            case "HIDE" -> "Hidden. Reason: " + reason;
+            case "DELETE" -> "Deleted. Reason: " + reason;
+            default -> reason != null && !reason.isEmpty() ? reason : "Approved review and dismissed flags";
+        };
+        for (Target t : moderated) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("eateryId", t.eateryId());
+            payload.put("userId", t.userId());
+            payload.put("actor", admin);
+            if (reason != null && !reason.isEmpty()) payload.put("reason", reason);
+            payload.put("bulk", true);
+            payload.put("auditAction", "REVIEW_" + action);
+            payload.put("auditDetails", details);
+            eventOutbox.publish(type, "REVIEW", t.reviewId(), payload);
+        }
+    }
+
+    private static List<Long> idsOf(List<Target> targets) {
+        return targets.stream().map(Target::reviewId).toList();
+    }
+}
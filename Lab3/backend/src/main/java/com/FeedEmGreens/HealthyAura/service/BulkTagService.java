@@ -0,0 +1,245 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.BulkTagRequest;
+import com.FeedEmGreens.HealthyAura.dto.BulkTagResult;
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service that applies admin tag operations to many eateries at once.
+ *
+ * <p>Each request runs in a single transaction and never loads eatery entities:
+ * <ul>
+ *   <li><b>ADD</b> inserts the missing tag rows with JDBC batch statements</li>
+ *   <li><b>DELETE</b> removes tag rows with one set-based {@code DELETE} per tag</li>
+ *   <li><b>RENAME</b> re-points tag rows with one set-based {@code UPDATE}, dropping
+ *       the old tag instead where an eatery already carries the new one</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Auditing writes one summary {@link AdminActionLog} row for the whole request
+ * plus one detail row per changed eatery and tag, handed to {@link AuditLogWriter}
+ * after commit and inserted in JDBC batches. The
+ * in-memory search index is refreshed for the targeted eateries once the
+ * transaction commits.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.dto.BulkTagRequest
+ * @see com.FeedEmGreens.HealthyAura.service.TagVocabularyService
+ * @see com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class BulkTagService {
+
+    /** Maximum number of eateries a single bulk request may target. */
+    private static final int MAX_TARGETS = 5000;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private DietaryTagsRepository dietaryTagsRepository;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private TagVocabularyService tagVocabularyService;
+
+    @Autowired
+    private EaterySearchIndex eaterySearchIndex;
+
+    /**
+     * Applies a bulk tag operation.
+     *
+     * @param request the operation, its tags, and the target selector
+     * @return a summary of the changes
+     * @throws IllegalArgumentException if the request is malformed or selects no eateries
+     */
+    @Transactional
+    public BulkTagResult apply(BulkTagRequest request) {
+        String operation = request.getOperation() == null ? "" : request.getOperation().trim().toUpperCase();
+        List<Long> targets = resolveTargets(request);
+
+        String admin = currentAdmin();
+        LocalDateTime now = LocalDateTime.now();
+        List<AdminActionLog> details = new ArrayList<>();
+        List<String> parts = new ArrayList<>();
+        int changed;
+
+        switch (operation) {
+            case "ADD" -> changed = add(targets, requireTags(request), admin, now, details, parts);
+            case "DELETE" -> changed = delete(targets, requireTags(request), admin, now, details, parts);
+            case "RENAME" -> changed = rename(targets, request.getOldTag(), request.getNewTag(), admin, now, details, parts);
+            default -> throw new IllegalArgumentException("Operation must be one of ADD, DELETE, RENAME");
+        }
+
+        String summary = String.join("; ", parts) + " (" + targets.size() + " eatery(ies) targeted)";
+        details.add(0, new AdminActionLog(admin, "BULK_" + operation + "_TAG", "TAG",
+                null, null, summary, now));
+        auditLogWriter.writeAll(details);
+
+        reindexAfterCommit(targets);
+        return new BulkTagResult(operation, targets.size(), changed, summary);
+    }
+
+    /** Attaches each tag to the targets that do not carry it yet. */
+    private int add(List<Long> targets, List<String> tags, String admin, LocalDateTime now,
+                    List<AdminActionLog> details, List<String> parts) {
+        int changed = 0;
+        for (String raw : tags) {
+            CanonicalTag tag = tagVocabularyService.resolve(raw);
+            Set<Long> missing = new LinkedHashSet<>(targets);
+            missing.removeAll(dietaryTagsRepository.findEateryIdsWithCanonicalTag(targets, tag.getId()));
+
+            dietaryTagsRepository.batchInsert(tag, missing);
+            tagVocabularyService.adjustUsage(tag, missing.size());
+            for (Long eateryId : missing) {
+                details.add(detail(admin, "ADD_TAG", tag, eateryId, "Added tag '" + tag.getDisplayName() + "'", now));
+            }
+            parts.add("Added '" + tag.getDisplayName() + "' to " + missing.size() + " eatery(ies)");
+            changed += missing.size();
+        }
+        return changed;
+    }
+
+    /** Removes each tag from the targets carrying it. */
+    private int delete(List<Long> targets, List<String> tags, String admin, LocalDateTime now,
+                       List<AdminActionLog> details, List<String> parts) {
+        int changed = 0;
+        for (String raw : tags) {
+            Optional<CanonicalTag> found = tagVocabularyService.find(raw);
+            if (found.isEmpty()) {
+                parts.add("Tag '" + raw.trim() + "' not found");
+                continue;
+            }
+            CanonicalTag tag = found.get();
+            List<Long> tagged = dietaryTagsRepository.findEateryIdsWithCanonicalTag(targets, tag.getId());
+            if (tagged.isEmpty()) {
+                parts.add("Removed '" + tag.getDisplayName() + "' from 0 eatery(ies)");
+                continue;
+            }
+
+            int deleted = dietaryTagsRepository.deleteByEateryIdsAndCanonicalTag(tagged, tag.getId());
+            tagVocabularyService.adjustUsage(tag, -deleted);
+            for (Long eateryId : tagged) {
+                details.add(detail(admin, "DELETE_TAG", tag, eateryId, "Removed tag '" + tag.getDisplayName() + "'", now));
+            }
+            parts.add("Removed '" + tag.getDisplayName() + "' from " + tagged.size() + " eatery(ies)");
+            changed += deleted;
+        }
+        return changed;
+    }
+
+    /** Replaces one tag with another on the targets carrying the old tag. */
+    private int rename(List<Long> targets, String oldTag, String newTag, String admin, LocalDateTime now,
+                       List<AdminActionLog> details, List<String> parts) {
+        if (oldTag == null || oldTag.isBlank() || newTag == null || newTag.isBlank()) {
+            throw new IllegalArgumentException("Old and new tag names must be provided");
+        }
+        CanonicalTag from = tagVocabularyService.find(oldTag)
+                .orElseThrow(() -> new IllegalArgumentException("Tag not found: " + oldTag));
+        CanonicalTag to = tagVocabularyService.resolve(newTag);
+        if (from.getId().equals(to.getId())) {
+            throw new IllegalArgumentException("'" + oldTag.trim() + "' and '" + newTag.trim() + "' are the same tag");
+        }
+
+        List<Long> tagged = dietaryTagsRepository.findEateryIdsWithCanonicalTag(targets, from.getId());
+        if (tagged.isEmpty()) {
+            parts.add("Renamed '" + from.getDisplayName() + "' -> '" + to.getDisplayName() + "' on 0 eatery(ies)");
+            return 0;
+        }
+
+        // Eateries that already carry the new tag just lose the old one.
+        Set<Long> alreadyTagged = new HashSet<>(dietaryTagsRepository.findEateryIdsWithCanonicalTag(tagged, to.getId()));
+        List<Long> renameTargets = tagged.stream().filter(id -> !alreadyTagged.contains(id)).toList();
+
+        int merged = alreadyTagged.isEmpty() ? 0
+                : dietaryTagsRepository.deleteByEateryIdsAndCanonicalTag(alreadyTagged, from.getId());
+        int renamed = renameTargets.isEmpty() ? 0
+                : dietaryTagsRepository.renameByEateryIds(renameTargets, from.getId(), to, to.getDisplayName());
+
+        tagVocabularyService.adjustUsage(from, -(merged + renamed));
+        tagVocabularyService.adjustUsage(to, renamed);
+        for (Long eateryId : tagged) {
+            details.add(detail(admin, "EDIT_TAG", to, eateryId,
+                    "Renamed tag '" + from.getDisplayName() + "' -> '" + to.getDisplayName() + "'", now));
+        }
+        parts.add("Renamed '" + from.getDisplayName() + "' -> '" + to.getDisplayName() + "' on "
+                + tagged.size() + " eatery(ies)");
+        return merged + renamed;
+    }
+
+    /** Resolves the target eatery IDs from explicit IDs or a search filter. */
+    private List<Long> resolveTargets(BulkTagRequest request) {
+        List<Long> targets;
+        if (request.getEateryIds() != null && !request.getEateryIds().isEmpty()) {
+            Set<Long> requested = new LinkedHashSet<>(request.getEateryIds());
+            requested.remove(null);
+            if (requested.size() > MAX_TARGETS) {
+                throw new IllegalArgumentException("A bulk request may target at most " + MAX_TARGETS + " eateries");
+            }
+            Set<Long> existing = new HashSet<>(eateryRepository.findExistingIds(requested));
+            targets = requested.stream().filter(existing::contains).toList();
+        } else {
+            boolean hasQuery = request.getQuery() != null && !request.getQuery().isBlank();
+            boolean hasTags = request.getFilterTags() != null && !request.getFilterTags().isEmpty();
+            if (!hasQuery && !hasTags) {
+                throw new IllegalArgumentException("Provide eateryIds or a query/filterTags selector");
+            }
+            targets = hasTags
+                    ? eaterySearchIndex.search(request.getQuery(), tagVocabularyService.canonicalNames(request.getFilterTags()))
+                    : eaterySearchIndex.search(request.getQuery());
+        }
+
+        if (targets.isEmpty()) throw new IllegalArgumentException("No eateries matched the request");
+        if (targets.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException("A bulk request may target at most " + MAX_TARGETS + " eateries");
+        }
+        return targets;
+    }
+
+    /** Returns the non-blank tags of the request, or fails if there are none. */
+    private List<String> requireTags(BulkTagRequest request) {
+        List<String> tags = request.getTags() == null ? List.of()
+                : request.getTags().stream().filter(t -> t != null && !t.isBlank()).toList();
+        if (tags.isEmpty()) throw new IllegalArgumentException("At least one tag must be provided");
+        return tags;
+    }
+
+    /** Builds one per-eatery audit detail row. */
+    private AdminActionLog detail(String admin, String actionType, CanonicalTag tag, Long eateryId,
+                                  String details, LocalDateTime now) {
+        return new AdminActionLog(admin, actionType, "TAG", tag.getId(), eateryId, details, now);
+    }
+
+    /** Refreshes the search index for the targets once the transaction has committed. */
+    private void reindexAfterCommit(List<Long> targets) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eaterySearchIndex.reindex(targets);
+            }
+        });
+    }
+
+    private String currentAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication() != null
+                ? SecurityContextHolder.getContext().getAuthentication().getName()
+                : "unknown";
+    }
+}
@@ -0,0 +1,300 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.DuplicateCandidateDto;
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
+import com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository;
+import com.FeedEmGreens.HealthyAura.repository.EateryDetailsRepository;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import com.FeedEmGreens.HealthyAura.search.NameSimilarity;
+import com.FeedEmGreens.HealthyAura.search.SpatialHash;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Service that detects and merges duplicate eateries.
+ *
+ * <p>Two eateries are considered duplicates when they are within
+ * {@value #DUPLICATE_RADIUS_METRES} m of each other and their normalized names have
+ * a similarity of at least {@value #SIMILARITY_THRESHOLD} (see
+ * {@link NameSimilarity}). Candidates are found with a {@link SpatialHash} of
+ * cells as wide as that radius, so each eatery is only compared with the eateries
+ * in its own and the eight neighbouring cells.</p>
+ *
+ * <p>The same check is used in three places:
+ * <ul>
+ *   <li>during ingestion, to merge incoming rows into the stored eatery they
+ *       duplicate</li>
+ *   <li>in a report of existing duplicate pairs for admins</li>
+ *   <li>before an admin merge, which moves reviews and tags onto the surviving
+ *       eatery and deletes the duplicate</li>
+ * </ul>
+ * </p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.search.SpatialHash
+ * @see com.FeedEmGreens.HealthyAura.search.NameSimilarity
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class EateryDeduplicationService {
+
+    /** Maximum distance between two duplicates, also used as the grid cell size. */
+    static final double DUPLICATE_RADIUS_METRES = 25.0;
+
+    /** Minimum name similarity between two duplicates. */
+    static final double SIMILARITY_THRESHOLD = 0.8;
+
+    /** Reference latitude for the grid projection (Singapore). */
+    private static final double REFERENCE_LATITUDE = 1.35;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private EateryDetailsRepository eateryDetailsRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private DietaryTagsRepository dietaryTagsRepository;
+
+    @Autowired
+    private TagVocabularyService tagVocabularyService;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private EaterySearchIndex eaterySearchIndex;
+
+    @Autowired
+    private RatingHistogramService ratingHistogramService;
+
+    @Autowired
+    private RewardsService rewardsService;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    /**
+     * Creates a matcher preloaded with every stored eatery, for use during a sync.
+     *
+     * @return a matcher over the current catalog
+     */
+    public Matcher newMatcher() {
+        Matcher matcher = new Matcher();
+        for (Object[] row : eateryRepository.findLocations()) {
+            matcher.add((Long) row[0], (String) row[1], (Double) row[2], (Double) row[3]);
+        }
+        return matcher;
+    }
+
+    /**
+     * Reports every pair of stored eateries that look like duplicates.
+     *
+     * @return candidate pairs, most similar first
+     */
+    public List<DuplicateCandidateDto> findDuplicates() {
+        List<DuplicateCandidateDto> pairs = new ArrayList<>();
+        Matcher matcher = new Matcher();
+
+        List<Object[]> rows = new ArrayList<>(eateryRepository.findLocations());
+        rows.sort(Comparator.comparing(row -> (Long) row[0]));
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            String name = (String) row[1];
+            Double lat = (Double) row[2];
+            Double lng = (Double) row[3];
+            for (Match match : matcher.matches(name, lat, lng)) {
+                pairs.add(new DuplicateCandidateDto(match.point.id, match.point.name, id, name,
+                        match.distanceMetres, match.similarity));
+            }
+            matcher.add(id, name, lat, lng);
+        }
+
+        pairs.sort(Comparator.comparingDouble(DuplicateCandidateDto::getSimilarity).reversed()
+                .thenComparingDouble(DuplicateCandidateDto::getDistanceMetres));
+        return pairs;
+    }
+
+    /**
+     * Merges a duplicate eatery into a target eatery.
+     *
+     * <p>Reviews are moved to the target. Where the same user has an active review
+     * on both, the review on the duplicate is soft-deleted so that each user keeps a
+     * single active review; like any other deleted review, its awarded points are
+     * deducted (unless it was already hidden) and a {@code REVIEW_DELETED} event is
+     * recorded. Tags the target does not already carry are moved; the
+     * rest are dropped with the duplicate, which is then deleted along with its
+     * dataset details. The target's rating histogram is recomputed to include the
+     * moved reviews.</p>
+     *
+     * @param targetId    the eatery that survives
+     * @param duplicateId the eatery merged into it and removed
+     * @return the merged target eatery
+     * @throws IllegalArgumentException if either eatery is missing or they are the same
+     */
+    @Transactional
+    public Eatery merge(Long targetId, Long duplicateId) {
+        if (Objects.equals(targetId, duplicateId)) {
+            throw new IllegalArgumentException("Cannot merge an eatery into itself");
+        }
+        Eatery target = eateryRepository.findById(targetId)
+                .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + targetId));
+        Eatery duplicate = eateryRepository.findById(duplicateId)
+                .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + duplicateId));
+        String duplicateName = duplicate.getName();
+        String admin = currentAdmin();
+
+        List<Long> conflicting = reviewRepository.findConflictingReviewIds(duplicateId, targetId);
+        if (!conflicting.isEmpty()) softDeleteConflicting(conflicting, targetId, admin);
+        int movedReviews = reviewRepository.reassignEatery(duplicateId, target);
+
+        List<Long> targetTags = dietaryTagsRepository.findCanonicalTagIdsByEateryId(targetId);
+        int movedTags = targetTags.isEmpty()
+                ? dietaryTagsRepository.reassignEatery(duplicateId, target)
+                : dietaryTagsRepository.reassignEateryExcept(duplicateId, target, targetTags);
+        for (Long droppedTagId : dietaryTagsRepository.findCanonicalTagIdsByEateryId(duplicateId)) {
+            tagVocabularyService.adjustUsage(droppedTagId, -1);
+        }
+
+        ratingHistogramService.rebuild(List.of(targetId));
+        ratingHistogramService.discard(duplicateId);
+        eateryDetailsRepository.findById(duplicateId).ifPresent(eateryDetailsRepository::delete);
+        eateryRepository.deleteById(duplicateId);
+
+        auditLogWriter.write(new AdminActionLog(admin, "MERGE_EATERY", "EATERY", duplicateId, targetId,
+                "Merged '" + duplicateName + "' (#" + duplicateId + ") into #" + targetId + ": moved "
+                        + movedReviews + " review(s), " + movedTags + " tag(s); "
+                        + conflicting.size() + " overlapping review(s) soft-deleted",
+                LocalDateTime.now()));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eaterySearchIndex.remove(duplicateId);
+                eaterySearchIndex.reindex(List.of(targetId));
+            }
+        });
+
+        return eateryRepository.findById(targetId)
+                .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + targetId));
+    }
+
+    /**
+     * Soft-deletes a duplicate's reviews that overlap with the target's, deducting
+     * the points of those still visible (summed per author, in user ID order) and
+     * recording one {@code REVIEW_DELETED} event per review.
+     */
+    private void softDeleteConflicting(List<Long> reviewIds, Long targetId, String admin) {
+        List<Object[]> rows = reviewRepository.findModerationStateByIds(reviewIds);
+        reviewRepository.softDeleteByIds(reviewIds);
+
+        Map<Long, Integer> pointsByUser = new TreeMap<>();
+        for (Object[] row : rows) {
+            Integer points = (Integer) row[5];
+            if (!Boolean.TRUE.equals(row[3]) && points != null && points > 0) {
+                pointsByUser.merge((Long) row[2], points, Integer::sum);
+            }
+        }
+        rewardsService.deductPoints(pointsByUser);
+
+        for (Object[] row : rows) {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("eateryId", row[1]);
+            payload.put("userId", row[2]);
+            payload.put("actor", admin);
+            payload.put("reason", "Duplicate of a review on merged eatery #" + targetId);
+            eventOutbox.publish("REVIEW_DELETED", "REVIEW", (Long) row[0], payload);
+        }
+    }
+
+    private String currentAdmin() {
+        return SecurityContextHolder.getContext().getAuthentication() != null
+                ? SecurityContextHolder.getContext().getAuthentication().getName()
+                : "unknown";
+    }
+
+    /** A stored eatery as seen by the matcher. */
+    private record Point(Long id, String name, String normalizedName, double latitude, double longitude) {}
+
+    /** A matched point with its distance and name similarity. */
+    private record Match(Point point, double distanceMetres, double similarity) {}
+
+    /**
+     * Incremental duplicate matcher over a set of eateries.
+     *
+     * <p>Eateries with coordinates are placed in a {@link SpatialHash}; eateries
+     * without coordinates can only match on an identical normalized name.</p>
+     */
+    public static final class Matcher {
+
+        private final SpatialHash<Point> grid = new SpatialHash<>(DUPLICATE_RADIUS_METRES, REFERENCE_LATITUDE);
+        private final Map<String, Long> withoutLocation = new HashMap<>();
+
+        private Matcher() {}
+
+        /**
+         * Returns the ID of a known eatery that the given eatery duplicates, if any.
+         *
+         * @param name      the eatery name
+         * @param latitude  the latitude, or {@code null}
+         * @param longitude the longitude, or {@code null}
+         * @return the ID of the closest, most similar known eatery
+         */
+        public Optional<Long> findDuplicate(String name, Double latitude, Double longitude) {
+            if (latitude == null || longitude == null) {
+                return Optional.ofNullable(withoutLocation.get(NameSimilarity.normalize(name)));
+            }
+            return matches(name, latitude, longitude).stream()
+                    .max(Comparator.comparingDouble(Match::similarity)
+                            .thenComparing(Comparator.comparingDouble(Match::distanceMetres).reversed()))
+                    .map(match -> match.point.id);
+        }
+
+        /**
+         * Adds an eatery to the matcher.
+         *
+         * @param id        the eatery ID
+         * @param name      the eatery name
+         * @param latitude  the latitude, or {@code null}
+         * @param longitude the longitude, or {@code null}
+         */
+        public void add(Long id, String name, Double latitude, Double longitude) {
+            String normalized = NameSimilarity.normalize(name);
+            if (latitude == null || longitude == null) {
+                withoutLocation.putIfAbsent(normalized, id);
+                return;
+            }
+            grid.put(latitude, longitude, new Point(id, name, normalized, latitude, longitude));
+        }
+
+        /** Returns every known eatery within the radius whose name is similar enough. */
+        private List<Match> matches(String name, Double latitude, Double longitude) {
+            if (latitude == null || longitude == null) return List.of();
+            String normalized = NameSimilarity.normalize(name);
+            List<Match> matches = new ArrayList<>();
+            for (Point point : grid.neighbours(latitude, longitude)) {
+                double distance = SpatialHash.distanceMetres(latitude, longitude, point.latitude, point.longitude);
+                if (distance > DUPLICATE_RADIUS_METRES) continue;
+                double similarity = NameSimilarity.similarity(normalized, point.normalizedName);
+                if (similarity >= SIMILARITY_THRESHOLD) matches.add(new Match(point, distance, similarity));
+            }
+            return matches;
+        }
+    }
+}
@@ -1,23 +1,36 @@
 package com.FeedEmGreens.HealthyAura.service;
 
+import com.FeedEmGreens.HealthyAura.dto.EateryDetailsDto;
 import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+import com.FeedEmGreens.HealthyAura.dto.EaterySummary;
+import com.FeedEmGreens.HealthyAura.dto.PagedResponse;
+import com.FeedEmGreens.HealthyAura.dto.SuggestionDto;
+import com.FeedEmGreens.HealthyAura.dto.TagFacetDto;
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
 import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.entity.EateryDetails;
 import com.FeedEmGreens.HealthyAura.entity.DietaryTags;
 import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.ingestion.DataGovSgEaterySource;
+import com.FeedEmGreens.HealthyAura.repository.EateryDetailsRepository;
 import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
 import com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository;
-import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
+import com.FeedEmGreens.HealthyAura.search.TrigramIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.net.URI;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -40,7 +53,8 @@ import java.util.stream.Collectors;
  * @see com.FeedEmGreens.HealthyAura.entity.DietaryTags
  * @see com.FeedEmGreens.HealthyAura.dto.EateryRequest
  * @see com.FeedEmGreens.HealthyAura.repository.EateryRepository
- * @see com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository
+ * @see com.FeedEmGreens.HealthyAura.service.AuditLogWriter
+ * @see com.FeedEmGreens.HealthyAura.search.EaterySearchIndex
  *
  * @version 1.0
  * @since 2025-11-07
@@ -51,14 +65,33 @@ public class EateryService {
     /** Open Data Singapore dataset ID for the healthier eateries API. */
     private static final String DATASET_ID = "d_2925c2ccf75d1c135c2d469e0de3cee6";
 
-    /** Base URL for the data.gov.sg public API. */
-    private static final String URL = "https://api-open.data.gov.sg/v1/public/api/datasets/";
+    /**
+     * Shared HTTP client for performing API requests. Response handling runs on
+     * virtual threads so async calls never occupy a platform thread while waiting.
+     */
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
 
-    /** Shared HTTP client for performing API requests. */
-    private final HttpClient client = HttpClient.newHttpClient();
+    /** Source for the healthier eateries dataset shown by {@link #searchEatery}. */
+    private final DataGovSgEaterySource healthierEateries =
+            new DataGovSgEaterySource("healthier-eateries", DATASET_ID, client);
+
+    /**
+     * Eateries fetched from the external API, with a trigram index over them keyed by
+     * list position.
+     *
+     * @param eateries the cached eateries
+     * @param index    the index built from exactly these eateries
+     */
+    private record CachedEateries(List<EateryRequest> eateries, TrigramIndex index) {}
 
-    /** Cached in-memory list of eateries fetched from the external API. */
-    private List<EateryRequest> cachedEateries = new ArrayList<>();
+    /**
+     * Cached API eateries. Replaced as a whole on refresh, so readers always see a
+     * list together with its own index.
+     */
+    private volatile CachedEateries cache =
+            new CachedEateries(new ArrayList<>(), EaterySearchIndex.newKeywordIndex());
 
     @Autowired
     private EateryRepository eateryRepository;
@@ -67,74 +100,76 @@ public class EateryService {
     private DietaryTagsRepository dietaryTagsRepository;
 
     @Autowired
-    private AdminActionLogRepository adminActionLogRepository;
+    private EateryDetailsRepository eateryDetailsRepository;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EaterySearchIndex eaterySearchIndex;
+
+    @Autowired
+    private TagVocabularyService tagVocabularyService;
+
+    /** Largest page size accepted by {@link #listEaterySummaries}. */
+    private static final int MAX_PAGE_SIZE = 200;
 
     /**
-     * Fetches and parses real-time eatery data from Singapore’s Open Data API.
+     * Fetches and parses real-time eatery data from Singapore’s Open Data API,
+     * blocking until the download completes.
      *
-     * <p>The method follows a two-step process:
-     * <ol>
-     *   <li>Polls the API for the current dataset download URL.</li>
-     *   <li>Fetches and parses the actual dataset JSON.</li>
-     * </ol>
-     * </p>
-     *
-     * <p>Each record is converted into an {@link EateryRequest} DTO containing
-     * metadata such as name, address, postal code, and geolocation coordinates.</p>
+     * <p>Used by callers that need the data inline (e.g., <code>/api-data</code>);
+     * imports into the database go through {@link EaterySyncService} and the
+     * multi-source {@link com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline}.</p>
      *
      * @return a list of parsed {@link EateryRequest} objects
      * @throws RuntimeException if the API call or parsing fails
      */
     public List<EateryRequest> fetchEateries() {
-        List<EateryRequest> eateries = new ArrayList<>();
-
         try {
-            HttpRequest pollRequest = HttpRequest.newBuilder()
-                    .uri(URI.create(URL + DATASET_ID + "/poll-download"))
-                    .build();
-
-            HttpResponse<String> pollResponse = client.send(pollRequest, HttpResponse.BodyHandlers.ofString());
-            JSONObject pollJson = new JSONObject(pollResponse.body());
-
-            if (pollJson.getInt("code") != 0) {
-                throw new RuntimeException("Failed to fetch poll-download data");
-            }
-
-            String fetchUrl = pollJson.getJSONObject("data").getString("url");
-
-            HttpRequest dataReq = HttpRequest.newBuilder().uri(URI.create(fetchUrl)).build();
-            HttpResponse<String> dataResponse = client.send(dataReq, HttpResponse.BodyHandlers.ofString());
-
-            JSONObject dataJson = new JSONObject(dataResponse.body());
-            JSONArray jsonFeature = dataJson.getJSONArray("features");
-
-            for (int i = 0; i < jsonFeature.length(); i++) {
-                JSONObject features = jsonFeature.getJSONObject(i);
-                JSONObject geometry = features.getJSONObject("geometry");
-                JSONObject properties = features.getJSONObject("properties");
-                JSONArray coordinates = geometry.getJSONArray("coordinates");
-
-                EateryRequest eatery = new EateryRequest();
-                eatery.setName(extractProperty(properties, "NAME"));
-                eatery.setBuildingName(extractProperty(properties, "ADDRESSBUILDINGNAME"));
-                eatery.setAddress(extractProperty(properties, "ADDRESSSTREETNAME"));
-                eatery.setPostalCode(extractProperty(properties, "ADDRESSPOSTALCODE"));
-                eatery.setDescription(extractProperty(properties, "DESCRIPTION"));
-                eatery.setLatitude(coordinates.getDouble(1));
-                eatery.setLongitude(coordinates.getDouble(0));
-
-                eateries.add(eatery);
-            }
-
-            this.cachedEateries = eateries;
-            return eateries;
-
-        } catch (Exception e) {
+            return fetchEateriesAsync().join();
+        } catch (CompletionException e) {
             e.printStackTrace();
             throw new RuntimeException("Failed to fetch eatery data");
         }
     }
 
+    /**
+     * Fetches and parses real-time eatery data without blocking the calling thread.
+     *
+     * <p>The download is delegated to a {@link DataGovSgEaterySource} for the
+     * healthier eateries dataset, which polls the API for the current download URL
+     * and then fetches the dataset with chained {@link HttpClient#sendAsync} calls.</p>
+     *
+     * <p>Each record is converted into an {@link EateryRequest} DTO containing
+     * metadata such as name, address, postal code, and geolocation coordinates.
+     * The in-memory cache is refreshed when the future completes.</p>
+     *
+     * @return a future of the parsed {@link EateryRequest} objects; completes
+     *         exceptionally if the API call or parsing fails
+     */
+    public CompletableFuture<List<EateryRequest>> fetchEateriesAsync() {
+        return healthierEateries.fetch()
+                .thenApply(healthierEateries::parse)
+                .thenApply(eateries -> {
+                    refreshCache(eateries);
+                    return eateries;
+                });
+    }
+
+    /** Replaces the cached API eateries and rebuilds their trigram index. */
+    private void refreshCache(List<EateryRequest> eateries) {
+        TrigramIndex index = EaterySearchIndex.newKeywordIndex();
+        for (int i = 0; i < eateries.size(); i++) {
+            EateryRequest e = eateries.get(i);
+            index.put(i, e.getName(), e.getBuildingName(), e.getAddress(), e.getPostalCode());
+        }
+        this.cache = new CachedEateries(eateries, index);
+    }
+
     /**
      * Converts an {@link EateryRequest} DTO into an {@link Eatery} entity object.
      *
@@ -161,30 +196,6 @@ public class EateryService {
         return eatery;
     }
 
-    /**
-     * Saves newly fetched eateries into the database while avoiding duplicates.
-     *
-     * <p>Duplicate checking is performed by comparing name and geolocation coordinates.</p>
-     *
-     * @return a list of successfully saved {@link Eatery} entities
-     */
-    public List<Eatery> saveEateriesFromApi() {
-        List<EateryRequest> apiEateries = fetchEateries();
-        List<Eatery> savedEateries = new ArrayList<>();
-
-        for (EateryRequest request : apiEateries) {
-            Eatery entity = convertToEntity(request);
-            List<Eatery> existing = eateryRepository.findByNameAndLatitudeAndLongitude(
-                    entity.getName(), entity.getLatitude(), entity.getLongitude());
-
-            if (existing.isEmpty()) {
-                savedEateries.add(eateryRepository.save(entity));
-            }
-        }
-
-        return savedEateries;
-    }
-
     /** Retrieves all eateries stored in the database. */
     public List<Eatery> getAllEateriesFromDatabase() {
         return eateryRepository.findAll();
@@ -193,6 +204,10 @@ public class EateryService {
     /**
      * Adds one or more dietary tags to a specific eatery.
      *
+     * <p>Each tag is resolved to its canonical vocabulary entry and stored under the
+     * canonical display name; tags that resolve to an entry the eatery already
+     * carries are skipped.</p>
+     *
      * @param eateryId the target eatery’s ID
      * @param tags a list of dietary tag names to attach
      * @return the updated {@link Eatery} entity after tag assignment
@@ -201,24 +216,27 @@ public class EateryService {
         Eatery eatery = eateryRepository.findById(eateryId)
                 .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + eateryId));
 
-        List<String> existing = eatery.getTagNames().stream()
-                .map(s -> s.toLowerCase().trim())
-                .toList();
+        Set<String> existing = eatery.getTagNames().stream()
+                .map(CanonicalTag::normalize)
+                .collect(Collectors.toCollection(HashSet::new));
 
-        int added = 0;
+        List<CanonicalTag> added = new ArrayList<>();
         for (String tagName : tags) {
             if (tagName == null || tagName.isBlank()) continue;
-            String normalized = tagName.trim();
-            if (existing.contains(normalized.toLowerCase())) continue;
+            CanonicalTag canonical = tagVocabularyService.resolve(tagName);
+            if (!existing.add(canonical.getNormalizedName())) continue;
 
-            DietaryTags tag = new DietaryTags(normalized);
+            DietaryTags tag = new DietaryTags(canonical.getDisplayName());
+            tag.setCanonicalTag(canonical);
             eatery.addDietaryTag(tag);
-            added++;
+            added.add(canonical);
         }
 
         Eatery saved = eateryRepository.save(eatery);
+        added.forEach(canonical -> tagVocabularyService.adjustUsage(canonical, 1));
+        eaterySearchIndex.index(saved);
         logAdminAction("ADD_TAG", eateryId, null,
-                added > 0 ? "Added " + added + " tag(s)" : "No tags added (duplicates/blank)");
+                !added.isEmpty() ? "Added " + added.size() + " tag(s)" : "No tags added (duplicates/blank)");
         return saved;
     }
 
@@ -236,11 +254,14 @@ public class EateryService {
             throw new IllegalArgumentException("Tag name cannot be blank");
         }
 
-        DietaryTags existing = dietaryTagsRepository.findByEateryAndTagIgnoreCase(eatery, tagName.trim())
+        DietaryTags existing = findTagOnEatery(eatery, tagName)
                 .orElseThrow(() -> new IllegalArgumentException("Tag not found for eatery: " + tagName));
 
+        CanonicalTag canonical = existing.getCanonicalTag();
         eatery.removeDietaryTag(existing);
         Eatery saved = eateryRepository.save(eatery);
+        tagVocabularyService.adjustUsage(canonical, -1);
+        eaterySearchIndex.index(saved);
         logAdminAction("DELETE_TAG", eateryId, existing.getId(),
                 "Removed tag '" + existing.getTag() + "'");
         return saved;
@@ -262,26 +283,50 @@ public class EateryService {
             throw new IllegalArgumentException("Old and new tag names must be provided");
         }
 
-        DietaryTags existing = dietaryTagsRepository.findByEateryAndTagIgnoreCase(eatery, oldTagName.trim())
+        DietaryTags existing = findTagOnEatery(eatery, oldTagName)
                 .orElseThrow(() -> new IllegalArgumentException("Tag not found for eatery: " + oldTagName));
 
-        boolean duplicateExists = eatery.getTagNames().stream()
-                .map(String::toLowerCase)
-                .anyMatch(s -> s.equals(newTagName.trim().toLowerCase()));
+        CanonicalTag replacement = tagVocabularyService.resolve(newTagName);
+        boolean duplicateExists = eatery.getDietaryTags().stream()
+                .filter(tag -> tag != existing)
+                .anyMatch(tag -> CanonicalTag.normalize(tag.getTag()).equals(replacement.getNormalizedName()));
 
         if (duplicateExists) {
             throw new IllegalArgumentException("A tag with the same name already exists for this eatery");
         }
 
         String before = existing.getTag();
-        existing.setTag(newTagName.trim());
+        CanonicalTag previous = existing.getCanonicalTag();
+        existing.setTag(replacement.getDisplayName());
+        existing.setCanonicalTag(replacement);
         Eatery saved = eateryRepository.save(eatery);
+        if (previous == null || !replacement.getId().equals(previous.getId())) {
+            tagVocabularyService.adjustUsage(previous, -1);
+            tagVocabularyService.adjustUsage(replacement, 1);
+        }
+        eaterySearchIndex.index(saved);
 
         logAdminAction("EDIT_TAG", eateryId, existing.getId(),
                 "Renamed tag '" + before + "' -> '" + newTagName + "'");
         return saved;
     }
 
+    /**
+     * Finds a tag on an eatery by name, accepting spelling variants and synonyms
+     * of the canonical tag.
+     */
+    private Optional<DietaryTags> findTagOnEatery(Eatery eatery, String tagName) {
+        Optional<DietaryTags> exact = dietaryTagsRepository.findByEateryAndTagIgnoreCase(eatery, tagName.trim());
+        if (exact.isPresent()) return exact;
+
+        String key = tagVocabularyService.find(tagName)
+                .map(CanonicalTag::getNormalizedName)
+                .orElse(CanonicalTag.normalize(tagName));
+        return eatery.getDietaryTags().stream()
+                .filter(tag -> CanonicalTag.normalize(tag.getTag()).equals(key))
+                .findFirst();
+    }
+
     /** Records admin actions for auditing and moderation transparency. */
     private void logAdminAction(String actionType, Long eateryId, Long targetId, String details) {
         String admin = SecurityContextHolder.getContext().getAuthentication() != null
@@ -289,39 +334,46 @@ public class EateryService {
                 : "unknown";
         AdminActionLog log = new AdminActionLog(admin, actionType, "TAG", targetId, eateryId, details,
                 java.time.LocalDateTime.now());
-        adminActionLogRepository.save(log);
-    }
-
-    /** Extracts property values from HTML-like description in the Open Data API response. */
-    private String extractProperty(JSONObject props, String key) {
-        try {
-            String descHtml = props.getString("Description");
-            String pattern = "<th>" + key + "<\\/th> <td>(.*?)<\\/td>";
-            java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(pattern).matcher(descHtml);
-            return matcher.find() ? matcher.group(1).trim() : "";
-        } catch (Exception e) {
-            return "";
-        }
+        auditLogWriter.write(log);
     }
 
-    /** Performs a keyword search across cached in-memory eateries (from API). */
+    /**
+     * Performs a keyword search across cached in-memory eateries (from API).
+     *
+     * <p>Matches are looked up in a trigram index built when the cache was last
+     * refreshed and returned best match first.</p>
+     */
     public List<EateryRequest> searchEatery(String query) {
-        if (cachedEateries.isEmpty()) fetchEateries();
-        if (query == null || query.isEmpty()) return cachedEateries;
-
-        String lowerCaseQuery = query.toLowerCase();
-        return cachedEateries.stream()
-                .filter(e -> e.getName().toLowerCase().contains(lowerCaseQuery)
-                        || e.getBuildingName().toLowerCase().contains(lowerCaseQuery)
-                        || e.getAddress().toLowerCase().contains(lowerCaseQuery)
-                        || e.getPostalCode().contains(lowerCaseQuery))
+        if (cache.eateries().isEmpty()) fetchEateries();
+        CachedEateries snapshot = cache;
+        if (query == null || query.isEmpty()) return snapshot.eateries();
+
+        return snapshot.index().search(query).stream()
+                .map(i -> snapshot.eateries().get(i.intValue()))
                 .collect(Collectors.toList());
     }
 
-    /** Performs a keyword search across eateries stored in the database. */
+    /**
+     * Performs a keyword search across eateries stored in the database.
+     *
+     * <p>Candidate IDs come from the in-memory {@link EaterySearchIndex}; only the
+     * matching rows are then loaded by primary key, preserving the ranked order.</p>
+     */
     public List<Eatery> searchEateryFromDatabase(String query) {
         if (query == null || query.isBlank()) return eateryRepository.findAll();
-        return eateryRepository.searchByQuery(query);
+        return loadInOrder(eaterySearchIndex.search(query));
+    }
+
+    /**
+     * Returns typeahead suggestions for the search box.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions to return
+     * @return suggestions over eatery names, building names, postal codes, and tags
+     */
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) return new ArrayList<>();
+        return eaterySearchIndex.suggest(prefix, limit);
     }
 
     /** Retrieves a single eatery by its unique identifier. */
@@ -329,34 +381,157 @@ public class EateryService {
         return eateryRepository.findById(id);
     }
 
-    /** Filters eateries based on dietary tags. */
+    /**
+     * Retrieves the secondary dataset attributes of an eatery.
+     *
+     * <p>These are stored apart from the eatery row and are only read here, so
+     * eatery lists and searches never load them.</p>
+     *
+     * @param id         the eatery ID
+     * @param includeRaw whether to include the raw HTML description, if it was stored
+     * @return the details, or empty if the eatery does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<EateryDetailsDto> getEateryDetails(Long id, boolean includeRaw) {
+        Optional<EateryDetails> details = eateryDetailsRepository.findById(id);
+        if (details.isEmpty()) {
+            return eateryRepository.existsById(id)
+                    ? Optional.of(new EateryDetailsDto(id, Map.of(), false, null))
+                    : Optional.empty();
+        }
+        EateryDetails d = details.get();
+        return Optional.of(new EateryDetailsDto(id, new LinkedHashMap<>(d.getAttributes()), d.hasRawHtml(),
+                includeRaw ? d.getRawHtml() : null));
+    }
+
+    /**
+     * Filters eateries based on dietary tags.
+     *
+     * <p>Matching IDs are taken from the tag postings in {@link EaterySearchIndex};
+     * only those rows are loaded from the database.</p>
+     */
     public List<Eatery> searchEateryByTags(List<String> tags) {
         if (tags == null || tags.isEmpty()) return eateryRepository.findAll();
+        return loadInOrder(eaterySearchIndex.searchByTags(tagVocabularyService.canonicalNames(tags)));
+    }
 
-        return eateryRepository.findAll().stream()
-                .filter(e -> e.getDietaryTags() != null && !e.getDietaryTags().isEmpty()
-                        && e.getDietaryTags().stream()
-                        .anyMatch(tag -> tags.stream()
-                                .anyMatch(input -> tag.getTag().equalsIgnoreCase(input))))
+    /**
+     * Performs combined search by keyword and dietary tags.
+     *
+     * <p>Keyword matches are intersected with the tag postings in memory, so the
+     * full catalog is never loaded; results keep the keyword ranking.</p>
+     */
+    public List<Eatery> searchEateryByQueryAndTags(String query, List<String> tags) {
+        if (tags == null || tags.isEmpty()) return searchEateryFromDatabase(query);
+        return loadInOrder(eaterySearchIndex.search(query, tagVocabularyService.canonicalNames(tags)));
+    }
+
+    /**
+     * Returns one page of slim eatery summaries for list and map views.
+     *
+     * <p>Without filters, the page is read straight from the database as a
+     * projection ordered by ID. With a query and/or tags, matching IDs come from
+     * {@link EaterySearchIndex} (best match first) and only the requested slice
+     * is loaded. In both cases tags and rating aggregates are attached with one
+     * batched query each, so a page costs a fixed number of round trips.</p>
+     *
+     * @param query optional keyword filter
+     * @param tags  optional tag filter (any tag matches)
+     * @param page  zero-based page index
+     * @param size  page size, between 1 and {@value #MAX_PAGE_SIZE}
+     * @return the requested page
+     * @throws IllegalArgumentException if {@code page} or {@code size} is out of range
+     */
+    public PagedResponse<EaterySummary> listEaterySummaries(String query, List<String> tags, int page, int size) {
+        if (page < 0) throw new IllegalArgumentException("Page index must not be negative");
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        boolean hasQuery = query != null && !query.isBlank();
+        boolean hasTags = tags != null && !tags.isEmpty();
+
+        List<EaterySummary> content;
+        long total;
+        if (!hasQuery && !hasTags) {
+            Page<EaterySummary> result = eateryRepository.findSummaries(PageRequest.of(page, size, Sort.by("id")));
+            content = result.getContent();
+            total = result.getTotalElements();
+        } else {
+            List<Long> ids = hasTags
+                    ? eaterySearchIndex.search(query, tagVocabularyService.canonicalNames(tags))
+                    : eaterySearchIndex.search(query);
+            total = ids.size();
+            long from = (long) page * size;
+            List<Long> slice = from >= ids.size() ? List.of()
+                    : ids.subList((int) from, (int) Math.min(from + size, ids.size()));
+            content = loadSummariesInOrder(slice);
+        }
+
+        attachTagsAndRatings(content);
+        return new PagedResponse<>(content, page, size, total);
+    }
+
+    /**
+     * Returns tag facet counts for the result set of a search.
+     *
+     * <p>The result set is resolved the same way as {@link #listEaterySummaries};
+     * counts are computed from the per-tag bitmaps in {@link EaterySearchIndex}.</p>
+     *
+     * @param query optional keyword filter
+     * @param tags  optional tag filter (any tag matches)
+     * @return one entry per tag present in the result set, most frequent first
+     */
+    public List<TagFacetDto> getTagFacets(String query, List<String> tags) {
+        boolean hasQuery = query != null && !query.isBlank();
+        boolean hasTags = tags != null && !tags.isEmpty();
+        if (!hasQuery && !hasTags) return eaterySearchIndex.facetCounts(null);
+
+        List<Long> ids = hasTags
+                ? eaterySearchIndex.search(query, tagVocabularyService.canonicalNames(tags))
+                : eaterySearchIndex.search(query);
+        return eaterySearchIndex.facetCounts(ids);
+    }
+
+    /** Loads summaries by ID and returns them in the order of the given ID list. */
+    private List<EaterySummary> loadSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        Map<Long, EaterySummary> byId = eateryRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(EaterySummary::getId, e -> e));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    /** Performs combined search by name/address and dietary tags. */
-    public List<Eatery> searchEateryByQueryAndTags(String query, List<String> tags) {
-        String lowerQuery = query != null ? query.toLowerCase() : "";
-        return eateryRepository.findAll().stream()
-                .filter(e -> {
-                    boolean matchesQuery = query == null || query.isBlank()
-                            || e.getName().toLowerCase().contains(lowerQuery)
-                            || (e.getAddress() != null && e.getAddress().toLowerCase().contains(lowerQuery));
-
-                    boolean matchesTags = tags == null || tags.isEmpty()
-                            || (e.getDietaryTags() != null && e.getDietaryTags().stream()
-                            .anyMatch(tag -> tags.stream()
-                                    .anyMatch(input -> tag.getTag().equalsIgnoreCase(input))));
-
-                    return matchesQuery && matchesTags;
-                })
+    /** Fills in tag names and rating aggregates using one query each. */
+    private void attachTagsAndRatings(List<EaterySummary> summaries) {
+        if (summaries.isEmpty()) return;
+        Map<Long, EaterySummary> byId = new HashMap<>();
+        for (EaterySummary summary : summaries) byId.put(summary.getId(), summary);
+
+        for (Object[] row : dietaryTagsRepository.findTagNamesByEateryIds(byId.keySet())) {
+            EaterySummary summary = byId.get((Long) row[0]);
+            if (summary != null) summary.getTags().add((String) row[1]);
+        }
+
+        for (Object[] row : reviewRepository.getRatingStatsByEateryIds(byId.keySet())) {
+            EaterySummary summary = byId.get((Long) row[0]);
+            if (summary == null) continue;
+            summary.setAverageHealthScore((Double) row[1]);
+            summary.setAverageHygieneScore((Double) row[2]);
+            summary.setReviewCount((Long) row[3]);
+        }
+    }
+
+    /** Loads eateries by ID and returns them in the order of the given ID list. */
+    private List<Eatery> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) return new ArrayList<>();
+        Map<Long, Eatery> byId = eateryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Eatery::getId, e -> e));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,100 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.SyncJobStatus;
+import com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service that runs eatery API syncs as background jobs.
+ *
+ * <p>{@link #startSync()} returns immediately with a job ID. The
+ * {@link IngestionPipeline} then runs on a virtual thread, fetching every
+ * configured source with non-blocking {@code HttpClient.sendAsync} calls, so no
+ * Tomcat worker is held for the duration of the sync. Progress (records parsed,
+ * inserted, updated, skipped) can be polled with {@link #getStatus(String)}.</p>
+ *
+ * <p>Only one sync runs at a time; starting a sync while another is running
+ * returns the running job. The most recent {@value #MAX_RETAINED_JOBS} jobs are
+ * kept for polling.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.SyncJob
+ * @see com.FeedEmGreens.HealthyAura.ingestion.IngestionPipeline
+ * @see com.FeedEmGreens.HealthyAura.controller.EateryController
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class EaterySyncService {
+
+    /** Number of finished and running jobs kept in memory. */
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    @Autowired
+    private IngestionPipeline ingestionPipeline;
+
+    /** Executor for the pipeline; one virtual thread per job. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /** Recent jobs by ID, oldest first. */
+    private final Map<String, SyncJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SyncJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    };
+
+    /** The job currently running, if any. */
+    private SyncJob running;
+
+    /**
+     * Starts a sync job, or returns the one already running.
+     *
+     * @return the status of the started (or running) job
+     */
+    public synchronized SyncJobStatus startSync() {
+        if (running != null && !running.isFinished()) return running.toStatus();
+
+        SyncJob job = new SyncJob(UUID.randomUUID().toString());
+        jobs.put(job.getId(), job);
+        running = job;
+
+        CompletableFuture.runAsync(() -> ingestionPipeline.run(job), executor)
+                .whenComplete((ignored, error) -> {
+                    if (error == null) {
+                        job.complete();
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        job.fail(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+                    }
+                });
+
+        return job.toStatus();
+    }
+
+    /**
+     * Returns the progress of a sync job.
+     *
+     * @param jobId the job ID returned by {@link #startSync()}
+     * @return the job status, or empty if the job is unknown or has been evicted
+     */
+    public synchronized Optional<SyncJobStatus> getStatus(String jobId) {
+        SyncJob job = jobs.get(jobId);
+        return job == null ? Optional.empty() : Optional.of(job.toStatus());
+    }
+
+    /** Stops accepting new work on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
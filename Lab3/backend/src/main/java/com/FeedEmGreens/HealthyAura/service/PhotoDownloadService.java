@@ -0,0 +1,235 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service that writes stored photo files to HTTP responses.
+ *
+ * <p>Files are never read into memory. When the servlet container supports it
+ * (Tomcat's NIO connector does by default), the transfer is handed to the
+ * container's sendfile support, which calls {@link FileChannel#transferTo}
+ * straight into the socket after the handler returns, so the bytes never enter
+ * the JVM heap. Otherwise the file is streamed with {@code FileChannel.transferTo}
+ * into the response channel, a small buffer at a time.</p>
+ *
+ * <p>Responses support:
+ * <ul>
+ *   <li>single byte ranges ({@code Range}, {@code If-Range}), answered with
+ *       {@code 206 Partial Content} or {@code 416 Range Not Satisfiable}; multi-range
+ *       requests get the whole file</li>
+ *   <li>strong ETags derived from the content hash, with {@code If-None-Match}
+ *       answered by {@code 304 Not Modified}</li>
+ *   <li>immutable, year-long caching for content-addressed files</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Download counters (active and peak concurrent downloads, responses by kind,
+ * bytes served) are kept in lock-free counters and exposed through
+ * {@link #getMetrics()}.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.PhotoController
+ * @see com.FeedEmGreens.HealthyAura.service.PhotoStorageService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class PhotoDownloadService {
+
+    /** Cache policy for content-addressed files, whose content never changes. */
+    public static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final AtomicInteger activeDownloads = new AtomicInteger();
+    private final AtomicInteger peakDownloads = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder fullResponses = new LongAdder();
+    private final LongAdder partialResponses = new LongAdder();
+    private final LongAdder notModifiedResponses = new LongAdder();
+    private final LongAdder unsatisfiableRanges = new LongAdder();
+    private final LongAdder sendfileTransfers = new LongAdder();
+    private final LongAdder bytesServed = new LongAdder();
+
+    /**
+     * Writes a file, or the requested range of it, to the response.
+     *
+     * @param request      the request, for conditional and range headers
+     * @param response     the response to write
+     * @param file         the file to send
+     * @param contentType  the file's content type
+     * @param etag         the file's strong ETag (quoted), or {@code null} for none
+     * @param cacheControl the cache policy
+     * @throws IOException if the file cannot be read or the client disconnects
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, Path file,
+                     String contentType, String etag, CacheControl cacheControl) throws IOException {
+        requests.increment();
+        long length;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            length = channel.size();
+        }
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (etag != null) response.setHeader(HttpHeaders.ETAG, etag);
+
+        if (etag != null && matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModifiedResponses.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && rangeApplies(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                unsatisfiableRanges.increment();
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+            }
+        }
+
+        long count = end - start + 1;
+        boolean partial = count < length;
+        if (partial) {
+            partialResponses.increment();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else {
+            fullResponses.increment();
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count == 0) return;
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // The container transfers the file once the handler returns.
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            sendfileTransfers.increment();
+            bytesServed.add(count);
+            return;
+        }
+
+        stream(file, start, count, response);
+    }
+
+    /** Streams {@code count} bytes from {@code start} with {@code FileChannel.transferTo}. */
+    private void stream(Path file, long start, long count, HttpServletResponse response) throws IOException {
+        peakDownloads.accumulateAndGet(activeDownloads.incrementAndGet(), Math::max);
+        long sent = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (sent < count) {
+                long written = channel.transferTo(start + sent, count - sent, out);
+                if (written <= 0) break;
+                sent += written;
+            }
+            response.flushBuffer();
+        } finally {
+            bytesServed.add(sent);
+            activeDownloads.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the download counters.
+     *
+     * <p>{@code activeDownloads} and {@code peakConcurrentDownloads} cover streamed
+     * transfers; sendfile transfers run inside the container and are counted in
+     * {@code sendfileTransfers}.</p>
+     *
+     * @return counter name → value
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("activeDownloads", activeDownloads.get());
+        metrics.put("peakConcurrentDownloads", peakDownloads.get());
+        metrics.put("requests", requests.sum());
+        metrics.put("fullResponses", fullResponses.sum());
+        metrics.put("partialResponses", partialResponses.sum());
+        metrics.put("notModifiedResponses", notModifiedResponses.sum());
+        metrics.put("unsatisfiableRanges", unsatisfiableRanges.sum());
+        metrics.put("sendfileTransfers", sendfileTransfers.sum());
+        metrics.put("bytesServed", bytesServed.sum());
+        return metrics;
+    }
+
+    /** Whether an {@code If-None-Match} header matches the ETag (weak comparison). */
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) return true;
+            if (tag.startsWith("W/")) tag = tag.substring(2);
+            if (tag.equals(etag)) return true;
+        }
+        return false;
+    }
+
+    /** Whether a range may be served: no {@code If-Range}, or one that strongly matches the ETag. */
+    private static boolean rangeApplies(String ifRange, String etag) {
+        return ifRange == null || (etag != null && ifRange.trim().equals(etag));
+    }
+
+    /**
+     * Parses a {@code Range} header against a file length.
+     *
+     * @return {@code [start, end]} (inclusive) for a satisfiable single range, an empty
+     *         array if the header should be ignored, or {@code null} if it cannot be satisfied
+     */
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) return new long[0];
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return new long[0];
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes.
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) return null;
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+            long start = Long.parseLong(first);
+            Long end = last.isEmpty() ? null : Long.parseLong(last);
+            if (start < 0 || (end != null && end < start)) return new long[0];
+            if (start >= length) return null;
+            return new long[] { start, end == null ? length - 1 : Math.min(end, length - 1) };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
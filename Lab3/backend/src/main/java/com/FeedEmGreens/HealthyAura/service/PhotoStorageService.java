@@ -0,0 +1,341 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.PhotoDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service that stores review photos on local disk and generates their thumbnails.
+ *
+ * <p>Photos are content-addressed: each upload is streamed to a temporary file
+ * while its SHA-256 digest is computed, then moved to
+ * {@code originals/<first two hex digits>/<digest>.<ext>} under
+ * {@code photos.storage-dir}. The body is never held in memory as a whole, and
+ * uploading the same image twice stores it once. The image type is taken from
+ * the file's leading bytes, not the client's content type; JPEG, PNG, and GIF
+ * are accepted.</p>
+ *
+ * <p>Thumbnails (JPEG, at most {@code photos.thumbnail-size} pixels on the long
+ * side) are generated by a small, bounded worker pool
+ * ({@code photos.thumbnail-workers} threads, {@code photos.thumbnail-queue-capacity}
+ * queued jobs) so uploads return as soon as the original is stored. Large
+ * images are subsampled while decoding rather than read at full resolution. If
+ * the queue is full, the thumbnail is generated when it is first requested; until
+ * it exists, the original is served in its place.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.PhotoController
+ * @see com.FeedEmGreens.HealthyAura.dto.PhotoDto
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class PhotoStorageService {
+
+    /** URL prefix of stored originals. */
+    public static final String ORIGINAL_URL_PREFIX = "/api/photos/original/";
+
+    /** URL prefix of stored thumbnails. */
+    public static final String THUMBNAIL_URL_PREFIX = "/api/photos/thumbnail/";
+
+    /** A stored photo's file name: SHA-256 digest plus extension. */
+    private static final Pattern PHOTO_NAME = Pattern.compile("([0-9a-f]{64})\\.(jpg|png|gif)");
+
+    /** Images larger than this many pixels are rejected when generating thumbnails. */
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    @Value("${photos.storage-dir:uploads/photos}")
+    private Path storageDir;
+
+    @Value("${photos.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${photos.thumbnail-workers:2}")
+    private int thumbnailWorkers;
+
+    @Value("${photos.thumbnail-queue-capacity:100}")
+    private int thumbnailQueueCapacity;
+
+    private ThreadPoolExecutor thumbnailPool;
+
+    /** Digests whose thumbnail is queued or being generated. */
+    private final Set<String> pendingThumbnails = ConcurrentHashMap.newKeySet();
+
+    /** Creates the storage directories and starts the thumbnail workers. */
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(storageDir.resolve("originals"));
+        Files.createDirectories(storageDir.resolve("thumbnails"));
+        Files.createDirectories(storageDir.resolve("tmp"));
+
+        AtomicInteger threads = new AtomicInteger();
+        thumbnailPool = new ThreadPoolExecutor(thumbnailWorkers, thumbnailWorkers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(thumbnailQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "photo-thumbnail-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stores an uploaded photo and schedules its thumbnail.
+     *
+     * @param body the photo bytes; read once, and not closed
+     * @return the URLs of the stored photo and its thumbnail
+     * @throws IllegalArgumentException if the body is empty or not a JPEG, PNG, or GIF image
+     */
+    public PhotoDto store(InputStream body) {
+        Path temp = null;
+        try {
+            BufferedInputStream in = new BufferedInputStream(body);
+            String extension = detectExtension(in);
+            if (extension == null) {
+                throw new IllegalArgumentException("Only JPEG, PNG, and GIF images are supported");
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(storageDir.resolve("tmp"), "upload-", ".part");
+            try (DigestInputStream hashing = new DigestInputStream(in, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                hashing.transferTo(out);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String name = hash + "." + extension;
+            Path target = originalPath(hash, name);
+            if (Files.exists(target)) {
+                Files.delete(temp);
+            } else {
+                Files.createDirectories(target.getParent());
+                moveAtomically(temp, target);
+            }
+            temp = null;
+
+            scheduleThumbnail(hash, name);
+            return variantsOf(ORIGINAL_URL_PREFIX + name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store photo", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    System.err.println("Failed to delete temporary upload " + temp + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the original and thumbnail URLs of a review photo URL.
+     *
+     * @param url a stored photo URL, or an external URL
+     * @return the variants; an external URL is used for both
+     */
+    public PhotoDto variantsOf(String url) {
+        if (url != null && url.startsWith(ORIGINAL_URL_PREFIX)) {
+            Matcher name = PHOTO_NAME.matcher(url.substring(ORIGINAL_URL_PREFIX.length()));
+            if (name.matches()) {
+                return new PhotoDto(url, THUMBNAIL_URL_PREFIX + name.group(1) + ".jpg");
+            }
+        }
+        return new PhotoDto(url, url);
+    }
+
+    /**
+     * Resolves a stored original by file name.
+     *
+     * @param name the file name, {@code <digest>.<ext>}
+     * @return the file, if the name is valid and the photo exists
+     */
+    public Optional<Path> findOriginal(String name) {
+        Matcher matcher = PHOTO_NAME.matcher(name);
+        if (!matcher.matches()) return Optional.empty();
+        Path path = originalPath(matcher.group(1), name);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * Resolves a thumbnail by file name.
+     *
+     * <p>If the photo exists but its thumbnail has not been generated yet, the
+     * thumbnail is scheduled and nothing is returned; see
+     * {@link #findOriginalOfThumbnail(String)} for a fallback.</p>
+     *
+     * @param name the thumbnail file name, {@code <digest>.jpg}
+     * @return the thumbnail, if it exists
+     */
+    public Optional<Path> findThumbnail(String name) {
+        Matcher matcher = PHOTO_NAME.matcher(name);
+        if (!matcher.matches() || !matcher.group(2).equals("jpg")) return Optional.empty();
+        String hash = matcher.group(1);
+
+        Path thumbnail = thumbnailPath(hash);
+        if (Files.isRegularFile(thumbnail)) return Optional.of(thumbnail);
+
+        findOriginalOfThumbnail(name).ifPresent(original -> scheduleThumbnail(hash, original.getFileName().toString()));
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the original a thumbnail is generated from.
+     *
+     * @param name the thumbnail file name, {@code <digest>.jpg}
+     * @return the original, if it exists
+     */
+    public Optional<Path> findOriginalOfThumbnail(String name) {
+        Matcher matcher = PHOTO_NAME.matcher(name);
+        if (!matcher.matches() || !matcher.group(2).equals("jpg")) return Optional.empty();
+        for (String extension : new String[] { "jpg", "png", "gif" }) {
+            Optional<Path> original = findOriginal(matcher.group(1) + "." + extension);
+            if (original.isPresent()) return original;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the content type of a stored file from its extension.
+     *
+     * @param path a stored original or thumbnail
+     * @return the image content type
+     */
+    public static String contentTypeOf(Path path) {
+        String name = path.getFileName().toString();
+        if (name.endsWith(".png")) return "image/png";
+        if (name.endsWith(".gif")) return "image/gif";
+        return "image/jpeg";
+    }
+
+    /** Queues thumbnail generation unless the thumbnail exists or is already queued. */
+    private void scheduleThumbnail(String hash, String name) {
+        if (Files.exists(thumbnailPath(hash)) || !pendingThumbnails.add(hash)) return;
+        try {
+            thumbnailPool.execute(() -> {
+                try {
+                    writeThumbnail(originalPath(hash, name), thumbnailPath(hash));
+                } catch (Exception e) {
+                    System.err.println("Thumbnail generation failed for " + name + ": " + e.getMessage());
+                } finally {
+                    pendingThumbnails.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue full: generated on first request instead.
+            pendingThumbnails.remove(hash);
+        }
+    }
+
+    /** Decodes an image (subsampled if large), scales it down, and writes it as a JPEG. */
+    private void writeThumbnail(Path original, Path thumbnail) throws IOException {
+        BufferedImage source;
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) throw new IOException("Unsupported image format");
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) throw new IOException("Image too large");
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (thumbnailSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                source = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Files.createDirectories(thumbnail.getParent());
+        Path temp = Files.createTempFile(storageDir.resolve("tmp"), "thumb-", ".part");
+        try {
+            if (!ImageIO.write(scaled, "jpg", temp.toFile())) throw new IOException("No JPEG writer available");
+            moveAtomically(temp, thumbnail);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path originalPath(String hash, String name) {
+        return storageDir.resolve("originals").resolve(hash.substring(0, 2)).resolve(name);
+    }
+
+    private Path thumbnailPath(String hash) {
+        return storageDir.resolve("thumbnails").resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Stored concurrently by an identical upload.
+            Files.deleteIfExists(source);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** Identifies a JPEG, PNG, or GIF from its leading bytes, without consuming them. */
+    private static String detectExtension(BufferedInputStream in) throws IOException {
+        in.mark(8);
+        byte[] header = in.readNBytes(8);
+        in.reset();
+        if (header.length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF)
+            return "jpg";
+        if (header.length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G')
+            return "png";
+        if (header.length >= 4 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8')
+            return "gif";
+        return null;
+    }
+
+    /** Stops the thumbnail workers on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        thumbnailPool.shutdownNow();
+    }
+}
@@ -0,0 +1,272 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.RatingHistogramResponse;
+import com.FeedEmGreens.HealthyAura.entity.RatingHistogram;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.repository.RatingHistogramRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Service that maintains the per-eatery star distribution of visible reviews.
+ *
+ * <p>Each eatery's {@link RatingHistogram} is updated in the same transaction as
+ * the review change that affects it – create, edit, delete, hide, or unhide – so
+ * the histogram endpoint reads one row instead of aggregating reviews. Writers
+ * lock the eatery's row before adjusting it, which serializes concurrent changes
+ * on the same eatery without blocking other eateries.</p>
+ *
+ * <p>Histograms are created lazily: the first change on an eatery without one
+ * seeds it from that eatery's committed reviews. {@link #rebuildAll()} recomputes
+ * every histogram in chunks of {@code ratings.histogram.rebuild-chunk-size}
+ * eateries, one transaction per chunk, and can be used to backfill or to repair
+ * drift.</p>
+ *
+ * <p>Only reviews with both scores between 1 and 5 are counted. Review edits
+ * did not always enforce that range, so older rows may hold other scores; they
+ * are left out of the distribution rather than failing the change.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.RatingHistogram
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class RatingHistogramService {
+
+    /** Number of eateries recomputed per transaction by {@link #rebuildAll()}. */
+    @Value("${ratings.histogram.rebuild-chunk-size:500}")
+    private int rebuildChunkSize;
+
+    @Autowired
+    private RatingHistogramRepository ratingHistogramRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Runs work in its own transaction, independent of any caller's. */
+    private TransactionTemplate separateTransaction;
+
+    @PostConstruct
+    void init() {
+        separateTransaction = new TransactionTemplate(transactionManager);
+        separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Returns the star distribution of an eatery's visible reviews.
+     *
+     * <p>Served from the stored histogram; an eatery whose reviews have not changed
+     * since histograms were introduced (and that has not been rebuilt) is counted
+     * from its reviews instead.</p>
+     *
+     * @param eateryId the eatery ID
+     * @return the histogram
+     * @throws IllegalArgumentException if the eatery does not exist
+     */
+    @Transactional(readOnly = true)
+    public RatingHistogramResponse getHistogram(Long eateryId) {
+        RatingHistogram histogram = ratingHistogramRepository.findById(eateryId).orElse(null);
+        if (histogram == null) {
+            if (!eateryRepository.existsById(eateryId)) {
+                throw new IllegalArgumentException("Eatery not found: " + eateryId);
+            }
+            histogram = countFromReviews(List.of(eateryId)).get(eateryId);
+        }
+        return new RatingHistogramResponse(eateryId, histogram.getHealthCounts(), histogram.getHygieneCounts());
+    }
+
+    /**
+     * Returns the star distributions of several eateries at once.
+     *
+     * <p>Stored histograms are read with one query; eateries without one are
+     * counted from their reviews with one grouped query. Unknown eatery IDs get
+     * an empty histogram.</p>
+     *
+     * @param eateryIds the eatery IDs
+     * @return eatery ID → histogram
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, RatingHistogramResponse> getHistograms(Collection<Long> eateryIds) {
+        if (eateryIds.isEmpty()) return new HashMap<>();
+        Map<Long, RatingHistogram> histograms = new HashMap<>();
+        for (RatingHistogram histogram : ratingHistogramRepository.findAllById(eateryIds)) {
+            histograms.put(histogram.getEateryId(), histogram);
+        }
+        Set<Long> missing = new HashSet<>(eateryIds);
+        missing.removeAll(histograms.keySet());
+        if (!missing.isEmpty()) histograms.putAll(countFromReviews(missing));
+
+        Map<Long, RatingHistogramResponse> result = new HashMap<>();
+        histograms.forEach((eateryId, histogram) -> result.put(eateryId,
+                new RatingHistogramResponse(eateryId, histogram.getHealthCounts(), histogram.getHygieneCounts())));
+        return result;
+    }
+
+    /**
+     * Records a review becoming visible (created or unhidden).
+     *
+     * @param eateryId     the review's eatery
+     * @param healthScore  the review's health score
+     * @param hygieneScore the review's hygiene score
+     */
+    @Transactional
+    public void recordAdded(Long eateryId, int healthScore, int hygieneScore) {
+        if (!inRange(healthScore, hygieneScore)) return;
+        lock(eateryId).adjust(healthScore, hygieneScore, 1);
+    }
+
+    /**
+     * Records a review ceasing to be visible (deleted or hidden).
+     *
+     * @param eateryId     the review's eatery
+     * @param healthScore  the review's health score
+     * @param hygieneScore the review's hygiene score
+     */
+    @Transactional
+    public void recordRemoved(Long eateryId, int healthScore, int hygieneScore) {
+        if (!inRange(healthScore, hygieneScore)) return;
+        lock(eateryId).adjust(healthScore, hygieneScore, -1);
+    }
+
+    /**
+     * Records a visible review's scores being edited.
+     *
+     * @param eateryId        the review's eatery
+     * @param oldHealthScore  the health score before the edit
+     * @param oldHygieneScore the hygiene score before the edit
+     * @param newHealthScore  the health score after the edit
+     * @param newHygieneScore the hygiene score after the edit
+     */
+    @Transactional
+    public void recordChanged(Long eateryId, int oldHealthScore, int oldHygieneScore,
+                              int newHealthScore, int newHygieneScore) {
+        if (oldHealthScore == newHealthScore && oldHygieneScore == newHygieneScore) return;
+        boolean wasCounted = inRange(oldHealthScore, oldHygieneScore);
+        boolean isCounted = inRange(newHealthScore, newHygieneScore);
+        if (!wasCounted && !isCounted) return;
+        RatingHistogram histogram = lock(eateryId);
+        if (wasCounted) histogram.adjust(oldHealthScore, oldHygieneScore, -1);
+        if (isCounted) histogram.adjust(newHealthScore, newHygieneScore, 1);
+    }
+
+    /**
+     * Recomputes the histograms of the given eateries from their reviews.
+     *
+     * <p>Used after bulk review changes, such as merging duplicate eateries.</p>
+     *
+     * @param eateryIds the eateries to recompute
+     */
+    @Transactional
+    public void rebuild(Collection<Long> eateryIds) {
+        if (eateryIds.isEmpty()) return;
+
+        Map<Long, RatingHistogram> histograms = new HashMap<>();
+        for (RatingHistogram existing : ratingHistogramRepository.findAllForUpdate(eateryIds)) {
+            existing.clear();
+            histograms.put(existing.getEateryId(), existing);
+        }
+        List<RatingHistogram> created = new ArrayList<>();
+        for (Long eateryId : eateryIds) {
+            if (!histograms.containsKey(eateryId)) {
+                RatingHistogram histogram = new RatingHistogram(eateryId);
+                histograms.put(eateryId, histogram);
+                created.add(histogram);
+            }
+        }
+        addReviewCounts(histograms);
+        ratingHistogramRepository.saveAll(created);
+    }
+
+    /**
+     * Recomputes every eatery's histogram, one chunk of eateries per transaction.
+     *
+     * @return the number of eateries processed
+     */
+    public int rebuildAll() {
+        int processed = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids = eateryRepository.findIdsAfter(afterId, PageRequest.of(0, rebuildChunkSize));
+            if (ids.isEmpty()) break;
+
+            separateTransaction.executeWithoutResult(status -> rebuild(ids));
+            processed += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        return processed;
+    }
+
+    /**
+     * Removes an eatery's histogram, e.g., when the eatery is merged away.
+     *
+     * @param eateryId the eatery ID
+     */
+    @Transactional
+    public void discard(Long eateryId) {
+        ratingHistogramRepository.findById(eateryId).ifPresent(ratingHistogramRepository::delete);
+    }
+
+    /**
+     * Loads and locks an eatery's histogram, creating it first if necessary.
+     *
+     * <p>A missing histogram is seeded from the eatery's committed reviews in a
+     * separate transaction, so the caller's own uncommitted change is applied on
+     * top of it exactly once. If another transaction creates it concurrently,
+     * that one is used.</p>
+     */
+    private RatingHistogram lock(Long eateryId) {
+        Optional<RatingHistogram> existing = ratingHistogramRepository.findForUpdate(eateryId);
+        if (existing.isPresent()) return existing.get();
+
+        try {
+            separateTransaction.executeWithoutResult(status -> {
+                if (!ratingHistogramRepository.existsById(eateryId)) {
+                    ratingHistogramRepository.save(countFromReviews(List.of(eateryId)).get(eateryId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Created by a concurrent transaction in the meantime.
+        }
+        return ratingHistogramRepository.findForUpdate(eateryId)
+                .orElseThrow(() -> new IllegalStateException("Rating histogram missing for eatery " + eateryId));
+    }
+
+    /** Whether a review with these scores is counted in histograms. */
+    private static boolean inRange(int healthScore, int hygieneScore) {
+        return healthScore >= 1 && healthScore <= 5 && hygieneScore >= 1 && hygieneScore <= 5;
+    }
+
+    /** Counts the visible reviews of each eatery by score into new histograms. */
+    private Map<Long, RatingHistogram> countFromReviews(Collection<Long> eateryIds) {
+        Map<Long, RatingHistogram> histograms = new HashMap<>();
+        for (Long eateryId : eateryIds) histograms.put(eateryId, new RatingHistogram(eateryId));
+        addReviewCounts(histograms);
+        return histograms;
+    }
+
+    /** Adds the visible reviews of each keyed eatery to its histogram, with one grouped query. */
+    private void addReviewCounts(Map<Long, RatingHistogram> histograms) {
+        for (Object[] row : reviewRepository.countVisibleByScoresForEateryIds(histograms.keySet())) {
+            histograms.get((Long) row[0]).adjust((Integer) row[1], (Integer) row[2], (Long) row[3]);
+        }
+    }
+}
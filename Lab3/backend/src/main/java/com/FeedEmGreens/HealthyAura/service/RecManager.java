@@ -6,6 +6,7 @@ import com.FeedEmGreens.HealthyAura.entity.Users;
 import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
 import com.FeedEmGreens.HealthyAura.repository.UserRepository;
 import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.search.EaterySearchIndex;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -43,6 +44,7 @@ public class RecManager {
     private final EateryRepository eateryRepository;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final EaterySearchIndex eaterySearchIndex;
 
     /**
      * Constructs the recommendation manager with all required repositories.
@@ -50,11 +52,14 @@ public class RecManager {
      * @param eateryRepository repository for retrieving eatery data
      * @param userRepository repository for accessing user profile and preferences
      * @param reviewRepository repository for computing average ratings and review stats
+     * @param eaterySearchIndex in-memory index used for postal sector lookups
      */
-    public RecManager(EateryRepository eateryRepository, UserRepository userRepository, ReviewRepository reviewRepository) {
+    public RecManager(EateryRepository eateryRepository, UserRepository userRepository,
+                      ReviewRepository reviewRepository, EaterySearchIndex eaterySearchIndex) {
         this.eateryRepository = eateryRepository;
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
+        this.eaterySearchIndex = eaterySearchIndex;
     }
 
     /**
@@ -196,6 +201,47 @@ public class RecManager {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns all eateries in a postal sector (the first two digits of the postal code),
+     * optionally widened to numerically neighbouring sectors.
+     *
+     * <p>Eatery IDs come from a sorted range scan over the in-memory postal index,
+     * so results are ordered by postal code unless a location is given, in which
+     * case they are ordered by distance.</p>
+     *
+     * @param sector  two-digit postal sector (e.g. “52”)
+     * @param radius  number of neighbouring sectors to include on each side
+     * @param userLat user’s latitude (optional)
+     * @param userLng user’s longitude (optional)
+     * @return the eateries in the requested sector(s)
+     */
+    public List<RecommendationDto> generateRecommendationsBySector(String sector, int radius, Double userLat, Double userLng) {
+        List<Long> ids = eaterySearchIndex.searchBySector(sector, radius);
+        if (ids.isEmpty()) return new ArrayList<>();
+
+        Map<Long, Eatery> byId = eateryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Eatery::getId, e -> e));
+        List<RecommendationDto> results = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(eatery -> RecommendationDto.fromEatery(eatery, userLat, userLng))
+                .collect(Collectors.toList());
+
+        if (userLat != null && userLng != null) {
+            results.sort(Comparator.comparing(RecommendationDto::getDistance, Comparator.nullsLast(Double::compareTo)));
+        }
+        return results;
+    }
+
+    /**
+     * Lists the postal sectors that contain eateries, with their eatery counts.
+     *
+     * @return sector → eatery count, in sector order
+     */
+    public Map<String, Integer> getPostalSectorCounts() {
+        return eaterySearchIndex.postalSectorCounts();
+    }
+
     /**
      * Splits a comma-separated user preference string into individual normalized tags.
      *
@@ -0,0 +1,212 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Service that exports reviews for offline analysis.
+ *
+ * <p>Reviews are read through a database cursor ({@link ReviewRepository#streamForExport})
+ * and written to the response row by row, so memory use stays constant whatever
+ * the number of reviews. The export runs after the request handler returns, on
+ * Spring MVC's async executor, in its own read-only transaction.</p>
+ *
+ * <p>Supported formats:
+ * <ul>
+ *   <li><b>ndjson</b> — one JSON object per line</li>
+ *   <li><b>csv</b> — RFC 4180 with a header row</li>
+ * </ul>
+ * Deleted reviews are never exported; hidden reviews are, with their hidden flag set.</p>
+ *
+ * <p>On MySQL, Connector/J only honours the fetch size with a server-side cursor,
+ * i.e. with <code>useCursorFetch=true</code> in the JDBC URL; without it the driver
+ * buffers the whole result set.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.controller.AdminReviewExportController
+ * @see com.FeedEmGreens.HealthyAura.repository.ReviewRepository
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ReviewExportService {
+
+    /** Supported export formats. */
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) { this.contentType = contentType; }
+
+        public String getContentType() { return contentType; }
+
+        public String getExtension() { return name().toLowerCase(Locale.ROOT); }
+
+        /**
+         * Parses a format name, case-insensitively.
+         *
+         * @param name the format name ({@code ndjson} or {@code csv}), or {@code null} for NDJSON
+         * @return the format
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format of(String name) {
+            if (name == null || name.isBlank()) return NDJSON;
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name.trim())) return format;
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+
+    private static final String CSV_HEADER = "id,eatery_id,eatery_name,user_id,username,health_score," +
+            "hygiene_score,text_feedback,hidden,created_at,updated_at";
+
+    /** Size of the character buffer in front of the response stream. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EateryRepository eateryRepository;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Validates the filters and returns a response body that writes the matching reviews.
+     *
+     * <p>Validation happens here, before the response is committed, so invalid
+     * filters still produce a regular error response. The export itself is
+     * recorded in the admin action log once it completes.</p>
+     *
+     * @param format        the output format
+     * @param eateryId      only reviews of this eatery, or {@code null} for all eateries
+     * @param from          only reviews created on or after this day, or {@code null}
+     * @param to            only reviews created on or before this day, or {@code null}
+     * @param adminUsername the admin requesting the export, for the audit log
+     * @return the response body
+     * @throws IllegalArgumentException if the eatery does not exist or the date range is reversed
+     */
+    public StreamingResponseBody export(Format format, Long eateryId, LocalDate from, LocalDate to, String adminUsername) {
+        if (eateryId != null && !eateryRepository.existsById(eateryId)) {
+            throw new IllegalArgumentException("Eatery not found: " + eateryId);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        LocalDateTime start = from == null ? null : from.atStartOfDay();
+        LocalDateTime end = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        return out -> {
+            long rows = write(format, eateryId, start, end, out);
+            String details = "format=" + format.getExtension()
+                    + (eateryId != null ? "; eateryId=" + eateryId : "")
+                    + (from != null ? "; from=" + from : "")
+                    + (to != null ? "; to=" + to : "")
+                    + "; rows=" + rows;
+            auditLogWriter.write(new AdminActionLog(adminUsername, "REVIEW_EXPORT", "REVIEW", null, eateryId,
+                    details, LocalDateTime.now()));
+        };
+    }
+
+    /**
+     * Writes the matching reviews to a stream in one read-only transaction.
+     *
+     * @return the number of reviews written
+     * @throws IOException if the client disconnects
+     */
+    private long write(Format format, Long eateryId, LocalDateTime start, LocalDateTime end,
+                       OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        JsonGenerator json = format == Format.NDJSON ? objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .setRootValueSeparator(null) : null;
+        if (format == Format.CSV) writer.write(CSV_HEADER + "\r\n");
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long rows;
+        try {
+            rows = readOnly.execute(status -> {
+                long count = 0;
+                try (Stream<Object[]> stream = reviewRepository.streamForExport(eateryId, start, end)) {
+                    for (Object[] row : (Iterable<Object[]>) stream::iterator) {
+                        if (json != null) writeJson(json, writer, row);
+                        else writeCsv(writer, row);
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (json != null) json.close();
+        writer.flush();
+        return rows == null ? 0 : rows;
+    }
+
+    /** Writes one row as a JSON object followed by a newline. */
+    private void writeJson(JsonGenerator json, Writer writer, Object[] row) throws IOException {
+        json.writeStartObject();
+        json.writeObjectField("id", row[0]);
+        json.writeObjectField("eateryId", row[1]);
+        json.writeObjectField("eateryName", row[2]);
+        json.writeObjectField("userId", row[3]);
+        json.writeObjectField("username", row[4]);
+        json.writeObjectField("healthScore", row[5]);
+        json.writeObjectField("hygieneScore", row[6]);
+        json.writeObjectField("textFeedback", row[7]);
+        json.writeObjectField("hidden", row[8]);
+        json.writeStringField("createdAt", row[9] == null ? null : row[9].toString());
+        json.writeStringField("updatedAt", row[10] == null ? null : row[10].toString());
+        json.writeEndObject();
+        json.flush();
+        writer.write('\n');
+    }
+
+    /** Writes one row as a CSV record. */
+    private void writeCsv(Writer writer, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) writer.write(',');
+            if (row[i] == null) continue;
+            String value = row[i].toString();
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
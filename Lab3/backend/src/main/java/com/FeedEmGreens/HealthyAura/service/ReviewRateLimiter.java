@@ -0,0 +1,158 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory enforcement of the review submission limits.
+ *
+ * <p>New reviews are limited to {@value #DAILY_LIMIT} per user per day, and to one
+ * per user and eatery every {@value #COOLDOWN_DAYS} days. Instead of querying the
+ * database on every submission, this service keeps:
+ * <ul>
+ *   <li>a per-user counter of reviews submitted today</li>
+ *   <li>a per-(user, eatery) timestamp of the last submission, including a
+ *       "no recent submission" entry so first reviews are not re-checked</li>
+ * </ul>
+ * Both live in concurrent maps whose entries expire – daily counters at midnight,
+ * timestamps once their cooldown (or, for "none" entries, a day) has passed – and
+ * expired entries are swept at most every ten minutes.</p>
+ *
+ * <p>A missing or expired entry is warmed from the database with the same query
+ * the check used before, so the limits survive restarts. Submissions are recorded
+ * only once their transaction commits.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService#createOrUpdateReview
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ReviewRateLimiter {
+
+    /** Maximum number of new reviews per user per day. */
+    public static final int DAILY_LIMIT = 5;
+
+    /** Days a user must wait before reviewing the same eatery again. */
+    public static final int COOLDOWN_DAYS = 7;
+
+    private static final Duration COOLDOWN = Duration.ofDays(COOLDOWN_DAYS);
+
+    /** How long a "no recent submission" entry is trusted before it is re-read. */
+    private static final Duration NONE_TTL = Duration.ofDays(1);
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(10);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    /** Reviews submitted by a user on a given day. */
+    private record DailyCount(LocalDate day, int count) {}
+
+    private record SubmissionKey(long userId, long eateryId) {}
+
+    /** Last submission for a (user, eatery) pair; {@code at} is {@code null} if there was none. */
+    private record LastSubmission(LocalDateTime at, LocalDateTime expiresAt) {}
+
+    private final ConcurrentHashMap<Long, DailyCount> dailyCounts = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<SubmissionKey, LastSubmission> lastSubmissions = new ConcurrentHashMap<>();
+
+    private final AtomicReference<LocalDateTime> nextSweep = new AtomicReference<>(LocalDateTime.MIN);
+
+    /**
+     * Checks that a user may submit a new review for an eatery.
+     *
+     * @param user   the submitting user
+     * @param eatery the eatery being reviewed
+     * @throws IllegalArgumentException if the daily limit or the cooldown applies
+     */
+    public void checkAllowed(Users user, Eatery eatery) {
+        LocalDateTime now = LocalDateTime.now();
+        sweepIfDue(now);
+
+        if (reviewsToday(user, now) >= DAILY_LIMIT)
+            throw new IllegalArgumentException("Daily review limit reached. You can only submit 5 reviews per day.");
+
+        LocalDateTime last = lastSubmission(user.getId(), eatery.getId(), now);
+        if (last != null && !last.isBefore(now.minus(COOLDOWN)))
+            throw new IllegalArgumentException("You must wait 7 days before submitting a new review for this eatery");
+    }
+
+    /**
+     * Records a new review submission once the current transaction commits
+     * (immediately, if there is none).
+     *
+     * @param userId      the submitting user's ID
+     * @param eateryId    the reviewed eatery's ID
+     * @param submittedAt the submission time
+     */
+    public void recordSubmission(Long userId, Long eateryId, LocalDateTime submittedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(userId, eateryId, submittedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(userId, eateryId, submittedAt);
+            }
+        });
+    }
+
+    private void record(Long userId, Long eateryId, LocalDateTime submittedAt) {
+        LocalDate day = submittedAt.toLocalDate();
+        // Without a counter for that day, drop the entry so the next check re-reads it.
+        dailyCounts.compute(userId, (id, current) ->
+                current != null && current.day().equals(day) ? new DailyCount(day, current.count() + 1) : null);
+        lastSubmissions.put(new SubmissionKey(userId, eateryId),
+                new LastSubmission(submittedAt, submittedAt.plus(COOLDOWN)));
+    }
+
+    /** Returns today's review count for a user, warming it from the database on a miss. */
+    private int reviewsToday(Users user, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        DailyCount cached = dailyCounts.get(user.getId());
+        if (cached != null && cached.day().equals(today)) return cached.count();
+
+        Long counted = reviewRepository.countReviewsCreatedTodayByUser(user, today.atStartOfDay());
+        DailyCount warmed = new DailyCount(today, counted != null ? counted.intValue() : 0);
+        return dailyCounts.merge(user.getId(), warmed,
+                (current, fresh) -> current.day().equals(today) ? current : fresh).count();
+    }
+
+    /** Returns a user's last submission for an eatery, warming it from the database on a miss. */
+    private LocalDateTime lastSubmission(Long userId, Long eateryId, LocalDateTime now) {
+        SubmissionKey key = new SubmissionKey(userId, eateryId);
+        LastSubmission cached = lastSubmissions.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) return cached.at();
+
+        LocalDateTime at = reviewRepository.findLastSubmissionDate(eateryId, userId);
+        LastSubmission warmed = at != null && at.plus(COOLDOWN).isAfter(now)
+                ? new LastSubmission(at, at.plus(COOLDOWN))
+                : new LastSubmission(null, now.plus(NONE_TTL));
+        return lastSubmissions.merge(key, warmed,
+                (current, fresh) -> current.expiresAt().isAfter(now) ? current : fresh).at();
+    }
+
+    /** Removes expired entries, at most once per sweep interval. */
+    private void sweepIfDue(LocalDateTime now) {
+        LocalDateTime due = nextSweep.get();
+        if (now.isBefore(due) || !nextSweep.compareAndSet(due, now.plus(SWEEP_INTERVAL))) return;
+
+        LocalDate today = now.toLocalDate();
+        dailyCounts.values().removeIf(count -> count.day().isBefore(today));
+        lastSubmissions.values().removeIf(last -> !last.expiresAt().isAfter(now));
+    }
+}
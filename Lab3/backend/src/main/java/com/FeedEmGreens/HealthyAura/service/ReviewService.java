@@ -2,14 +2,25 @@ package com.FeedEmGreens.HealthyAura.service;
 
 import com.FeedEmGreens.HealthyAura.dto.*;
 import com.FeedEmGreens.HealthyAura.entity.*;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
 import com.FeedEmGreens.HealthyAura.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,6 +33,7 @@ import java.util.stream.Collectors;
  *   <li>Awarding or deducting points via {@link RewardsService}</li>
  *   <li>Administrative review moderation (approve, hide, delete)</li>
  *   <li>Flagging inappropriate reviews for follow-up</li>
+ *   <li>Sorting reviews by helpfulness votes ({@link ReviewVoteService})</li>
  *   <li>Aggregating review statistics for analytics and recommendations</li>
  * </ul>
  *
@@ -57,7 +69,22 @@ public class ReviewService {
     private RewardsService rewardsService;
 
     @Autowired
-    private AdminActionLogRepository adminActionLogRepository;
+    private RatingHistogramService ratingHistogramService;
+
+    @Autowired
+    private ReviewRateLimiter reviewRateLimiter;
+
+    @Autowired
+    private PhotoStorageService photoStorageService;
+
+    @Autowired
+    private ReviewSpamDetector reviewSpamDetector;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    @Autowired
+    private ReviewVoteService reviewVoteService;
 
     /**
      * Creates a new review or updates an existing one for a specific eatery.
@@ -71,7 +98,9 @@ public class ReviewService {
      * </ul>
      * </p>
      *
-     * <p>New reviews earn points, while edited ones do not.</p>
+     * <p>New reviews earn points, while edited ones do not. Text that nearly
+     * duplicates another recent review is flagged for moderation
+     * ({@link ReviewSpamDetector}).</p>
      *
      * @param eateryId the ID of the eatery being reviewed
      * @param request the submitted review details
@@ -98,10 +127,14 @@ public class ReviewService {
 
         Review existingReview = reviewRepository.findByEateryAndUserAndIsDeletedFalse(eatery, user).orElse(null);
         Review review;
+        int oldHealthScore = 0;
+        int oldHygieneScore = 0;
 
         if (existingReview != null) {
             // Edit existing review
             review = existingReview;
+            oldHealthScore = review.getHealthScore();
+            oldHygieneScore = review.getHygieneScore();
             review.setHealthScore(request.getHealthScore());
             review.setHygieneScore(request.getHygieneScore());
             review.setTextFeedback(request.getTextFeedback());
@@ -113,14 +146,7 @@ public class ReviewService {
             review.setUpdatedAt(LocalDateTime.now());
         } else {
             // Validate daily and cooldown limits
-            LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
-            Long reviewsToday = reviewRepository.countReviewsCreatedTodayByUser(user, startOfDay);
-            if (reviewsToday != null && reviewsToday >= 5)
-                throw new IllegalArgumentException("Daily review limit reached. You can only submit 5 reviews per day.");
-
-            LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-            if (!reviewRepository.findRecentSubmissions(eatery, user, sevenDaysAgo).isEmpty())
-                throw new IllegalArgumentException("You must wait 7 days before submitting a new review for this eatery");
+            reviewRateLimiter.checkAllowed(user, eatery);
 
             // Create new review
             review = new Review(eatery, user, request.getHealthScore(), request.getHygieneScore());
@@ -140,6 +166,17 @@ public class ReviewService {
         }
 
         Review saved = reviewRepository.save(review);
+        reviewSpamDetector.check(saved);
+        if (existingReview == null) {
+            ratingHistogramService.recordAdded(eateryId, saved.getHealthScore(), saved.getHygieneScore());
+            reviewRateLimiter.recordSubmission(user.getId(), eateryId, saved.getLastSubmissionDate());
+            publishReviewEvent("REVIEW_CREATED", saved, username, null);
+        } else {
+            if (!Boolean.TRUE.equals(saved.getIsHidden()))
+                ratingHistogramService.recordChanged(eateryId, oldHealthScore, oldHygieneScore,
+                        saved.getHealthScore(), saved.getHygieneScore());
+            publishReviewEvent("REVIEW_UPDATED", saved, username, null);
+        }
         return convertToResponse(saved, true);
     }
 
@@ -149,30 +186,185 @@ public class ReviewService {
      *   <li><b>RECENT</b> – newest first (default)</li>
      *   <li><b>HEALTH</b> – highest health rating first</li>
      *   <li><b>HYGIENE</b> – highest hygiene rating first</li>
+     *   <li><b>HELPFUL</b> – most helpful first, by the Wilson lower bound of helpful votes</li>
      * </ul>
      *
      * @param eateryId the target eatery’s ID
      * @param sortBy sorting option
      * @return a list of {@link ReviewResponse} DTOs
      */
+    @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsForEatery(Long eateryId, String sortBy) {
+        if (!eateryRepository.existsById(eateryId)) {
+            throw new IllegalArgumentException("Eatery not found: " + eateryId);
+        }
+
+        Sort sort = switch (sortBy != null ? sortBy.toUpperCase() : "RECENT") {
+            case "HEALTH" -> Sort.by(Sort.Direction.DESC, "healthScore", "createdAt");
+            case "HYGIENE" -> Sort.by(Sort.Direction.DESC, "hygieneScore", "createdAt");
+            case "HELPFUL" -> Sort.by(Sort.Direction.DESC, "helpfulScore", "createdAt");
+            default -> Sort.by(Sort.Direction.DESC, "createdAt");
+        };
+
+        List<ReviewResponse> reviews = reviewRepository.findVisibleResponsesByEateryId(eateryId, sort);
+        markOwnReviews(reviews);
+        attachPhotos(reviews);
+        reviewVoteService.applyPending(reviews);
+        return reviews;
+    }
+
+    /** Largest page size accepted by {@link #getReviewFeed}. */
+    private static final int MAX_FEED_SIZE = 50;
+
+    /**
+     * Retrieves one page of visible reviews for an eatery using keyset pagination.
+     *
+     * <p>Supports the same sort modes as {@link #getReviewsForEatery}. Instead of an
+     * offset, each page continues from a cursor holding the last review's sort key
+     * and ID, so the query seeks straight to it on the matching composite index of
+     * {@code reviews} and every page costs the same as the first. Ties on the sort
+     * key are broken by ID, newest first.</p>
+     *
+     * @param eateryId the target eatery’s ID
+     * @param sortBy   sorting option: RECENT (default), HEALTH, HYGIENE, or HELPFUL
+     * @param cursor   the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size     the page size (capped at {@value #MAX_FEED_SIZE})
+     * @return a {@link CursorPage} of {@link ReviewResponse} DTOs
+     * @throws IllegalArgumentException if the eatery does not exist or the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewResponse> getReviewFeed(Long eateryId, String sortBy, String cursor, int size) {
+        if (!eateryRepository.existsById(eateryId)) {
+            throw new IllegalArgumentException("Eatery not found: " + eateryId);
+        }
+        String mode = sortBy != null ? sortBy.toUpperCase() : "RECENT";
+        if (!mode.equals("HEALTH") && !mode.equals("HYGIENE") && !mode.equals("HELPFUL")) mode = "RECENT";
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        // Fetch one extra row to learn whether another page follows.
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String[] after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor, mode);
+
+        List<ReviewResponse> reviews;
+        try {
+            reviews = switch (mode) {
+                case "HEALTH" -> after == null ? reviewRepository.findFeedByHealth(eateryId, limit)
+                        : reviewRepository.findFeedByHealthAfter(eateryId, Integer.valueOf(after[1]), Long.valueOf(after[2]), limit);
+                case "HYGIENE" -> after == null ? reviewRepository.findFeedByHygiene(eateryId, limit)
+                        : reviewRepository.findFeedByHygieneAfter(eateryId, Integer.valueOf(after[1]), Long.valueOf(after[2]), limit);
+                case "HELPFUL" -> after == null ? reviewRepository.findFeedByHelpful(eateryId, limit)
+                        : reviewRepository.findFeedByHelpfulAfter(eateryId, Double.valueOf(after[1]), Long.valueOf(after[2]), limit);
+                default -> after == null ? reviewRepository.findFeedByRecent(eateryId, limit)
+                        : reviewRepository.findFeedByRecentAfter(eateryId, LocalDateTime.parse(after[1]), Long.valueOf(after[2]), limit);
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        boolean hasMore = reviews.size() > pageSize;
+        if (hasMore) reviews = reviews.subList(0, pageSize);
+        markOwnReviews(reviews);
+        attachPhotos(reviews);
+
+        String nextCursor = hasMore ? encodeCursor(mode, reviews.get(reviews.size() - 1)) : null;
+        reviewVoteService.applyPending(reviews);
+        return new CursorPage<>(reviews, pageSize, nextCursor);
+    }
+
+    /**
+     * Retrieves one page of the current user's review history, newest first.
+     *
+     * <p>Includes the user's hidden reviews, marked as such, but not deleted ones.
+     * Pages are keyset-paginated on creation time and ID like the eatery feed.
+     * Each entry carries the reviewed eatery's name and current aggregate ratings;
+     * photos and ratings for the whole page are loaded with one batched query each,
+     * so a page costs the same number of statements whatever its size.</p>
+     *
+     * @param cursor the {@code nextCursor} of the previous page, or {@code null} for the first page
+     * @param size   the page size (capped at {@value #MAX_FEED_SIZE})
+     * @return a {@link CursorPage} of {@link ReviewHistoryEntry} DTOs
+     * @throws IllegalArgumentException if the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewHistoryEntry> getMyReviews(String cursor, int size) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        Users user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String[] after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor, "HISTORY");
+        List<ReviewHistoryEntry> reviews;
+        try {
+            reviews = after == null ? reviewRepository.findHistoryByUser(user.getId(), limit)
+                    : reviewRepository.findHistoryByUserAfter(user.getId(), LocalDateTime.parse(after[1]),
+                    Long.valueOf(after[2]), limit);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        boolean hasMore = reviews.size() > pageSize;
+        if (hasMore) reviews = reviews.subList(0, pageSize);
+        attachPhotos(reviews);
+        reviewVoteService.applyPending(reviews);
+
+        Map<Long, AggregatedRatingsResponse> ratings =
+                getAggregatedRatings(reviews.stream().map(ReviewResponse::getEateryId).collect(Collectors.toSet()));
+        reviews.forEach(r -> {
+            r.setIsOwnReview(true);
+            r.setEateryRatings(ratings.get(r.getEateryId()));
+        });
+
+        String nextCursor = hasMore ? encodeCursor("HISTORY", reviews.get(reviews.size() - 1)) : null;
+        return new CursorPage<>(reviews, pageSize, nextCursor);
+    }
+
+    /** Flags the reviews written by the current user. */
+    private void markOwnReviews(List<ReviewResponse> reviews) {
         String username = SecurityContextHolder.getContext().getAuthentication() != null ?
                 SecurityContextHolder.getContext().getAuthentication().getName() : null;
-        Users currentUser = username != null ? userRepository.findByUsername(username).orElse(null) : null;
+        if (username == null) return;
+        reviews.forEach(r -> r.setIsOwnReview(username.equals(r.getAuthorAlias())));
+    }
 
-        Eatery eatery = eateryRepository.findById(eateryId)
-                .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + eateryId));
+    /**
+     * Fills in the photos of listed reviews with a single query, rather than
+     * initializing each review's photo collection separately.
+     */
+    private void attachPhotos(List<? extends ReviewResponse> reviews) {
+        if (reviews.isEmpty()) return;
 
-        List<Review> reviews;
-        switch (sortBy != null ? sortBy.toUpperCase() : "RECENT") {
-            case "HEALTH" -> reviews = reviewRepository.findByEateryOrderByHealthScoreDesc(eatery);
-            case "HYGIENE" -> reviews = reviewRepository.findByEateryOrderByHygieneScoreDesc(eatery);
-            default -> reviews = reviewRepository.findVisibleByEateryOrderByCreatedAtDesc(eatery);
+        Map<Long, ReviewResponse> byId = new HashMap<>();
+        reviews.forEach(r -> byId.put(r.getId(), r));
+        for (Object[] row : reviewRepository.findPhotoUrlsByReviewIds(byId.keySet())) {
+            byId.get((Long) row[0]).getPhotos().add(photoStorageService.variantsOf((String) row[1]));
         }
+    }
 
-        return reviews.stream()
-                .map(r -> convertToResponse(r, currentUser != null && r.getUser().getId().equals(currentUser.getId())))
-                .collect(Collectors.toList());
+    /** Encodes the sort mode, sort key, and ID of a review as an opaque cursor. */
+    private static String encodeCursor(String mode, ReviewResponse last) {
+        String key = switch (mode) {
+            case "HEALTH" -> String.valueOf(last.getHealthScore());
+            case "HYGIENE" -> String.valueOf(last.getHygieneScore());
+            case "HELPFUL" -> String.valueOf(last.getHelpfulScore());
+            default -> last.getCreatedAt().toString();
+        };
+        String raw = mode + "|" + key + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor into {@code [mode, sortKey, id]}, rejecting cursors from another sort mode. */
+    private static String[] decodeCursor(String cursor, String mode) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (parts.length != 3 || !parts[0].equals(mode)) {
+            throw new IllegalArgumentException("Invalid cursor for sort mode " + mode);
+        }
+        return parts;
     }
 
     // ===== ADMIN MODERATION OPERATIONS =====
@@ -202,8 +394,8 @@ public class ReviewService {
             reviewFlagRepository.save(flag);
         }
 
-        logAdminAction(admin, "REVIEW_APPROVE", "REVIEW", review.getId(), review.getEatery().getId(),
-                notes != null ? notes : "Approved review and dismissed flag");
+        publishReviewEvent("REVIEW_APPROVED", review, admin, notes,
+                "REVIEW_APPROVE", notes != null ? notes : "Approved review and dismissed flag");
     }
 
     /** Hides a review (keeps in DB but invisible to public). */
@@ -219,11 +411,14 @@ public class ReviewService {
         if (Boolean.TRUE.equals(review.getIsDeleted()))
             throw new IllegalArgumentException("Cannot hide a deleted review");
 
+        boolean wasVisible = !Boolean.TRUE.equals(review.getIsHidden());
         review.setIsHidden(true);
         review.setHiddenAt(LocalDateTime.now());
         review.setHiddenReason(reason);
         review.setModeratedByAdminUsername(admin);
         reviewRepository.save(review);
+        if (wasVisible)
+            ratingHistogramService.recordRemoved(review.getEatery().getId(), review.getHealthScore(), review.getHygieneScore());
 
         deductPointsForReview(review);
 
@@ -237,8 +432,32 @@ public class ReviewService {
             }
         }
 
-        logAdminAction(admin, "REVIEW_HIDE", "REVIEW", review.getId(), review.getEatery().getId(),
-                "Hidden. Reason: " + reason);
+        publishReviewEvent("REVIEW_HIDDEN", review, admin, reason, "REVIEW_HIDE", "Hidden. Reason: " + reason);
+    }
+
+    /** Restores a hidden review to public visibility and re-awards its points. */
+    @Transactional
+    public void unhideReviewByAdmin(Long reviewId) {
+        String admin = SecurityContextHolder.getContext().getAuthentication().getName();
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("Review not found: " + reviewId));
+
+        if (Boolean.TRUE.equals(review.getIsDeleted()))
+            throw new IllegalArgumentException("Cannot unhide a deleted review");
+        if (!Boolean.TRUE.equals(review.getIsHidden()))
+            throw new IllegalArgumentException("Review is not hidden");
+
+        review.setIsHidden(false);
+        review.setHiddenAt(null);
+        review.setHiddenReason(null);
+        review.setModeratedByAdminUsername(admin);
+        reviewRepository.save(review);
+        ratingHistogramService.recordAdded(review.getEatery().getId(), review.getHealthScore(), review.getHygieneScore());
+
+        if (review.getPointsAwarded() != null && review.getPointsAwarded() > 0)
+            rewardsService.addPoints(review.getUser().getUsername(), review.getPointsAwarded());
+
+        publishReviewEvent("REVIEW_UNHIDDEN", review, admin, null, "REVIEW_UNHIDE", "Unhidden");
     }
 
     /** Soft-deletes a review (user data remains for analytics but is hidden). */
@@ -257,6 +476,8 @@ public class ReviewService {
         review.setIsDeleted(true);
         review.setModeratedByAdminUsername(admin);
         reviewRepository.save(review);
+        if (!Boolean.TRUE.equals(review.getIsHidden()))
+            ratingHistogramService.recordRemoved(review.getEatery().getId(), review.getHealthScore(), review.getHygieneScore());
 
         deductPointsForReview(review);
 
@@ -269,8 +490,7 @@ public class ReviewService {
             }
         }
 
-        logAdminAction(admin, "REVIEW_DELETE", "REVIEW", review.getId(), review.getEatery().getId(),
-                "Deleted. Reason: " + reason);
+        publishReviewEvent("REVIEW_DELETED", review, admin, reason, "REVIEW_DELETE", "Deleted. Reason: " + reason);
     }
 
     // ===== USER REVIEW OPERATIONS =====
@@ -294,6 +514,12 @@ public class ReviewService {
         if (request.getPhotos() != null && request.getPhotos().size() > 3)
             throw new IllegalArgumentException("Maximum 3 photos allowed");
 
+        if ((request.getHealthScore() != null && (request.getHealthScore() < 1 || request.getHealthScore() > 5)) ||
+                (request.getHygieneScore() != null && (request.getHygieneScore() < 1 || request.getHygieneScore() > 5)))
+            throw new IllegalArgumentException("Scores must be between 1 and 5");
+
+        int oldHealthScore = review.getHealthScore();
+        int oldHygieneScore = review.getHygieneScore();
         if (request.getHealthScore() != null)
             review.setHealthScore(request.getHealthScore());
         if (request.getHygieneScore() != null)
@@ -304,7 +530,12 @@ public class ReviewService {
             review.setPhotos(request.getPhotos());
 
         review.setUpdatedAt(LocalDateTime.now());
-        return convertToResponse(reviewRepository.save(review), true);
+        Review saved = reviewRepository.save(review);
+        if (!Boolean.TRUE.equals(saved.getIsHidden()))
+            ratingHistogramService.recordChanged(saved.getEatery().getId(), oldHealthScore, oldHygieneScore,
+                    saved.getHealthScore(), saved.getHygieneScore());
+        publishReviewEvent("REVIEW_UPDATED", saved, username, null);
+        return convertToResponse(saved, true);
     }
 
     /** Soft-deletes a user’s own review. */
@@ -328,7 +559,9 @@ public class ReviewService {
 
         review.setIsDeleted(true);
         reviewRepository.save(review);
+        ratingHistogramService.recordRemoved(review.getEatery().getId(), review.getHealthScore(), review.getHygieneScore());
         deductPointsForReview(review);
+        publishReviewEvent("REVIEW_DELETED", review, username, null);
     }
 
     /** Allows a user to flag an inappropriate review for admin moderation. */
@@ -351,18 +584,46 @@ public class ReviewService {
             throw new IllegalArgumentException("Flag reason is required");
 
         reviewFlagRepository.save(new ReviewFlag(review, user, request.getReason()));
+        publishReviewEvent("REVIEW_FLAGGED", review, username, request.getReason());
     }
 
-    /** Retrieves aggregated review metrics for display on eatery profiles. */
+    /**
+     * Retrieves aggregated review metrics for display on eatery profiles.
+     *
+     * <p>Averages are derived from the eatery's rating histogram rather than
+     * aggregated over its reviews.</p>
+     */
     public AggregatedRatingsResponse getAggregatedRatings(Long eateryId) {
-        Eatery eatery = eateryRepository.findById(eateryId)
-                .orElseThrow(() -> new IllegalArgumentException("Eatery not found: " + eateryId));
+        return toAggregatedRatings(ratingHistogramService.getHistogram(eateryId));
+    }
+
+    /**
+     * Retrieves aggregated review metrics for several eateries from their histograms,
+     * read in one batch.
+     *
+     * @param eateryIds the eatery IDs
+     * @return eatery ID → aggregated ratings
+     */
+    public Map<Long, AggregatedRatingsResponse> getAggregatedRatings(Collection<Long> eateryIds) {
+        Map<Long, AggregatedRatingsResponse> ratings = new HashMap<>();
+        ratingHistogramService.getHistograms(eateryIds)
+                .forEach((eateryId, histogram) -> ratings.put(eateryId, toAggregatedRatings(histogram)));
+        return ratings;
+    }
+
+    /** Derives average scores and the review count from a histogram. */
+    private static AggregatedRatingsResponse toAggregatedRatings(RatingHistogramResponse histogram) {
+        long count = histogram.getTotalReviews();
+        if (count == 0) return new AggregatedRatingsResponse(null, null, 0L);
 
-        Double avgHealth = reviewRepository.getAverageHealthScore(eatery);
-        Double avgHygiene = reviewRepository.getAverageHygieneScore(eatery);
-        Long count = reviewRepository.getReviewCount(eatery);
+        return new AggregatedRatingsResponse(mean(histogram.getHealth(), count), mean(histogram.getHygiene(), count), count);
+    }
 
-        return new AggregatedRatingsResponse(avgHealth, avgHygiene, count);
+    /** Mean score of a score → count distribution with {@code count} entries. */
+    private static double mean(Map<Integer, Long> distribution, long count) {
+        long sum = 0;
+        for (Map.Entry<Integer, Long> bucket : distribution.entrySet()) sum += bucket.getKey() * bucket.getValue();
+        return (double) sum / count;
     }
 
     /** Fetches the logged-in user’s own review for a specific eatery, if present. */
@@ -412,16 +673,41 @@ public class ReviewService {
         response.setHealthScore(review.getHealthScore());
         response.setHygieneScore(review.getHygieneScore());
         response.setTextFeedback(review.getTextFeedback());
-        response.setPhotos(review.getPhotos());
+        response.setPhotos(review.getPhotos().stream().map(photoStorageService::variantsOf).collect(Collectors.toList()));
         response.setCreatedAt(review.getCreatedAt());
         response.setUpdatedAt(review.getUpdatedAt());
+        response.setHelpfulVotes(review.getHelpfulVotes() != null ? review.getHelpfulVotes() : 0);
+        response.setUnhelpfulVotes(review.getUnhelpfulVotes() != null ? review.getUnhelpfulVotes() : 0);
+        response.setHelpfulScore(review.getHelpfulScore() != null ? review.getHelpfulScore() : 0);
         response.setIsOwnReview(isOwnReview);
+        reviewVoteService.applyPending(List.of(response));
         return response;
     }
 
-    /** Logs an administrative action into the audit trail. */
-    private void logAdminAction(String adminUsername, String actionType, String targetType, Long targetId, Long eateryId, String details) {
-        AdminActionLog log = new AdminActionLog(adminUsername, actionType, targetType, targetId, eateryId, details, LocalDateTime.now());
-        adminActionLogRepository.save(log);
+    /** Records a review event in the outbox, in the current transaction. */
+    private void publishReviewEvent(String type, Review review, String actor, String reason) {
+        publishReviewEvent(type, review, actor, reason, null, null);
+    }
+
+    /**
+     * Records a review event in the outbox, in the current transaction. Events of admin
+     * actions carry their audit entry, which
+     * {@link com.FeedEmGreens.HealthyAura.outbox.ReviewAuditLogger} writes once the
+     * action has committed.
+     */
+    private void publishReviewEvent(String type, Review review, String actor, String reason,
+                                    String auditAction, String auditDetails) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eateryId", review.getEatery().getId());
+        payload.put("userId", review.getUser().getId());
+        payload.put("healthScore", review.getHealthScore());
+        payload.put("hygieneScore", review.getHygieneScore());
+        payload.put("actor", actor);
+        if (reason != null) payload.put("reason", reason);
+        if (auditAction != null) {
+            payload.put("auditAction", auditAction);
+            payload.put("auditDetails", auditDetails);
+        }
+        eventOutbox.publish(type, "REVIEW", review.getId(), payload);
     }
 }
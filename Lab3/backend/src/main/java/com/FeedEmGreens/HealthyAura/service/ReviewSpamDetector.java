@@ -0,0 +1,308 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.entity.Review;
+import com.FeedEmGreens.HealthyAura.entity.ReviewFlag;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
+import com.FeedEmGreens.HealthyAura.repository.ReviewFlagRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Detects near-duplicate review text at submission time.
+ *
+ * <p>Each review's {@code textFeedback} is reduced to a 64-bit SimHash over its
+ * words and word pairs, so texts that differ by a few words get fingerprints that
+ * differ in only a few bits. Two reviews are near-duplicates when their
+ * fingerprints are within {@value #MAX_DISTANCE} bits of each other.</p>
+ *
+ * <p>Recent fingerprints are kept in an in-memory LSH index: each fingerprint is
+ * split into {@value #BANDS} bands of 16 bits, and any two fingerprints within
+ * {@value #MAX_DISTANCE} bits must agree on at least one band. A lookup therefore
+ * probes {@value #BANDS} buckets of at most {@value #BUCKET_CAPACITY} entries,
+ * independent of how many reviews are indexed. The index holds at most
+ * {@code reviews.duplicates.max-entries} reviews and drops those older than
+ * {@code reviews.duplicates.max-age-days}, oldest first.</p>
+ *
+ * <p>A new or edited review matching a review by another account, or the same
+ * account's review of another eatery, is flagged for moderation – together with
+ * the review it matched – by the reserved {@value #SYSTEM_USERNAME} account.
+ * Texts shorter than {@code reviews.duplicates.min-tokens} words are ignored,
+ * since short praise ("Great food, very clean") is legitimately repeated.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService#createOrUpdateReview
+ * @see com.FeedEmGreens.HealthyAura.entity.ReviewFlag
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ReviewSpamDetector {
+
+    /** Username of the account that files automatic flags. */
+    public static final String SYSTEM_USERNAME = "system";
+
+    /** Reason stored on automatic near-duplicate flags. */
+    public static final String FLAG_REASON = "duplicate_content";
+
+    /** Maximum number of differing fingerprint bits for two texts to count as near-duplicates. */
+    public static final int MAX_DISTANCE = 3;
+
+    private static final int BANDS = MAX_DISTANCE + 1;
+    private static final int BAND_BITS = 64 / BANDS;
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    /** Maximum entries per bucket; the oldest entry is dropped from a full bucket. */
+    private static final int BUCKET_CAPACITY = 16;
+
+    @Value("${reviews.duplicates.min-tokens:8}")
+    private int minTokens;
+
+    @Value("${reviews.duplicates.max-entries:50000}")
+    private int maxEntries;
+
+    @Value("${reviews.duplicates.max-age-days:14}")
+    private int maxAgeDays;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewFlagRepository reviewFlagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventOutbox eventOutbox;
+
+    /** An indexed review. */
+    private record Entry(long reviewId, long userId, long eateryId, long fingerprint, LocalDateTime indexedAt) {}
+
+    /**
+     * An indexed review found to be a near-duplicate.
+     *
+     * @param reviewId the matching review
+     * @param distance the number of differing fingerprint bits
+     */
+    public record Match(long reviewId, int distance) {}
+
+    /** LSH buckets, keyed by band number and band value. Guarded by {@code this}. */
+    private final Map<Long, ArrayDeque<Entry>> buckets = new HashMap<>();
+
+    /** Indexed reviews by ID, oldest first. Guarded by {@code this}. */
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>();
+
+    private volatile Long systemUserId;
+
+    /**
+     * Creates the system account if necessary and indexes recent reviews, so
+     * duplicates of reviews submitted before a restart are still caught.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void warm() {
+        Users system = userRepository.findByUsername(SYSTEM_USERNAME).orElseGet(() -> {
+            Users created = new Users(SYSTEM_USERNAME, "system@healthyaura.local", "!");
+            created.setRole("SYSTEM");
+            return userRepository.save(created);
+        });
+        if ("SYSTEM".equals(system.getRole())) {
+            systemUserId = system.getId();
+        } else {
+            System.err.println("User '" + SYSTEM_USERNAME + "' is not a system account; near-duplicate reviews will not be flagged");
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusDays(maxAgeDays);
+        List<Object[]> rows = reviewRepository.findRecentTexts(since, PageRequest.of(0, maxEntries));
+        // Rows are newest first; index oldest first so eviction order matches age.
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            Object[] row = rows.get(i);
+            OptionalLong fingerprint = fingerprint((String) row[3]);
+            if (fingerprint.isEmpty()) continue;
+            add(new Entry((Long) row[0], (Long) row[1], (Long) row[2], fingerprint.getAsLong(), (LocalDateTime) row[4]));
+        }
+    }
+
+    /**
+     * Checks a newly saved or edited review against the index.
+     *
+     * <p>On a match, the review and the review it duplicates are flagged in the
+     * current transaction. The review is indexed once the transaction commits.</p>
+     *
+     * @param review the saved review
+     * @return the closest near-duplicate, if any
+     */
+    @Transactional
+    public Optional<Match> check(Review review) {
+        OptionalLong fingerprint = fingerprint(review.getTextFeedback());
+        if (fingerprint.isEmpty()) return Optional.empty();
+
+        LocalDateTime now = LocalDateTime.now();
+        Entry entry = new Entry(review.getId(), review.getUser().getId(), review.getEatery().getId(),
+                fingerprint.getAsLong(), now);
+        Optional<Match> match = findMatch(entry, now);
+        match.ifPresent(m -> flag(review, m));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(entry);
+                }
+            });
+        } else {
+            add(entry);
+        }
+        return match;
+    }
+
+    /** @return the number of reviews currently indexed */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Finds the closest indexed near-duplicate by another account or for another eatery. */
+    private synchronized Optional<Match> findMatch(Entry probe, LocalDateTime now) {
+        LocalDateTime oldest = now.minusDays(maxAgeDays);
+        Match best = null;
+        for (int band = 0; band < BANDS; band++) {
+            ArrayDeque<Entry> bucket = buckets.get(bandKey(band, probe.fingerprint()));
+            if (bucket == null) continue;
+            for (Entry candidate : bucket) {
+                if (candidate.reviewId() == probe.reviewId() || candidate.indexedAt().isBefore(oldest)) continue;
+                if (candidate.userId() == probe.userId() && candidate.eateryId() == probe.eateryId()) continue;
+                int distance = Long.bitCount(candidate.fingerprint() ^ probe.fingerprint());
+                if (distance <= MAX_DISTANCE && (best == null || distance < best.distance())) {
+                    best = new Match(candidate.reviewId(), distance);
+                }
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /** Indexes a review, replacing its previous entry, then evicts the oldest entries over the limits. */
+    private synchronized void add(Entry entry) {
+        Entry previous = entries.remove(entry.reviewId());
+        if (previous != null) unlink(previous);
+
+        entries.put(entry.reviewId(), entry);
+        for (int band = 0; band < BANDS; band++) {
+            ArrayDeque<Entry> bucket = buckets.computeIfAbsent(bandKey(band, entry.fingerprint()), k -> new ArrayDeque<>());
+            bucket.addLast(entry);
+            if (bucket.size() > BUCKET_CAPACITY) bucket.removeFirst();
+        }
+
+        LocalDateTime oldest = LocalDateTime.now().minusDays(maxAgeDays);
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry head = it.next();
+            if (entries.size() <= maxEntries && !head.indexedAt().isBefore(oldest)) break;
+            it.remove();
+            unlink(head);
+        }
+    }
+
+    /** Removes an entry from its buckets. */
+    private void unlink(Entry entry) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(band, entry.fingerprint());
+            ArrayDeque<Entry> bucket = buckets.get(key);
+            if (bucket == null) continue;
+            bucket.remove(entry);
+            if (bucket.isEmpty()) buckets.remove(key);
+        }
+    }
+
+    /** Flags both reviews of a match, unless the system has already flagged them. */
+    private void flag(Review review, Match match) {
+        Long systemId = systemUserId;
+        if (systemId == null) return;
+        Users system = userRepository.getReferenceById(systemId);
+
+        if (!reviewFlagRepository.existsByReviewIdAndUserId(review.getId(), systemId)) {
+            saveFlag(review, system, "Near-duplicate of review #" + match.reviewId()
+                    + " (" + match.distance() + " differing fingerprint bits)");
+        }
+        if (!reviewFlagRepository.existsByReviewIdAndUserId(match.reviewId(), systemId)) {
+            reviewRepository.findById(match.reviewId())
+                    .filter(other -> !Boolean.TRUE.equals(other.getIsDeleted()))
+                    .ifPresent(other -> saveFlag(other, system, "Near-duplicate of review #" + review.getId()
+                            + " (" + match.distance() + " differing fingerprint bits)"));
+        }
+    }
+
+    private void saveFlag(Review review, Users system, String notes) {
+        ReviewFlag flag = new ReviewFlag(review, system, FLAG_REASON);
+        flag.setAdminNotes(notes);
+        reviewFlagRepository.save(flag);
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eateryId", review.getEatery().getId());
+        payload.put("userId", review.getUser().getId());
+        payload.put("actor", SYSTEM_USERNAME);
+        payload.put("reason", FLAG_REASON);
+        eventOutbox.publish("REVIEW_FLAGGED", "REVIEW", review.getId(), payload);
+    }
+
+    /**
+     * Computes the SimHash of a text over its lowercase words and adjacent word pairs.
+     *
+     * @return the fingerprint, or empty if the text has fewer than {@code minTokens} words
+     */
+    private OptionalLong fingerprint(String text) {
+        if (text == null || text.isBlank()) return OptionalLong.empty();
+        String[] tokens = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(t -> !t.isEmpty())
+                .toArray(String[]::new);
+        if (tokens.length < minTokens) return OptionalLong.empty();
+
+        int[] weights = new int[64];
+        for (int i = 0; i < tokens.length; i++) {
+            accumulate(weights, hash(tokens[i]));
+            if (i + 1 < tokens.length) accumulate(weights, hash(tokens[i] + ' ' + tokens[i + 1]));
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) fingerprint |= 1L << bit;
+        }
+        return OptionalLong.of(fingerprint);
+    }
+
+    private static void accumulate(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1) != 0 ? 1 : -1;
+        }
+    }
+
+    /** 64-bit FNV-1a, finished with the MurmurHash3 mixer so every bit depends on every character. */
+    private static long hash(String feature) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            h ^= feature.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long bandKey(int band, long fingerprint) {
+        return ((long) band << BAND_BITS) | ((fingerprint >>> (band * BAND_BITS)) & BAND_MASK);
+    }
+}
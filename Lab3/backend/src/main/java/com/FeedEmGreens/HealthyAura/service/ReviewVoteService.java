@@ -0,0 +1,368 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.ReviewResponse;
+import com.FeedEmGreens.HealthyAura.entity.Review;
+import com.FeedEmGreens.HealthyAura.entity.ReviewVote;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepository;
+import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Service counting "helpful" and "not helpful" votes on reviews.
+ *
+ * <p>Popular reviews can receive many votes at once, and updating the review row
+ * for each one would serialize every voter on that row's lock. Instead, a vote is
+ * accepted in memory:
+ * <ol>
+ *   <li>the voter's set of voted reviews (loaded from <b>review_votes</b> on their
+ *       first vote) rejects repeated votes; only the sets of the
+ *       {@code reviews.votes.max-tracked-users} most recent voters are kept</li>
+ *   <li>the review's pending tally – a pair of {@link LongAdder}s – is incremented
+ *       without taking any lock, so concurrent votes on one review do not wait for
+ *       each other; a vote that lands on a tally being discarded by a flush is
+ *       moved to the review's next tally instead of being dropped</li>
+ *   <li>the vote is queued for the next flush</li>
+ * </ol>
+ * Every {@code reviews.votes.flush-interval-ms}, a background thread writes the
+ * queued votes in batches of {@code reviews.votes.batch-size}, in one transaction
+ * per batch: the votes are inserted, each affected review's counts are incremented
+ * once, and its helpfulness score is recomputed. Counts returned to clients add the
+ * pending tallies, so a vote is visible immediately; the score, and therefore the
+ * "most helpful" sort, follows within one flush interval.</p>
+ *
+ * <p>The helpfulness score is the lower bound of the 95% Wilson score interval of
+ * the helpful ratio, which ranks 40 of 50 above 4 of 5 and 1 of 1.</p>
+ *
+ * <p>The unique constraint on <b>review_votes</b> is the authoritative guard against
+ * duplicates: each batch is filtered against stored votes before insertion, so votes
+ * accepted twice (e.g. after a voter's set was evicted) are dropped at flush time.
+ * Votes still queued when the process is killed are lost; a graceful shutdown
+ * flushes them.</p>
+ *
+ * <p>A batch failing because the database is unreachable, or with a transient error
+ * such as a lock timeout, is re-queued and retried on the next flush. A batch the
+ * database rejects outright is split in halves, each written separately, down to the
+ * single votes at fault, which are dropped; the rest of the batch is written.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.ReviewVote
+ * @see com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepositoryCustom
+ * @see com.FeedEmGreens.HealthyAura.service.ReviewService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ReviewVoteService {
+
+    /** z-score of the 95% confidence level used by {@link #wilsonLowerBound}. */
+    private static final double Z = 1.96;
+
+    @Autowired
+    private ReviewVoteRepository reviewVoteRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Interval between flushes of queued votes. */
+    @Value("${reviews.votes.flush-interval-ms:2000}")
+    private long flushIntervalMs;
+
+    /** Maximum number of votes written per transaction. */
+    @Value("${reviews.votes.batch-size:500}")
+    private int batchSize;
+
+    /** Number of voters whose voted reviews are kept in memory; the least recently active are evicted. */
+    @Value("${reviews.votes.max-tracked-users:10000}")
+    private int maxTrackedUsers;
+
+    /** Votes not yet flushed, per review. */
+    private final Map<Long, Tally> pending = new ConcurrentHashMap<>();
+
+    /** Votes waiting for the next flush, in arrival order. */
+    private final Queue<PendingVote> queue = new ConcurrentLinkedQueue<>();
+
+    /** Reviews each voter has voted on, including queued votes; least recently active voter first. */
+    private final Map<Long, Set<Long>> votedByUser = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Set<Long>> eldest) {
+            return size() > maxTrackedUsers;
+        }
+    });
+
+    private TransactionTemplate writeTransaction;
+    private Thread worker;
+    private volatile boolean running;
+
+    /** Pending votes of one review. */
+    private static final class Tally {
+        final LongAdder helpful = new LongAdder();
+        final LongAdder unhelpful = new LongAdder();
+
+        /** Set by the flush thread while it discards the tally; votes seeing it move on. */
+        volatile boolean retired;
+
+        void add(boolean isHelpful, long delta) {
+            (isHelpful ? helpful : unhelpful).add(delta);
+        }
+
+        boolean isZero() {
+            return helpful.sum() == 0 && unhelpful.sum() == 0;
+        }
+    }
+
+    /** A queued vote, with the tally it was counted in. */
+    private record PendingVote(Long reviewId, Long userId, boolean helpful, LocalDateTime createdAt, Tally tally) {}
+
+    /** Starts the background flush thread. */
+    @PostConstruct
+    public void start() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        running = true;
+        worker = new Thread(this::run, "review-vote-flusher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the background thread and flushes every queued vote.
+     *
+     * @throws InterruptedException if interrupted while waiting for the flush thread
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+        flushAll();
+    }
+
+    /**
+     * Records the current user's vote on a review.
+     *
+     * @param eateryId the eatery the review belongs to
+     * @param reviewId the review
+     * @param helpful  {@code true} for "helpful", {@code false} for "not helpful"
+     * @throws IllegalArgumentException if the review is not visible on that eatery, is the
+     *                                  user's own, or was already voted on by the user
+     */
+    public void vote(Long eateryId, Long reviewId, boolean helpful) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        Users user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        Review review = reviewRepository.findById(reviewId)
+                .filter(r -> !r.getIsDeleted() && !r.getIsHidden() && r.getEatery().getId().equals(eateryId))
+                .orElseThrow(() -> new IllegalArgumentException("Review not found: " + reviewId));
+        if (review.getUser().getId().equals(user.getId())) {
+            throw new IllegalArgumentException("You cannot vote on your own review");
+        }
+
+        if (!votedReviews(user.getId()).add(reviewId)) {
+            throw new IllegalArgumentException("You have already voted on this review");
+        }
+        Tally tally;
+        while (true) {
+            tally = pending.computeIfAbsent(reviewId, id -> new Tally());
+            tally.add(helpful, 1);
+            if (!tally.retired) break;
+            // Being discarded by a flush: take the vote back and count it in the next tally.
+            tally.add(helpful, -1);
+            Thread.onSpinWait();
+        }
+        queue.add(new PendingVote(reviewId, user.getId(), helpful, LocalDateTime.now(), tally));
+    }
+
+    /**
+     * Adds votes not yet flushed to the counts of listed reviews.
+     *
+     * @param reviews the reviews, with their stored counts
+     */
+    public void applyPending(List<? extends ReviewResponse> reviews) {
+        for (ReviewResponse review : reviews) {
+            Tally tally = pending.get(review.getId());
+            if (tally == null) continue;
+            review.setHelpfulVotes(review.getHelpfulVotes() + (int) tally.helpful.sum());
+            review.setUnhelpfulVotes(review.getUnhelpfulVotes() + (int) tally.unhelpful.sum());
+        }
+    }
+
+    /**
+     * Computes the lower bound of the 95% Wilson score interval for a ratio of
+     * positive votes.
+     *
+     * @param positive the number of positive votes
+     * @param total    the number of votes
+     * @return the lower bound, between 0 and 1; 0 when there are no votes
+     */
+    public static double wilsonLowerBound(long positive, long total) {
+        if (total <= 0) return 0;
+        double p = (double) positive / total;
+        double z2 = Z * Z;
+        double centre = p + z2 / (2 * total);
+        double margin = Z * Math.sqrt((p * (1 - p) + z2 / (4 * total)) / total);
+        return Math.max(0, (centre - margin) / (1 + z2 / total));
+    }
+
+    /** Returns the live set of reviews a user has voted on, loading it on first use. */
+    private Set<Long> votedReviews(Long userId) {
+        Set<Long> voted = votedByUser.get(userId);
+        if (voted != null) return voted;
+
+        Set<Long> loaded = ConcurrentHashMap.newKeySet();
+        loaded.addAll(reviewVoteRepository.findReviewIdsByUserId(userId));
+        voted = votedByUser.putIfAbsent(userId, loaded);
+        return voted != null ? voted : loaded;
+    }
+
+    /** Background loop: flushes queued votes every interval. */
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(flushIntervalMs);
+                flushAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("Review vote flush failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Flushes queued votes batch by batch until the queue is empty or a batch fails
+     * with a retryable error. Package-private for tests.
+     */
+    void flushAll() {
+        while (true) {
+            List<PendingVote> batch = new ArrayList<>(batchSize);
+            PendingVote vote;
+            while (batch.size() < batchSize && (vote = queue.poll()) != null) batch.add(vote);
+            if (batch.isEmpty()) break;
+            if (!write(batch)) return;
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction. If the database rejects it, writes each half
+     * separately, so that only the votes at fault are dropped.
+     *
+     * @return {@code false} if a retryable error occurred; the votes not yet written
+     *         are then re-queued, with their pending counts kept
+     */
+    private boolean write(List<PendingVote> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> persist(batch));
+        } catch (RuntimeException e) {
+            if (isRetryable(e)) {
+                queue.addAll(batch);
+                System.err.println("Failed to flush " + batch.size() + " review votes, will retry: " + e.getMessage());
+                return false;
+            }
+            if (batch.size() > 1) {
+                int half = batch.size() / 2;
+                List<PendingVote> rest = batch.subList(half, batch.size());
+                if (!write(batch.subList(0, half))) {
+                    queue.addAll(rest);
+                    return false;
+                }
+                return write(rest);
+            }
+            PendingVote vote = batch.get(0);
+            System.err.println("Dropping vote of user " + vote.userId() + " on review " + vote.reviewId()
+                    + ": " + e.getMessage());
+        }
+        release(batch);
+        return true;
+    }
+
+    /** Whether a flush failure may succeed on a later attempt (database unavailable, lock conflict, timeout). */
+    private static boolean isRetryable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof NonTransientDataAccessResourceException
+                || e instanceof TransactionException;
+    }
+
+    /** Inserts a batch of votes, then updates each affected review's counts and score once. */
+    private void persist(List<PendingVote> batch) {
+        Set<Long> reviewIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (PendingVote vote : batch) {
+            reviewIds.add(vote.reviewId());
+            userIds.add(vote.userId());
+        }
+        Set<List<Long>> stored = new HashSet<>();
+        for (Object[] row : reviewVoteRepository.findExisting(reviewIds, userIds)) {
+            stored.add(List.of((Long) row[0], (Long) row[1]));
+        }
+
+        List<ReviewVote> votes = new ArrayList<>();
+        // Sorted, so concurrent flushes lock review rows in the same order.
+        Map<Long, int[]> deltas = new TreeMap<>();
+        for (PendingVote vote : batch) {
+            if (!stored.add(List.of(vote.reviewId(), vote.userId()))) continue;
+            votes.add(new ReviewVote(vote.reviewId(), vote.userId(), vote.helpful(), vote.createdAt()));
+            deltas.computeIfAbsent(vote.reviewId(), id -> new int[2])[vote.helpful() ? 0 : 1]++;
+        }
+        if (votes.isEmpty()) return;
+
+        reviewVoteRepository.batchInsert(votes);
+        reviewVoteRepository.addVoteCounts(deltas);
+
+        Map<Long, Double> scores = new TreeMap<>();
+        for (Object[] row : reviewRepository.findVoteCounts(deltas.keySet())) {
+            int helpful = (Integer) row[1];
+            int unhelpful = (Integer) row[2];
+            scores.put((Long) row[0], wilsonLowerBound(helpful, (long) helpful + unhelpful));
+        }
+        reviewVoteRepository.updateHelpfulScores(scores);
+    }
+
+    /**
+     * Removes flushed (or dropped) votes from the pending tallies, discarding empty tallies.
+     *
+     * <p>An empty tally is retired before it is checked again and removed: a vote
+     * incremented before the retirement makes the second check fail, and one
+     * incremented after it sees the flag in {@link #vote} and retries. Only the
+     * flush thread retires tallies.</p>
+     */
+    private void release(List<PendingVote> batch) {
+        for (PendingVote vote : batch) vote.tally().add(vote.helpful(), -1);
+        for (PendingVote vote : batch) {
+            Tally tally = vote.tally();
+            if (tally.retired || !tally.isZero()) continue;
+            tally.retired = true;
+            if (tally.isZero()) pending.remove(vote.reviewId(), tally);
+            else tally.retired = false;
+        }
+    }
+}
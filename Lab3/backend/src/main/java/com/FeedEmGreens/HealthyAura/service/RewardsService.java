@@ -12,9 +12,10 @@ import com.FeedEmGreens.HealthyAura.repository.PointsRepository;
 import com.FeedEmGreens.HealthyAura.entity.Reward;
 import com.FeedEmGreens.HealthyAura.repository.RewardRepository;
 import com.FeedEmGreens.HealthyAura.dto.RewardResponse;
+import com.FeedEmGreens.HealthyAura.outbox.EventOutbox;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
 
 /**
  * Service layer responsible for handling all reward- and points-related business logic
@@ -51,6 +52,7 @@ public class RewardsService {
     private final PointsRepository pointsRepository;
     private final UserRepository userRepository;
     private final RewardRepository rewardRepository;
+    private final EventOutbox eventOutbox;
 
     /**
      * Constructs a new {@link RewardsService} with required dependencies.
@@ -58,13 +60,16 @@ public class RewardsService {
      * @param pointsRepository repository for managing user points
      * @param userRepository repository for accessing user entities
      * @param rewardRepository repository for managing available rewards
+     * @param eventOutbox outbox recording points events
      */
     public RewardsService(PointsRepository pointsRepository,
                           UserRepository userRepository,
-                          RewardRepository rewardRepository) {
+                          RewardRepository rewardRepository,
+                          EventOutbox eventOutbox) {
         this.pointsRepository = pointsRepository;
         this.userRepository = userRepository;
         this.rewardRepository = rewardRepository;
+        this.eventOutbox = eventOutbox;
     }
 
     // =====================================================================
@@ -106,11 +111,14 @@ public class RewardsService {
      * @param pointsToAdd number of points to add
      * @return the updated {@link Points} entity
      */
+    @Transactional
     public Points addPoints(String username, int pointsToAdd) {
         Points points = getUserPoints(username);
         points.setTotalPoints(points.getTotalPoints() + pointsToAdd);
         points.setLastUpdated(LocalDateTime.now());
-        return pointsRepository.save(points);
+        Points saved = pointsRepository.save(points);
+        publishPointsEvent("POINTS_AWARDED", saved.getUser(), pointsToAdd, saved.getTotalPoints());
+        return saved;
     }
 
     /**
@@ -123,6 +131,7 @@ public class RewardsService {
      * @return the updated {@link Points} entity
      * @throws RuntimeException if insufficient points are available
      */
+    @Transactional
     public Points redeemPoints(String username, int pointsToRedeem) {
         Points points = getUserPoints(username);
 
@@ -133,7 +142,9 @@ public class RewardsService {
         points.setTotalPoints(points.getTotalPoints() - pointsToRedeem);
         points.setRedeemedPoints(points.getRedeemedPoints() + pointsToRedeem);
         points.setLastUpdated(LocalDateTime.now());
-        return pointsRepository.save(points);
+        Points saved = pointsRepository.save(points);
+        publishPointsEvent("POINTS_REDEEMED", saved.getUser(), pointsToRedeem, saved.getTotalPoints());
+        return saved;
     }
 
     /**
@@ -149,11 +160,65 @@ public class RewardsService {
      * @param pointsToDeduct number of points to remove
      * @return the updated {@link Points} entity (may contain negative balance)
      */
+    @Transactional
     public Points deductPoints(String username, int pointsToDeduct) {
         Points points = getUserPointsInternal(username);
         points.setTotalPoints(points.getTotalPoints() - pointsToDeduct);
         points.setLastUpdated(LocalDateTime.now());
-        return pointsRepository.save(points);
+        Points saved = pointsRepository.save(points);
+        publishPointsEvent("POINTS_DEDUCTED", saved.getUser(), pointsToDeduct, saved.getTotalPoints());
+        return saved;
+    }
+
+    /**
+     * Deducts points from several user accounts, one statement per user.
+     *
+     * <p>Used by bulk moderation: deductions are summed per user beforehand, and
+     * each existing record is updated in place without being loaded. Users without
+     * a record get one created with the (negative) balance.</p>
+     *
+     * @param pointsByUserId points to remove, keyed by user ID
+     */
+    @Transactional
+    public void deductPoints(Map<Long, Integer> pointsByUserId) {
+        if (pointsByUserId.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> existing = new HashSet<>(pointsRepository.findUserIdsWithPoints(pointsByUserId.keySet()));
+        for (Map.Entry<Long, Integer> entry : pointsByUserId.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                pointsRepository.deductByUserId(entry.getKey(), entry.getValue(), now);
+            }
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("userId", entry.getKey());
+            payload.put("points", entry.getValue());
+            eventOutbox.publish("POINTS_DEDUCTED", "USER", entry.getKey(), payload);
+        }
+
+        Set<Long> missing = new HashSet<>(pointsByUserId.keySet());
+        missing.removeAll(existing);
+        if (missing.isEmpty()) return;
+
+        List<Points> created = new ArrayList<>();
+        for (Users user : userRepository.findAllById(missing)) {
+            Points points = new Points();
+            points.setUser(user);
+            points.setTotalPoints(-pointsByUserId.get(user.getId()));
+            points.setRedeemedPoints(0);
+            points.setLastUpdated(now);
+            created.add(points);
+        }
+        pointsRepository.saveAll(created);
+    }
+
+    /** Records a points event in the outbox, in the current transaction. */
+    private void publishPointsEvent(String type, Users user, int points, int balance) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("userId", user.getId());
+        payload.put("username", user.getUsername());
+        payload.put("points", points);
+        payload.put("balance", balance);
+        eventOutbox.publish(type, "USER", user.getId(), payload);
     }
 
     /**
@@ -0,0 +1,124 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.SyncJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mutable, thread-safe progress record of one eatery sync job.
+ *
+ * <p>Updated by the background thread running the sync and read by request
+ * threads polling the job; {@link #toStatus()} takes a consistent-enough snapshot
+ * for display.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.service.EaterySyncService
+ * @see com.FeedEmGreens.HealthyAura.dto.SyncJobStatus
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SyncJob {
+
+    private final String id;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicInteger parsed = new AtomicInteger();
+    private final AtomicInteger inserted = new AtomicInteger();
+    private final AtomicInteger updated = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final Map<String, Integer> parsedBySource = new ConcurrentHashMap<>();
+    private final Map<String, String> failedSources = new ConcurrentHashMap<>();
+    private volatile String status = "FETCHING";
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    /**
+     * Creates a job in the FETCHING state.
+     *
+     * @param id the job identifier
+     */
+    public SyncJob(String id) {
+        this.id = id;
+    }
+
+    /** @return the job identifier */
+    public String getId() { return id; }
+
+    /** @return {@code true} once the job has completed or failed */
+    public boolean isFinished() { return finishedAt != null; }
+
+    /**
+     * Records that a source's dataset was parsed.
+     *
+     * @param source  the source name
+     * @param records the number of records parsed
+     */
+    public void parsed(String source, int records) {
+        parsedBySource.put(source, records);
+        parsed.addAndGet(records);
+    }
+
+    /** Records that records have started reaching the database. */
+    public void saving() {
+        if ("FETCHING".equals(status)) status = "SAVING";
+    }
+
+    /** Records one inserted eatery. */
+    public void inserted() { inserted.incrementAndGet(); }
+
+    /** Records one existing eatery enriched from a matching record. */
+    public void updated() { updated.incrementAndGet(); }
+
+    /** Records one skipped (invalid or duplicate) record. */
+    public void skipped() { skipped.incrementAndGet(); }
+
+    /**
+     * Records that a source failed; the other sources continue.
+     *
+     * @param source the source name
+     * @param reason the failure reason
+     */
+    public void sourceFailed(String source, String reason) {
+        failedSources.put(source, reason);
+    }
+
+    /** @return the number of sources that failed */
+    public int failedSourceCount() { return failedSources.size(); }
+
+    /** Marks the job as completed. */
+    public void complete() {
+        status = "COMPLETED";
+        finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marks the job as failed.
+     *
+     * @param reason the failure reason
+     */
+    public void fail(String reason) {
+        error = reason;
+        status = "FAILED";
+        finishedAt = LocalDateTime.now();
+    }
+
+    /** @return a snapshot of the job's progress */
+    public SyncJobStatus toStatus() {
+        SyncJobStatus dto = new SyncJobStatus();
+        dto.setJobId(id);
+        dto.setStatus(status);
+        dto.setParsed(parsed.get());
+        dto.setInserted(inserted.get());
+        dto.setUpdated(updated.get());
+        dto.setSkipped(skipped.get());
+        dto.setSources(new TreeMap<>(parsedBySource));
+        dto.setFailedSources(new TreeMap<>(failedSources));
+        dto.setStartedAt(startedAt);
+        dto.setFinishedAt(finishedAt);
+        dto.setError(error);
+        return dto;
+    }
+}
@@ -0,0 +1,170 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.entity.CanonicalTag;
+import com.FeedEmGreens.HealthyAura.entity.DietaryTags;
+import com.FeedEmGreens.HealthyAura.repository.CanonicalTagRepository;
+import com.FeedEmGreens.HealthyAura.repository.DietaryTagsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Service that maintains the canonical dietary tag vocabulary.
+ *
+ * <p>Every tag attached to an eatery is resolved through this service to a single
+ * {@link CanonicalTag}: first by its normalized name, then by synonym, and
+ * otherwise by creating a new vocabulary entry. Eatery tags store the canonical
+ * display name and a reference to the entry, so “Vegan”, “vegan ” and “VEGAN” are
+ * the same tag everywhere.</p>
+ *
+ * <p>On startup, tags created before the vocabulary existed are linked to their
+ * canonical entries, renamed to the canonical display name, de-duplicated per
+ * eatery, and the usage counts are recomputed.</p>
+ *
+ * @see com.FeedEmGreens.HealthyAura.entity.CanonicalTag
+ * @see com.FeedEmGreens.HealthyAura.repository.CanonicalTagRepository
+ * @see com.FeedEmGreens.HealthyAura.service.EateryService
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class TagVocabularyService {
+
+    @Autowired
+    private CanonicalTagRepository canonicalTagRepository;
+
+    @Autowired
+    private DietaryTagsRepository dietaryTagsRepository;
+
+    /**
+     * Looks up the canonical entry for a raw tag without creating one.
+     *
+     * @param rawTag the tag as entered
+     * @return the canonical entry, if the tag or one of its synonyms is known
+     */
+    public Optional<CanonicalTag> find(String rawTag) {
+        String key = CanonicalTag.normalize(rawTag);
+        if (key.isEmpty()) return Optional.empty();
+        Optional<CanonicalTag> byName = canonicalTagRepository.findByNormalizedName(key);
+        return byName.isPresent() ? byName : canonicalTagRepository.findBySynonym(key);
+    }
+
+    /**
+     * Resolves a raw tag to its canonical entry, creating a new entry if needed.
+     *
+     * @param rawTag the tag as entered
+     * @return the canonical entry
+     * @throws IllegalArgumentException if the tag is blank
+     */
+    @Transactional
+    public CanonicalTag resolve(String rawTag) {
+        if (CanonicalTag.normalize(rawTag).isEmpty()) {
+            throw new IllegalArgumentException("Tag name cannot be blank");
+        }
+        return find(rawTag).orElseGet(() -> canonicalTagRepository.save(new CanonicalTag(rawTag)));
+    }
+
+    /**
+     * Maps raw tag filters onto canonical display names, so that synonyms and
+     * spelling variants match the stored tags. Unknown tags are passed through.
+     *
+     * @param rawTags the tag filters as entered
+     * @return the canonical names, in input order and without duplicates
+     */
+    public List<String> canonicalNames(Collection<String> rawTags) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String raw : rawTags) {
+            if (raw == null || raw.isBlank()) continue;
+            names.add(find(raw).map(CanonicalTag::getDisplayName).orElse(raw.trim()));
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Adjusts the usage count of a canonical tag.
+     *
+     * @param tag   the canonical tag (ignored if {@code null})
+     * @param delta the amount to add (negative to subtract)
+     */
+    @Transactional
+    public void adjustUsage(CanonicalTag tag, long delta) {
+        if (tag != null) adjustUsage(tag.getId(), delta);
+    }
+
+    /**
+     * Adjusts the usage count of a canonical tag by ID.
+     *
+     * @param tagId the canonical tag ID (ignored if {@code null})
+     * @param delta the amount to add (negative to subtract)
+     */
+    @Transactional
+    public void adjustUsage(Long tagId, long delta) {
+        if (tagId == null || delta == 0) return;
+        canonicalTagRepository.adjustUsageCount(tagId, delta);
+    }
+
+    /**
+     * Returns the whole vocabulary, most used first.
+     *
+     * @return all canonical tags
+     */
+    public List<CanonicalTag> listVocabulary() {
+        return canonicalTagRepository.findAllByOrderByUsageCountDescNormalizedNameAsc();
+    }
+
+    /**
+     * Registers a synonym for a canonical tag.
+     *
+     * @param tagId   the canonical tag ID
+     * @param synonym the alternative spelling
+     * @return the updated canonical tag
+     * @throws IllegalArgumentException if the tag does not exist, the synonym is blank,
+     *                                  or it already resolves to a different tag
+     */
+    @Transactional
+    public CanonicalTag addSynonym(Long tagId, String synonym) {
+        CanonicalTag tag = canonicalTagRepository.findById(tagId)
+                .orElseThrow(() -> new IllegalArgumentException("Tag not found: " + tagId));
+        String key = CanonicalTag.normalize(synonym);
+        if (key.isEmpty()) throw new IllegalArgumentException("Synonym cannot be blank");
+
+        Optional<CanonicalTag> existing = find(key);
+        if (existing.isPresent()) {
+            if (existing.get().getId().equals(tag.getId())) return tag;
+            throw new IllegalArgumentException("'" + synonym.trim() + "' already refers to tag '"
+                    + existing.get().getDisplayName() + "'");
+        }
+
+        tag.getSynonyms().add(key);
+        return canonicalTagRepository.save(tag);
+    }
+
+    /**
+     * Links tags created before the vocabulary existed and recomputes usage counts.
+     *
+     * <p>Each unlinked tag is resolved to its canonical entry and renamed to the
+     * canonical display name; if its eatery already carries that canonical tag,
+     * the duplicate row is removed instead.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void linkUnresolvedTags() {
+        for (DietaryTags tag : dietaryTagsRepository.findByCanonicalTagIsNullAndEateryIsNotNull()) {
+            if (CanonicalTag.normalize(tag.getTag()).isEmpty()) continue;
+            CanonicalTag canonical = resolve(tag.getTag());
+            if (dietaryTagsRepository.existsByEateryAndCanonicalTag(tag.getEatery(), canonical)) {
+                dietaryTagsRepository.delete(tag);
+                continue;
+            }
+            tag.setCanonicalTag(canonical);
+            tag.setTag(canonical.getDisplayName());
+            dietaryTagsRepository.saveAndFlush(tag);
+        }
+        canonicalTagRepository.recomputeUsageCounts();
+    }
+}
@@ -0,0 +1,51 @@
+package com.FeedEmGreens.HealthyAura.ingestion;
+
+import com.FeedEmGreens.HealthyAura.dto.EateryRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileEaterySourceTest {
+
+	private final EaterySource source = new FileEaterySource("hawker-centres",
+			Path.of("src/test/resources/ingestion/hawker-centres.geojson"));
+
+	@Test
+	void parsesEveryFeatureOfTheFixture() {
+		List<EateryRequest> records = source.parse(source.fetch().join());
+
+		assertEquals(4, records.size());
+		EateryRequest first = records.get(0);
+		assertEquals("Lau Pa Sat", first.getName());
+		assertEquals("Lau Pa Sat Festival Market", first.getBuildingName());
+		assertEquals(1.2803, first.getLatitude(), 1e-9);
+		assertEquals(103.8496, first.getLongitude(), 1e-9);
+		assertEquals(Map.of("ADDRESSUNITNUMBER", "01-01"), first.getAttributes());
+		assertTrue(first.getRawDescription().contains("<th>NAME</th>"));
+	}
+
+	@Test
+	void normalizationCleansAndRejectsRecords() {
+		List<EateryRequest> records = source.parse(source.fetch().join());
+
+		assertTrue(EateryNormalizer.normalize(records.get(0)));
+		assertEquals("18 Raffles Quay", records.get(0).getAddress());
+		assertEquals("048582", records.get(0).getPostalCode());
+
+		assertTrue(EateryNormalizer.normalize(records.get(1)));
+		assertEquals("", records.get(1).getBuildingName());
+
+		assertFalse(EateryNormalizer.normalize(records.get(2)), "blank name");
+		assertFalse(EateryNormalizer.normalize(records.get(3)), "outside Singapore");
+	}
+
+	@Test
+	void missingFileFailsTheFetch() {
+		EaterySource missing = new FileEaterySource("missing", Path.of("does-not-exist.geojson"));
+		assertTrue(missing.fetch().isCompletedExceptionally());
+	}
+}
@@ -0,0 +1,182 @@
+package com.FeedEmGreens.HealthyAura.outbox;
+
+import com.FeedEmGreens.HealthyAura.entity.AdminActionLog;
+import com.FeedEmGreens.HealthyAura.entity.OutboxEvent;
+import com.FeedEmGreens.HealthyAura.repository.AdminActionLogRepository;
+import com.FeedEmGreens.HealthyAura.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A database of its own: relays of other cached test contexts would otherwise claim these events.
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:outbox-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"outbox.max-attempts=2"
+})
+class EventOutboxTest {
+
+	@Autowired
+	private EventOutbox eventOutbox;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private AdminActionLogRepository adminActionLogRepository;
+
+	@Autowired
+	private FlakySubscriber subscriber;
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		FlakySubscriber flakySubscriber() {
+			return new FlakySubscriber();
+		}
+	}
+
+	/** Receives TEST_* events and fails the first {@code failures} deliveries. */
+	static class FlakySubscriber implements OutboxSubscriber {
+		final AtomicInteger calls = new AtomicInteger();
+		volatile int failures;
+		volatile OutboxMessage last;
+
+		@Override
+		public boolean accepts(String eventType) {
+			return eventType.startsWith("TEST_");
+		}
+
+		@Override
+		public void handle(OutboxMessage message) {
+			last = message;
+			if (calls.incrementAndGet() <= failures) throw new IllegalStateException("boom");
+		}
+	}
+
+	@BeforeEach
+	void stopRelay() throws InterruptedException {
+		// Batches are relayed by the tests, not by the background thread.
+		eventOutbox.shutdown();
+		subscriber.calls.set(0);
+		subscriber.failures = 0;
+	}
+
+	@AfterEach
+	void restartRelay() {
+		eventOutbox.start();
+	}
+
+	@Test
+	void claimedEventIsDeliveredAndMarkedPublished() {
+		Long id = publish("TEST_DELIVERED", 7L);
+
+		eventOutbox.relayBatch();
+
+		OutboxEvent event = find(id);
+		assertEquals("PUBLISHED", event.getStatus());
+		assertNotNull(event.getPublishedAt());
+		assertEquals(1, subscriber.calls.get());
+		assertEquals(id, subscriber.last.id());
+		assertEquals(7L, subscriber.last.aggregateId());
+		assertEquals(42L, subscriber.last.getLong("value"));
+
+		eventOutbox.relayBatch();
+		assertEquals(1, subscriber.calls.get());
+	}
+
+	@Test
+	void failedDeliveryIsRetriedAfterBackoff() {
+		subscriber.failures = 1;
+		Long id = publish("TEST_RETRIED", 8L);
+
+		LocalDateTime claimedAt = LocalDateTime.now();
+		eventOutbox.relayBatch();
+
+		OutboxEvent event = find(id);
+		assertEquals("PENDING", event.getStatus());
+		assertEquals(1, event.getAttempts());
+		assertTrue(event.getLastError().contains("boom"));
+		assertTrue(event.getNextAttemptAt().isAfter(claimedAt.plusSeconds(1)));
+
+		// Not due again until the backoff has elapsed.
+		eventOutbox.relayBatch();
+		assertEquals(1, subscriber.calls.get());
+
+		makeDue(id);
+		eventOutbox.relayBatch();
+
+		event = find(id);
+		assertEquals("PUBLISHED", event.getStatus());
+		assertEquals(2, subscriber.calls.get());
+	}
+
+	@Test
+	void eventIsGivenUpAfterMaxAttempts() {
+		subscriber.failures = Integer.MAX_VALUE;
+		Long id = publish("TEST_GIVEN_UP", 9L);
+
+		eventOutbox.relayBatch();
+		makeDue(id);
+		eventOutbox.relayBatch();
+
+		OutboxEvent event = find(id);
+		assertEquals("FAILED", event.getStatus());
+		assertEquals(2, event.getAttempts());
+
+		makeDue(id);
+		eventOutbox.relayBatch();
+		assertEquals(2, subscriber.calls.get());
+	}
+
+	@Test
+	void auditEntryIsStoredBeforeEventIsAcknowledged() {
+		eventOutbox.publish("REVIEW_APPROVED", "REVIEW", 11L, Map.of(
+				"actor", "outbox-admin", "eateryId", 3L,
+				"auditAction", "REVIEW_APPROVE", "auditDetails", "Approved"));
+		Long id = outboxEventRepository.findAll().stream()
+				.filter(e -> e.getEventType().equals("REVIEW_APPROVED"))
+				.map(OutboxEvent::getId)
+				.findFirst().orElseThrow();
+
+		eventOutbox.relayBatch();
+
+		assertEquals("PUBLISHED", find(id).getStatus());
+		List<AdminActionLog> logs = adminActionLogRepository.findByAdminUsernameOrderByTimestampDesc("outbox-admin");
+		assertEquals(1, logs.size());
+		assertEquals("REVIEW_APPROVE", logs.get(0).getActionType());
+		assertEquals(11L, logs.get(0).getTargetId());
+		assertEquals(3L, logs.get(0).getEateryId());
+		assertEquals("Approved", logs.get(0).getDetails());
+	}
+
+	private Long publish(String type, Long aggregateId) {
+		eventOutbox.publish(type, "TEST", aggregateId, Map.of("value", 42));
+		return outboxEventRepository.findAll().stream()
+				.filter(e -> e.getEventType().equals(type))
+				.map(OutboxEvent::getId)
+				.findFirst().orElseThrow();
+	}
+
+	private OutboxEvent find(Long id) {
+		return outboxEventRepository.findById(id).orElseThrow();
+	}
+
+	private void makeDue(Long id) {
+		OutboxEvent event = find(id);
+		event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+		outboxEventRepository.save(event);
+	}
+}
@@ -0,0 +1,106 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.CursorPage;
+import com.FeedEmGreens.HealthyAura.dto.ReviewResponse;
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.entity.Review;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.repository.EateryRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Statement counts are global to the session factory: keep the outbox relay from polling mid-test.
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"outbox.poll-interval-ms=3600000"
+})
+class ReviewReadPathTest {
+
+	@Autowired
+	private ReviewService reviewService;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private EateryRepository eateryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private Eatery eatery;
+	private final List<Users> users = new ArrayList<>();
+
+	@BeforeEach
+	void seedReviews() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		eatery = eateryRepository.save(new Eatery("Read Path Eatery", "", "", "1 Test Road", 123456L, 103.8, 1.3));
+		for (int u = 0; u < 3; u++) {
+			users.add(userRepository.save(new Users("readpath" + u, "readpath" + u + "@test.com", "secret")));
+		}
+
+		List<Review> reviews = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			Review review = new Review(eatery, users.get(i % 3), 1 + i % 5, 5 - i % 5);
+			review.setTextFeedback("Review " + i);
+			review.addPhoto("/photos/" + i + "-a.jpg");
+			review.addPhoto("/photos/" + i + "-b.jpg");
+			reviews.add(review);
+		}
+		reviewRepository.saveAll(reviews);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		reviewRepository.deleteAll(reviewRepository.findAll().stream()
+				.filter(r -> r.getEatery().getId().equals(eatery.getId())).toList());
+		eateryRepository.delete(eatery);
+		userRepository.deleteAll(users);
+	}
+
+	@Test
+	void feedPagesUseAFixedNumberOfStatements() {
+		statistics.clear();
+		CursorPage<ReviewResponse> first = reviewService.getReviewFeed(eatery.getId(), "RECENT", null, 20);
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(20, first.getContent().size());
+		assertTrue(first.isHasMore());
+		first.getContent().forEach(r -> assertEquals(2, r.getPhotos().size()));
+
+		statistics.clear();
+		CursorPage<ReviewResponse> second = reviewService.getReviewFeed(eatery.getId(), "HEALTH", null, 20);
+		second = reviewService.getReviewFeed(eatery.getId(), "HEALTH", second.getNextCursor(), 20);
+		assertEquals(6, statistics.getPrepareStatementCount());
+		assertEquals(10, second.getContent().size());
+		assertFalse(second.isHasMore());
+	}
+
+	@Test
+	void fullListingUsesAFixedNumberOfStatements() {
+		statistics.clear();
+		List<ReviewResponse> reviews = reviewService.getReviewsForEatery(eatery.getId(), "HYGIENE");
+
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(30, reviews.size());
+		assertEquals("Read Path Eatery", reviews.get(0).getEateryName());
+		assertEquals(5, reviews.get(0).getHygieneScore());
+		reviews.forEach(r -> assertEquals(2, r.getPhotos().size()));
+	}
+}
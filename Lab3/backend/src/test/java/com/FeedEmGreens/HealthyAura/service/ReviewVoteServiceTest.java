@@ -0,0 +1,236 @@
+package com.FeedEmGreens.HealthyAura.service;
+
+import com.FeedEmGreens.HealthyAura.dto.ReviewResponse;
+import com.FeedEmGreens.HealthyAura.entity.Eatery;
+import com.FeedEmGreens.HealthyAura.entity.Review;
+import com.FeedEmGreens.HealthyAura.entity.ReviewVote;
+import com.FeedEmGreens.HealthyAura.entity.Users;
+import com.FeedEmGreens.HealthyAura.repository.ReviewRepository;
+import com.FeedEmGreens.HealthyAura.repository.ReviewVoteRepository;
+import com.FeedEmGreens.HealthyAura.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class ReviewVoteServiceTest {
+
+	private static final long EATERY_ID = 10L;
+
+	private final ReviewVoteRepository reviewVoteRepository = mock(ReviewVoteRepository.class);
+	private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ReviewVoteService service = new ReviewVoteService();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "reviewVoteRepository", reviewVoteRepository);
+		ReflectionTestUtils.setField(service, "reviewRepository", reviewRepository);
+		ReflectionTestUtils.setField(service, "userRepository", userRepository);
+		ReflectionTestUtils.setField(service, "transactionManager", transactionManager);
+		// Flushes are triggered by the tests, not by the background thread.
+		ReflectionTestUtils.setField(service, "flushIntervalMs", 3_600_000L);
+		ReflectionTestUtils.setField(service, "batchSize", 500);
+		ReflectionTestUtils.setField(service, "maxTrackedUsers", 10_000);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+		Eatery eatery = new Eatery();
+		eatery.setId(EATERY_ID);
+		Users author = user(1L, "author");
+		for (long id = 100; id <= 101; id++) {
+			Review review = new Review(eatery, author, 4, 4);
+			review.setId(id);
+			when(reviewRepository.findById(id)).thenReturn(Optional.of(review));
+		}
+		user(2L, "alice");
+		user(3L, "bob");
+		user(4L, "carol");
+		service.start();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		service.shutdown();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void wilsonLowerBoundFavoursLargerSamples() {
+		assertEquals(0, ReviewVoteService.wilsonLowerBound(0, 0));
+		assertEquals(0, ReviewVoteService.wilsonLowerBound(0, 10));
+		assertEquals(0.2065, ReviewVoteService.wilsonLowerBound(1, 1), 1e-4);
+		assertEquals(0.3755, ReviewVoteService.wilsonLowerBound(4, 5), 1e-4);
+		assertEquals(0.6696, ReviewVoteService.wilsonLowerBound(40, 50), 1e-4);
+	}
+
+	@Test
+	void repeatedAndOwnVotesAreRejected() {
+		when(reviewVoteRepository.findReviewIdsByUserId(3L)).thenReturn(List.of(101L));
+
+		vote("alice", 100L, true);
+		assertThrows(IllegalArgumentException.class, () -> vote("alice", 100L, false));
+		assertThrows(IllegalArgumentException.class, () -> vote("bob", 101L, true));
+		assertThrows(IllegalArgumentException.class, () -> vote("author", 100L, true));
+
+		assertEquals(List.of(1, 0), pendingCounts(100L, 0, 0));
+		assertEquals(List.of(0, 0), pendingCounts(101L, 0, 0));
+	}
+
+	@Test
+	void flushAddsEachReviewsVotesOnce() {
+		vote("alice", 100L, true);
+		vote("bob", 100L, true);
+		vote("carol", 100L, false);
+		vote("alice", 101L, true);
+		assertEquals(List.of(7, 3), pendingCounts(100L, 5, 2));
+
+		when(reviewRepository.findVoteCounts(any())).thenReturn(List.of(
+				new Object[]{100L, 7, 3},
+				new Object[]{101L, 1, 0}));
+		service.flushAll();
+
+		verify(reviewVoteRepository).batchInsert(argThat(votes -> votes.size() == 4));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Long, int[]>> deltas = ArgumentCaptor.forClass(Map.class);
+		verify(reviewVoteRepository).addVoteCounts(deltas.capture());
+		assertArrayEquals(new int[]{2, 1}, deltas.getValue().get(100L));
+		assertArrayEquals(new int[]{1, 0}, deltas.getValue().get(101L));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<Long, Double>> scores = ArgumentCaptor.forClass(Map.class);
+		verify(reviewVoteRepository).updateHelpfulScores(scores.capture());
+		assertEquals(ReviewVoteService.wilsonLowerBound(7, 10), scores.getValue().get(100L));
+		assertEquals(ReviewVoteService.wilsonLowerBound(1, 1), scores.getValue().get(101L));
+
+		// Flushed votes are now part of the stored counts.
+		assertEquals(List.of(7, 3), pendingCounts(100L, 7, 3));
+	}
+
+	@Test
+	void votesAlreadyStoredAreDroppedAtFlush() {
+		vote("alice", 100L, true);
+		vote("bob", 100L, true);
+		List<Object[]> stored = new ArrayList<>();
+		stored.add(new Object[]{100L, 3L});
+		when(reviewVoteRepository.findExisting(any(), any())).thenReturn(stored);
+
+		service.flushAll();
+
+		verify(reviewVoteRepository).batchInsert(argThat(votes ->
+				votes.size() == 1 && votes.get(0).getUserId().equals(2L)));
+		assertEquals(List.of(0, 0), pendingCounts(100L, 0, 0));
+	}
+
+	@Test
+	void rejectedVoteIsDroppedWithoutBlockingTheRest() {
+		List<Long> inserted = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<ReviewVote> votes = invocation.getArgument(0);
+			if (votes.stream().anyMatch(v -> v.getUserId().equals(3L))) {
+				throw new DataIntegrityViolationException("rejected");
+			}
+			votes.forEach(v -> inserted.add(v.getUserId()));
+			return null;
+		}).when(reviewVoteRepository).batchInsert(anyList());
+
+		vote("alice", 100L, true);
+		vote("bob", 100L, true);
+		vote("carol", 100L, false);
+		vote("alice", 101L, false);
+		service.flushAll();
+
+		inserted.sort(null);
+		assertEquals(List.of(2L, 2L, 4L), inserted);
+		assertEquals(List.of(0, 0), pendingCounts(100L, 0, 0));
+		assertEquals(List.of(0, 0), pendingCounts(101L, 0, 0));
+	}
+
+	@Test
+	void unavailableDatabaseKeepsVotesQueued() {
+		when(transactionManager.getTransaction(any()))
+				.thenThrow(new CannotCreateTransactionException("database down"))
+				.thenReturn(new SimpleTransactionStatus());
+
+		vote("alice", 100L, true);
+		vote("bob", 100L, false);
+		service.flushAll();
+
+		verify(reviewVoteRepository, never()).batchInsert(anyList());
+		assertEquals(List.of(1, 1), pendingCounts(100L, 0, 0));
+
+		service.flushAll();
+
+		verify(reviewVoteRepository).batchInsert(argThat(votes -> votes.size() == 2));
+		assertEquals(List.of(0, 0), pendingCounts(100L, 0, 0));
+	}
+
+	@Test
+	void concurrentVotesAreCountedOnceDespiteConcurrentFlushes() throws Exception {
+		int voters = 400;
+		for (int i = 0; i < voters; i++) user(1000L + i, "voter" + i);
+		AtomicInteger inserted = new AtomicInteger();
+		doAnswer(invocation -> {
+			inserted.addAndGet(invocation.<List<ReviewVote>>getArgument(0).size());
+			return null;
+		}).when(reviewVoteRepository).batchInsert(anyList());
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> votes = new ArrayList<>();
+			for (int i = 0; i < voters; i++) {
+				String username = "voter" + i;
+				votes.add(pool.submit(() -> vote(username, 100L, true)));
+			}
+			while (!votes.stream().allMatch(Future::isDone)) service.flushAll();
+			for (Future<?> vote : votes) vote.get();
+		} finally {
+			pool.shutdown();
+		}
+
+		assertEquals(List.of(voters - inserted.get(), 0), pendingCounts(100L, 0, 0));
+		service.flushAll();
+		assertEquals(voters, inserted.get());
+		assertEquals(List.of(0, 0), pendingCounts(100L, 0, 0));
+	}
+
+	private Users user(long id, String username) {
+		Users user = new Users(username, username + "@test.com", "secret");
+		user.setId(id);
+		when(userRepository.findByUsername(username)).thenReturn(Optional.of(user));
+		return user;
+	}
+
+	private void vote(String username, Long reviewId, boolean helpful) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(username, null, List.of()));
+		service.vote(EATERY_ID, reviewId, helpful);
+	}
+
+	/** Returns a review's helpful and unhelpful counts as clients see them, given its stored counts. */
+	private List<Integer> pendingCounts(Long reviewId, int storedHelpful, int storedUnhelpful) {
+		ReviewResponse response = new ReviewResponse();
+		response.setId(reviewId);
+		response.setHelpfulVotes(storedHelpful);
+		response.setUnhelpfulVotes(storedUnhelpful);
+		service.applyPending(List.of(response));
+		return List.of(response.getHelpfulVotes(), response.getUnhelpfulVotes());
+	}
+}